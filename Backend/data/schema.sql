@@ -31,9 +31,28 @@ CREATE TABLE Food (
                       img_url LONGTEXT NULL COMMENT '음식 대표 이미지 URL', -- VARCHAR(512)에서 LONGTEXT로 변경
                       food_code VARCHAR(100) NULL COMMENT '음식 고유 코드',
                       create_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '정보 생성 일시',
-                      update_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '정보 수정 일시'
+                      update_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '정보 수정 일시',
+                      -- 커서(키셋) 목록 조회용: InnoDB 보조 인덱스는 PK(food_id)를 포함하므로 (정렬 컬럼, food_id) 순서로 바로 읽힘
+                      INDEX idx_food_name (name),
+                      INDEX idx_food_calories (calories),
+                      INDEX idx_food_protein (protein),
+                      INDEX idx_food_fat (fat),
+                      INDEX idx_food_sugar (sugar),
+                      INDEX idx_food_carbs (carbs),
+                      INDEX idx_food_create_at (create_at),
+                      -- NULL 허용 컬럼은 FoodSortOrder.KEYSET_EXPRESSIONS와 같은 식의 함수 인덱스 (MySQL 8.0.13+)
+                      INDEX idx_food_category_keyset ((IFNULL(category, ''))),
+                      INDEX idx_food_update_at_keyset ((IFNULL(update_at, create_at)))
 ) ENGINE=InnoDB COMMENT '음식 영양 정보';
 
+-- 기존 Food 테이블 변경 (커서 목록 조회의 정렬 필드 인덱스 추가)
+-- ALTER TABLE Food
+--     ADD INDEX idx_food_fat (fat),
+--     ADD INDEX idx_food_sugar (sugar),
+--     ADD INDEX idx_food_carbs (carbs),
+--     ADD INDEX idx_food_category_keyset ((IFNULL(category, ''))),
+--     ADD INDEX idx_food_update_at_keyset ((IFNULL(update_at, create_at)));
+
 -- 수정된 버전
 CREATE TABLE FoodRequest (
                              food_request_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '음식 요청 고유 PK ID',
@@ -66,7 +85,18 @@ CREATE TABLE MealLog (
                          meal_type ENUM('BREAKFAST', 'LUNCH', 'DINNER', 'SNACK') NOT NULL COMMENT '식사 종류',
                          quantity DECIMAL(10, 2) NOT NULL COMMENT '섭취량 (g 단위)',
                          img_url VARCHAR(512) NULL COMMENT '식단 사진 이미지 URL', -- 추가됨
+                         food_name VARCHAR(100) NULL COMMENT '기록 시점 음식 이름',
+                         calories DECIMAL(14, 4) NULL COMMENT '기록 시점 섭취 칼로리 (음식 칼로리 x 섭취량/100)',
+                         carbs DECIMAL(14, 4) NULL COMMENT '기록 시점 섭취 탄수화물',
+                         sugar DECIMAL(14, 4) NULL COMMENT '기록 시점 섭취 당류',
+                         protein DECIMAL(14, 4) NULL COMMENT '기록 시점 섭취 단백질',
+                         fat DECIMAL(14, 4) NULL COMMENT '기록 시점 섭취 지방',
+                         change_seq BIGINT NOT NULL DEFAULT 0 COMMENT '사용자별 변경 순번 (추가/수정 시 증가, 동기화용)',
                          create_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '기록 생성 일시',
+                         -- 변경분 동기화 조회용
+                         INDEX idx_meallog_user_seq (user_id, change_seq),
+                         -- 일별 조회 및 이력 키셋 조회용 (user_id, meal_date, log_id 순서로 정렬된 범위 스캔)
+                         INDEX idx_meallog_user_date_log (user_id, meal_date, log_id),
                          FOREIGN KEY (user_id) REFERENCES User(user_id)
                              ON DELETE CASCADE
                              ON UPDATE CASCADE,
@@ -75,6 +105,63 @@ CREATE TABLE MealLog (
                              ON UPDATE CASCADE
 ) ENGINE=InnoDB COMMENT '사용자 식사 기록';
 
+-- 기존 MealLog 테이블 변경 (섭취 영양소 스냅샷 컬럼 추가, 값은 MealLogSnapshotBackfillScheduler가 나누어 채움)
+-- ALTER TABLE MealLog
+--     ADD COLUMN food_name VARCHAR(100) NULL AFTER img_url,
+--     ADD COLUMN calories DECIMAL(14, 4) NULL AFTER food_name,
+--     ADD COLUMN carbs DECIMAL(14, 4) NULL AFTER calories,
+--     ADD COLUMN sugar DECIMAL(14, 4) NULL AFTER carbs,
+--     ADD COLUMN protein DECIMAL(14, 4) NULL AFTER sugar,
+--     ADD COLUMN fat DECIMAL(14, 4) NULL AFTER protein,
+--     ADD INDEX idx_meallog_user_date_log (user_id, meal_date, log_id);
+
+-- 기존 MealLog 테이블 변경 (변경분 동기화 순번, 기존 기록은 log_id를 순번으로 사용)
+-- ALTER TABLE MealLog
+--     ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0 AFTER fat,
+--     ADD INDEX idx_meallog_user_seq (user_id, change_seq);
+-- UPDATE MealLog SET change_seq = log_id;
+-- INSERT INTO MealLogSyncSeq (user_id, last_seq) SELECT user_id, MAX(log_id) FROM MealLog GROUP BY user_id;
+
+-- 사용자별 식사 기록 변경 순번 (행 잠금으로 같은 사용자의 변경은 커밋 순서대로 순번을 받음)
+CREATE TABLE MealLogSyncSeq (
+                         user_id BIGINT NOT NULL PRIMARY KEY COMMENT '사용자 ID (User 테이블 PK 참조)',
+                         last_seq BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 발급한 변경 순번',
+                         purged_seq BIGINT NOT NULL DEFAULT 0 COMMENT '정리된 삭제 기록 중 가장 큰 순번 (이보다 오래된 동기화 토큰은 전체 재동기화 필요)',
+                         FOREIGN KEY (user_id) REFERENCES User(user_id)
+                             ON DELETE CASCADE
+                             ON UPDATE CASCADE
+) ENGINE=InnoDB COMMENT '식사 기록 동기화 순번';
+
+-- 삭제된 식사 기록 (변경분 동기화 시 삭제 전달용, 일정 기간 후 정리)
+CREATE TABLE MealLogTombstone (
+                         log_id BIGINT NOT NULL PRIMARY KEY COMMENT '삭제된 식사 기록 ID',
+                         user_id BIGINT NOT NULL COMMENT '사용자 ID',
+                         meal_date DATE NOT NULL COMMENT '삭제된 기록의 식사 날짜',
+                         change_seq BIGINT NOT NULL COMMENT '삭제 시 발급된 변경 순번',
+                         deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '삭제 일시',
+                         INDEX idx_tombstone_user_seq (user_id, change_seq),
+                         INDEX idx_tombstone_deleted_at (deleted_at)
+) ENGINE=InnoDB COMMENT '삭제된 식사 기록';
+
+-- 사용자 일별 영양 합계 (MealLog 추가/수정/삭제 시 같은 트랜잭션에서 증감 반영)
+CREATE TABLE DailyNutritionSummary (
+                         user_id BIGINT NOT NULL COMMENT '사용자 ID (User 테이블 PK 참조)',
+                         meal_date DATE NOT NULL COMMENT '식사 날짜',
+                         total_calories DECIMAL(14, 4) NOT NULL DEFAULT 0 COMMENT '총 칼로리',
+                         total_carbs DECIMAL(14, 4) NOT NULL DEFAULT 0 COMMENT '총 탄수화물',
+                         total_sugar DECIMAL(14, 4) NOT NULL DEFAULT 0 COMMENT '총 당류',
+                         total_protein DECIMAL(14, 4) NOT NULL DEFAULT 0 COMMENT '총 단백질',
+                         total_fat DECIMAL(14, 4) NOT NULL DEFAULT 0 COMMENT '총 지방',
+                         log_count INT NOT NULL DEFAULT 0 COMMENT '해당 날짜 식사 기록 수',
+                         update_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 반영 일시',
+                         PRIMARY KEY (user_id, meal_date),
+                         FOREIGN KEY (user_id) REFERENCES User(user_id)
+                             ON DELETE CASCADE
+                             ON UPDATE CASCADE
+) ENGINE=InnoDB COMMENT '사용자 일별 영양 합계';
+
+-- 기존 MealLog 데이터 이관은 DailyNutritionSummaryBackfillScheduler가 애플리케이션 시작 후 user_id 구간 단위로 수행
+
 -- 커뮤니티 게시판 테이블
 CREATE TABLE Board (
                        board_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '게시글 고유 ID',
@@ -86,10 +173,23 @@ CREATE TABLE Board (
                        views INT DEFAULT 0 COMMENT '조회수',
                        likes_count INT DEFAULT 0 COMMENT '좋아요 수',
                        comments_count INT DEFAULT 0 COMMENT '댓글 수',
+                       preview_text VARCHAR(200) NULL COMMENT '목록 미리보기 텍스트 (첫 텍스트 블록 앞부분)',
+                       preview_image_url VARCHAR(512) NULL COMMENT '목록 미리보기 이미지 (첫 이미지 블록)',
                        CONSTRAINT fk_board_user_id FOREIGN KEY (user_id) REFERENCES User(user_id)
-                           ON DELETE CASCADE
+                           ON DELETE CASCADE,
+                       -- 목록(최신순, 카테고리별 최신순) 조회용
+                       INDEX idx_board_create_at (create_at),
+                       INDEX idx_board_category_create_at (category_id, create_at)
 ) ENGINE=InnoDB COMMENT '커뮤니티 게시판';
 
+-- 기존 Board 테이블 변경 (목록 미리보기 컬럼 추가)
+-- 기존 게시글 미리보기는 BoardPreviewBackfillScheduler가 애플리케이션 시작 후 board_id 구간 단위로 채움
+-- ALTER TABLE Board
+--     ADD COLUMN preview_text VARCHAR(200) NULL AFTER comments_count,
+--     ADD COLUMN preview_image_url VARCHAR(512) NULL AFTER preview_text,
+--     ADD INDEX idx_board_create_at (create_at),
+--     ADD INDEX idx_board_category_create_at (category_id, create_at);
+
 -- 게시글 콘텐츠 블록 테이블
 CREATE TABLE Block (
                        block_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '블록 고유 ID',
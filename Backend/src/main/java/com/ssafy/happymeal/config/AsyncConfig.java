@@ -0,0 +1,81 @@
+package com.ssafy.happymeal.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 음식 변경 이벤트 처리용 단일 스레드 풀
+     * 같은 음식의 수정/삭제가 연달아 커밋되어도 커밋 순서대로 반영되도록 스레드를 1개로 둡니다.
+     * 큐가 가득 차면 호출 스레드에서 직접 처리해 변경이 누락되지 않게 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor foodEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("food-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리용 단일 스레드 풀 (검색 색인 갱신)
+     * 음식 이벤트와 같은 이유로 스레드를 1개로 두어 커밋 순서대로 반영합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor boardEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("board-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Spring MVC 비동기 요청 처리용 스레드 풀 (StreamingResponseBody 내보내기 등)
+     * 위의 풀들을 직접 등록하면 Spring Boot가 기본 applicationTaskExecutor를 만들지 않아
+     * MVC가 요청마다 스레드를 새로 만드는 SimpleAsyncTaskExecutor로 대체되므로, 같은 이름으로 상한이 있는 풀을 등록합니다.
+     * 내보내기 한 건이 DB 커넥션 하나를 오래 잡고 있으므로 커넥션 풀(기본 10개)보다 작게 둡니다.
+     * 큐까지 가득 차면 요청을 거절(TaskRejectedException)해 커넥션 풀이 내보내기로 고갈되지 않게 합니다.
+     */
+    @Bean(name = "applicationTaskExecutor")
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 캐시 백그라운드 갱신용 스레드 풀 (stale-while-revalidate)
+     * 요청 스레드는 만료된 값을 바로 반환하고, 실제 재계산은 이 풀에서 수행합니다.
+     * 큐가 가득 차면 갱신을 건너뛰고(다음 요청에서 다시 시도) 요청 스레드를 막지 않습니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler((task, pool) -> { });
+        executor.initialize();
+        return executor;
+    }
+}
@@ -5,13 +5,18 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.happymeal.domain.food.cache.FoodCacheCodec;
+import com.ssafy.happymeal.domain.food.cache.FoodListRedisSerializer;
 import com.ssafy.happymeal.domain.food.entity.Food; // Food 엔티티/DTO 경로
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer; // 변경된 시리얼라이저
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import java.util.List;
 
@@ -44,7 +49,8 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, List<Food>> redisTemplateListFood(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) { // Spring 컨텍스트에서 ObjectMapper 빈 주입
+    public RedisTemplate<String, List<Food>> redisTemplateListFood(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper, // Spring 컨텍스트에서 ObjectMapper 빈 주입
+                                                                   @Value("${happymeal.cache.food-list.codec:deflate}") String foodListCodec) {
         RedisTemplate<String, List<Food>> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -56,7 +62,9 @@ public class RedisConfig {
         // 우리가 설정한 JavaTimeModule 등이 포함된 ObjectMapper가 확실하게 사용됩니다.
         GenericJackson2JsonRedisSerializer genericJackson2JsonRedisSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
 
-        template.setValueSerializer(genericJackson2JsonRedisSerializer);
+        // 값은 바이너리 직렬화기로 저장 (타입 메타데이터/필드명 없음, 큰 값은 설정된 방식으로 압축 - none/deflate)
+        // 배포 전 JSON으로 저장된 값은 같은 ObjectMapper로 List<Food>로 읽을 수 있도록 fallback 지정
+        template.setValueSerializer(new FoodListRedisSerializer(objectMapper, FoodCacheCodec.from(foodListCodec)));
 
         // 해시 키/값 직렬화 방식도 동일하게 설정
         template.setHashKeySerializer(new StringRedisSerializer());
@@ -65,4 +73,28 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * 음식 단건 캐시(food:{foodId})용 템플릿
+     * 값 타입이 Food 하나로 고정이므로 타입 메타데이터(@class)를 넣지 않는 Jackson2JsonRedisSerializer를 사용합니다.
+     */
+    @Bean
+    public RedisTemplate<String, Food> redisTemplateFood(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        RedisTemplate<String, Food> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, Food.class));
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * Redis pub/sub 구독 컨테이너 (인스턴스 간 로컬 캐시 무효화 메시지 수신)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
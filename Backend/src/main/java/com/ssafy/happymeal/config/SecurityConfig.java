@@ -6,6 +6,7 @@ import com.ssafy.happymeal.security.jwt.JwtAccessDeniedHandler;
 import com.ssafy.happymeal.security.jwt.JwtAuthenticationEntryPoint;
 import com.ssafy.happymeal.domain.user.service.CustomOAuth2UserService;
 import com.ssafy.happymeal.security.jwt.OAuth2LoginSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -49,6 +50,9 @@ public class SecurityConfig {
 
                 // 3. 인가(Authorization) 규칙 설정
                 .authorizeHttpRequests(authorize -> authorize
+                        // 스트리밍 응답(StreamingResponseBody) 완료 후의 비동기 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 명세서 기반 경로별 접근 권한 설정
                         .requestMatchers(
                                 "/", // 루트
@@ -58,12 +62,19 @@ public class SecurityConfig {
                                 "/api/auth/**", // 인증 관련 API (로그인 시작, 콜백 등)
                                 "/api/foods", // 음식 검색 (GET) - 명세상 모든 사용자 접근 가능
                                 "/api/foods/{foodId}", // 음식 상세 조회 (GET) - 명세상 모든 사용자 접근 가능
+                                "/api/foods/filter", // 영양소 범위 검색 (GET)
+                                "/api/foods/suggest", // 음식 이름 자동완성 (GET)
+                                "/api/foods/scroll", // 커서 기반 음식 목록 (GET)
+                                "/api/foods/*/similar", // 비슷한 음식 조회 (GET)
                                 "/api/boards/**", // 게시판 목록 조회 (GET)
                                 "/api/boards/{boardId}" // 게시판 상세 조회 (GET)
                                 // 필요시 h2-console 접근 허용 (개발용)
                                 // , "/h2-console/**"
                         ).permitAll() // 위 경로는 인증 없이 접근 허용
 
+                        .requestMatchers("/api/foods/recommendations/personal") // 사용자 맞춤 음식 추천 (로그인 사용자)
+                        .hasAnyRole("USER", "ADMIN")
+
                         .requestMatchers("/api/admin/**", "/api/foods/**") // 관리자 기능 및 음식 정보 관리(추가/수정/삭제)
                         .hasRole("ADMIN") // ADMIN 역할 필요
 
@@ -2,6 +2,8 @@ package com.ssafy.happymeal.domain.admin.controller;
 
 import com.ssafy.happymeal.domain.food.entity.Food; // Food DTO로 사용
 import com.ssafy.happymeal.domain.food.service.FoodService;
+import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsCacheMetricsDto;
+import com.ssafy.happymeal.domain.meallog.service.MealLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -17,6 +19,7 @@ import java.util.List;
 public class AdminController {
 
     private final FoodService foodService; // FoodService 인터페이스 타입으로 주입
+    private final MealLogService mealLogService;
 
     /**
      * 음식 정보 추가
@@ -61,4 +64,14 @@ public class AdminController {
         log.info("음식 정보 삭제 완료: foodId={}", foodId);
         return ResponseEntity.noContent().build(); // 204 No Content
     }
+
+    /**
+     * 식단 통계 캐시 적중 현황 (현재 인스턴스 기동 이후 누적)
+     * GET /api/admin/cache/meallog-stats
+     * 접근 권한: Admin
+     */
+    @GetMapping("/cache/meallog-stats")
+    public ResponseEntity<MealLogStatsCacheMetricsDto> getMealLogStatsCacheMetrics() {
+        return ResponseEntity.ok(mealLogService.getStatsCacheMetrics());
+    }
 }
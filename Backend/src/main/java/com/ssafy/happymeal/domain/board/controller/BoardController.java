@@ -6,6 +6,7 @@ import com.ssafy.happymeal.domain.comment.entity.Comment;
 import com.ssafy.happymeal.domain.commonDto.PageResponse;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -62,6 +63,27 @@ public class BoardController {
         return ResponseEntity.ok(response);
     }
 
+    /* 게시글 검색 (제목 + 본문, 관련도순)
+    * GET api/boards/search?q={검색어}&page={}&size={}
+    *  접근 권한: ALL */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<BoardResponseDto>> searchBoards(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<BoardResponseDto> boardPage = boardService.searchBoards(q, page, size);
+
+        PageResponse<BoardResponseDto> response = new PageResponse<>(
+                boardPage.getContent(),
+                boardPage.getNumber(),
+                boardPage.getSize(),
+                boardPage.getTotalElements()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     /* 게시글 검색 ("제목"으로 검색)
     * GET api/boards/search/title?title={제목}
     *  접근 권한: ALL */
@@ -152,7 +174,8 @@ public class BoardController {
     public ResponseEntity<BoardDetailResponseDto> getBoardDetail(
             @PathVariable Long boardId,
             @Parameter(hidden = true)
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) {
 
         Long currentUserId = null;
         if (userDetails != null && userDetails.getUsername() != null) {
@@ -164,7 +187,9 @@ public class BoardController {
         }
         log.info("게시글 상세 조회 요청 수신 - boardId: {}, 요청자 userId (있다면): {}", boardId, currentUserId);
 
-        BoardDetailResponseDto boardDetailResponse = boardService.getBoardDetailById(boardId);
+        // 조회수 중복 집계 방지용 조회자 식별값 (로그인 사용자는 ID, 비로그인은 IP)
+        String viewerKey = currentUserId != null ? "u:" + currentUserId : "ip:" + request.getRemoteAddr();
+        BoardDetailResponseDto boardDetailResponse = boardService.getBoardDetailById(boardId, viewerKey);
         //log.info("게시글 상세 조회 완료 - boardId: {}", boardDetailResponse.getBoardId());
 
         return ResponseEntity.ok(boardDetailResponse);
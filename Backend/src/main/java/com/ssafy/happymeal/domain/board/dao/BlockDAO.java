@@ -17,6 +17,11 @@ public interface BlockDAO {
             "FROM Block WHERE board_id = #{boardId} ORDER BY order_index ASC")
     List<Block> findBlocksByBoardId(Long boardId);
 
+    // 전체 텍스트 블록 (검색 색인 적재용, 게시글/순서별 정렬)
+    @Select("SELECT board_id, order_index, content_text FROM Block " +
+            "WHERE block_type = 'text' AND content_text IS NOT NULL ORDER BY board_id, order_index")
+    List<Block> findAllTextBlocks();
+
     @Delete("DELETE FROM Block WHERE board_id = #{boardId}")
     int deleteBlocksByBoardId(@Param("boardId") Long boardId);
 }
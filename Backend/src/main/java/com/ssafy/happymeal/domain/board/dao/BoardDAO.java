@@ -5,7 +5,10 @@ import com.ssafy.happymeal.domain.board.entity.Board;
 import com.ssafy.happymeal.domain.comment.entity.Comment;
 import org.apache.ibatis.annotations.*;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
@@ -25,16 +28,8 @@ public interface BoardDAO {
                 b.views as views,
                 b.likes_count as likes_count,
                 b.comments_count as commentsCount,
-                (SELECT blk.content_text 
-                From Block blk 
-                Where blk.board_id = b.board_id And blk.block_type="text" 
-                Order by order_index 
-                Limit 1) as content, 
-                (SELECT blk.image_url 
-                From Block blk 
-                Where blk.board_id = b.board_id And blk.block_type="image" 
-                Order by order_index 
-                Limit 1) as imageUrl 
+                b.preview_text as content,
+                b.preview_image_url as imageUrl
             FROM
                 Board b
             INNER JOIN
@@ -73,6 +68,76 @@ public interface BoardDAO {
             """)
     long countBoardsByCategory(BoardCategoryCriteria criteria);
 
+    // 게시글 ID 목록으로 목록용 정보 조회 (인기순 랭킹에서 받은 ID 구간, 순서는 호출 측에서 맞춤)
+    @Select("""
+            <script>
+            SELECT
+                b.board_id as boardId,
+                b.user_id as userId,
+                u.nickname as nickName,
+                b.category_id as categoryId,
+                b.title as title,
+                b.create_at as createAt,
+                b.update_at as updateAt,
+                b.views as views,
+                b.likes_count as likes_count,
+                b.comments_count as commentsCount,
+                b.preview_text as content,
+                b.preview_image_url as imageUrl
+            FROM
+                Board b
+            INNER JOIN
+                User u ON b.user_id = u.user_id
+            WHERE b.board_id IN
+            <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">#{boardId}</foreach>
+            </script>
+            """)
+    List<BoardResponseDto> findBoardsByIds(@Param("boardIds") List<Long> boardIds);
+
+    // 인기순 랭킹에 없는 게시글을 최신순으로 조회 (랭킹 구간을 다 본 뒤 이어서 보여 줄 목록)
+    @Select("""
+            <script>
+            SELECT
+                b.board_id as boardId,
+                b.user_id as userId,
+                u.nickname as nickName,
+                b.category_id as categoryId,
+                b.title as title,
+                b.create_at as createAt,
+                b.update_at as updateAt,
+                b.views as views,
+                b.likes_count as likes_count,
+                b.comments_count as commentsCount,
+                b.preview_text as content,
+                b.preview_image_url as imageUrl
+            FROM
+                Board b
+            INNER JOIN
+                User u ON b.user_id = u.user_id
+            <where>
+                <if test="categoryId != null">
+                    AND b.category_id = #{categoryId}
+                </if>
+                <if test="excludedIds != null and !excludedIds.isEmpty()">
+                    AND b.board_id NOT IN
+                    <foreach collection="excludedIds" item="boardId" open="(" separator="," close=")">#{boardId}</foreach>
+                </if>
+            </where>
+            ORDER BY b.create_at DESC
+            LIMIT #{limit} OFFSET #{offset}
+            </script>
+            """)
+    List<BoardResponseDto> findBoardsNotIn(@Param("categoryId") Long categoryId, @Param("excludedIds") Collection<Long> excludedIds,
+                                           @Param("offset") long offset, @Param("limit") int limit);
+
+    // 전체 게시글 ID와 제목 (검색 색인 적재용)
+    @Select("SELECT board_id, title FROM Board")
+    List<Board> findAllTitles();
+
+    // 특정 시각 이후 작성된 게시글 (인기순 랭킹 재구성용)
+    @Select("SELECT " + BASE_BOARD_COLUMNS + " FROM Board WHERE create_at >= #{since}")
+    List<Board> findBoardsCreatedSince(@Param("since") LocalDateTime since);
+
     // 게시글 전체 조회
     @Select("Select " +
             "b.board_id as boardId, " +
@@ -104,16 +169,8 @@ public interface BoardDAO {
                 b.views as views,
                 b.likes_count as likes_count,
                 b.comments_count as commentsCount,
-                (SELECT blk.content_text 
-                From Block blk 
-                Where blk.board_id = b.board_id And blk.block_type="text" 
-                Order by order_index 
-                Limit 1) as content, 
-                (SELECT blk.image_url 
-                From Block blk 
-                Where blk.board_id = b.board_id And blk.block_type="image" 
-                Order by order_index 
-                Limit 1) as imageUrl
+                b.preview_text as content,
+                b.preview_image_url as imageUrl
             FROM
                 Board b
             INNER JOIN
@@ -167,16 +224,8 @@ public interface BoardDAO {
                 b.views as views,
                 b.likes_count as likes_count,
                 b.comments_count as commentsCount,
-                (SELECT blk.content_text 
-                From Block blk 
-                Where blk.board_id = b.board_id And blk.block_type="text" 
-                Order by order_index 
-                Limit 1) as content, 
-                (SELECT blk.image_url 
-                From Block blk 
-                Where blk.board_id = b.board_id And blk.block_type="image" 
-                Order by order_index 
-                Limit 1) as imageUrl
+                b.preview_text as content,
+                b.preview_image_url as imageUrl
             FROM
                 Board b
             INNER JOIN
@@ -217,7 +266,7 @@ public interface BoardDAO {
             """)
     long countBoardsByAuthor(BoardAuthorSearchCriteria criteria);
 
-    String BASE_BOARD_COLUMNS = "board_id, user_id, category_id, title, create_at, update_at, views, likes_count, comments_count";
+    String BASE_BOARD_COLUMNS = "board_id, user_id, category_id, title, create_at, update_at, views, likes_count, comments_count, preview_text, preview_image_url";
 
     // DB 스키마의 create_at, update_at 컬럼명 사용
     @Insert("INSERT INTO Board (user_id, category_id, title, create_at, update_at, views, likes_count, comments_count) " +
@@ -228,13 +277,48 @@ public interface BoardDAO {
     @Select("SELECT " + BASE_BOARD_COLUMNS + " FROM Board WHERE board_id = #{boardId}")
     Optional<Board> findBoardById(Long boardId);
 
-    @Update("UPDATE Board SET views = views + 1 WHERE board_id = #{boardId}")
-    int incrementViewCount(@Param("boardId") Long boardId);
+    // 누적된 조회수 일괄 반영 (게시글 ID -> 증가분)
+    @Update("<script>" +
+            "UPDATE Board SET views = views + CASE board_id " +
+            "<foreach collection='deltas' index='boardId' item='delta'>WHEN #{boardId} THEN #{delta} </foreach>" +
+            "ELSE 0 END " +
+            "WHERE board_id IN " +
+            "<foreach collection='deltas' index='boardId' item='delta' open='(' separator=',' close=')'>#{boardId}</foreach>" +
+            "</script>")
+    int addViewCounts(@Param("deltas") Map<Long, Long> deltas);
 
     // 게시글 수정
     @Update("UPDATE Board SET title = #{title}, category_id = #{categoryId}, update_at = NOW() WHERE board_id = #{boardId}")
     int updateBoard(Board board);
 
+    // 목록 미리보기(첫 텍스트 블록 앞부분, 첫 이미지) 갱신 - 블록 저장 후 같은 트랜잭션에서 호출
+    @Update("UPDATE Board SET preview_text = #{previewText}, preview_image_url = #{previewImageUrl} WHERE board_id = #{boardId}")
+    int updatePreview(@Param("boardId") Long boardId, @Param("previewText") String previewText, @Param("previewImageUrl") String previewImageUrl);
+
+    // 미리보기가 비어 있지만 미리보기로 쓸 블록이 있는 가장 큰 board_id (없으면 0, 이관 배치용)
+    @Select("""
+            SELECT COALESCE(MAX(b.board_id), 0) FROM Board b
+            WHERE b.preview_text IS NULL AND b.preview_image_url IS NULL
+              AND EXISTS (SELECT 1 FROM Block blk WHERE blk.board_id = b.board_id
+                          AND ((blk.block_type = 'text' AND blk.content_text IS NOT NULL)
+                               OR (blk.block_type = 'image' AND blk.image_url IS NOT NULL)))
+            """)
+    long findMaxBoardIdWithoutPreview();
+
+    // board_id 구간(fromId 초과 ~ toId 이하)에서 미리보기가 비어 있는 게시글을 블록으로 채움 (이관 배치용, Board.applyPreview와 같은 규칙)
+    @Update("""
+            UPDATE Board b SET
+                preview_text = (SELECT LEFT(TRIM(blk.content_text), #{previewLength}) FROM Block blk
+                                WHERE blk.board_id = b.board_id AND blk.block_type = 'text' AND blk.content_text IS NOT NULL
+                                ORDER BY blk.order_index LIMIT 1),
+                preview_image_url = (SELECT blk.image_url FROM Block blk
+                                     WHERE blk.board_id = b.board_id AND blk.block_type = 'image' AND blk.image_url IS NOT NULL
+                                     ORDER BY blk.order_index LIMIT 1)
+            WHERE b.board_id > #{fromId} AND b.board_id <= #{toId}
+              AND b.preview_text IS NULL AND b.preview_image_url IS NULL
+            """)
+    int backfillPreview(@Param("fromId") long fromId, @Param("toId") long toId, @Param("previewLength") int previewLength);
+
     // 게시글 삭제
     @Delete("DELETE FROM Board WHERE board_id = #{boardId}")
     int deleteBoard(Long boardId);
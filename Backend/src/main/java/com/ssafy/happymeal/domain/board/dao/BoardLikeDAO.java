@@ -3,30 +3,49 @@ package com.ssafy.happymeal.domain.board.dao;
 import com.ssafy.happymeal.domain.board.entity.BoardLike;
 import org.apache.ibatis.annotations.*;
 import com.ssafy.happymeal.domain.board.dto.BoardResponseDto;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface BoardLikeDAO {
     
-    @Insert("INSERT INTO BoardLike (user_id, board_id, create_at) VALUES (#{userId}, #{boardId}, NOW())")
-    int saveLike(BoardLike boardLike);
+    // 게시글의 좋아요 사용자 목록 (Redis 좋아요 집합 생성용)
+    @Select("SELECT user_id FROM BoardLike WHERE board_id = #{boardId}")
+    List<Long> findUserIdsByBoardId(@Param("boardId") Long boardId);
 
-    @Update("update Board set likes_count=likes_count+1 where board_id = #{boardId}")
-    void updateLikeCount(BoardLike boardLike);
+    // 좋아요 일괄 추가 (이미 있거나 삭제된 게시글이면 무시)
+    @Insert("<script>" +
+            "INSERT IGNORE INTO BoardLike (user_id, board_id, create_at) VALUES " +
+            "<foreach collection='likes' item='like' separator=','>(#{like.userId}, #{like.boardId}, NOW())</foreach>" +
+            "</script>")
+    int insertLikes(@Param("likes") List<BoardLike> likes);
 
-    @Delete("DELETE FROM BoardLike WHERE user_id = #{userId} AND board_id = #{boardId}")
-    int deleteLike(@Param("userId") Long userId, @Param("boardId") Long boardId);
+    // 좋아요 일괄 삭제
+    @Delete("<script>" +
+            "DELETE FROM BoardLike WHERE (user_id, board_id) IN " +
+            "<foreach collection='likes' item='like' open='(' separator=',' close=')'>(#{like.userId}, #{like.boardId})</foreach>" +
+            "</script>")
+    int deleteLikes(@Param("likes") List<BoardLike> likes);
 
-    @Update("update Board set likes_count=likes_count-1 where board_id = #{boardId}")
-    void updateLikeCount2(@Param("boardId") Long boardId);
+    // 지정한 게시글들의 likes_count를 BoardLike 행 수로 다시 계산
+    @Update("<script>" +
+            "UPDATE Board b SET b.likes_count = (SELECT COUNT(*) FROM BoardLike bl WHERE bl.board_id = b.board_id) " +
+            "WHERE b.board_id IN " +
+            "<foreach collection='boardIds' item='boardId' open='(' separator=',' close=')'>#{boardId}</foreach>" +
+            "</script>")
+    int recountLikes(@Param("boardIds") Collection<Long> boardIds);
+
+    // board_id 구간(fromId 초과 ~ toId 이하)에서 likes_count가 실제 좋아요 수와 다른 게시글만 바로잡음
+    @Update("UPDATE Board b " +
+            "LEFT JOIN (SELECT board_id, COUNT(*) AS cnt FROM BoardLike " +
+            "           WHERE board_id > #{fromId} AND board_id <= #{toId} GROUP BY board_id) c ON c.board_id = b.board_id " +
+            "SET b.likes_count = COALESCE(c.cnt, 0) " +
+            "WHERE b.board_id > #{fromId} AND b.board_id <= #{toId} AND b.likes_count <> COALESCE(c.cnt, 0)")
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Select("SELECT COALESCE(MAX(board_id), 0) FROM Board")
+    long findMaxBoardId();
 
-    
-    @Select("SELECT * FROM BoardLike WHERE user_id = #{userId} AND board_id = #{boardId}")
-    BoardLike findByUserIdAndBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
-    
-    @Select("SELECT COUNT(*) FROM BoardLike WHERE user_id = #{userId} AND board_id = #{boardId}")
-    int existsByUserIdAndBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
-    
     @Select("""
             SELECT b.* FROM Board b
             INNER JOIN BoardLike bl ON b.board_id = bl.board_id
@@ -3,6 +3,8 @@ package com.ssafy.happymeal.domain.board.entity;
 import lombok.*;
 
 import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
 
 @Getter
 @Setter
@@ -19,4 +21,38 @@ public class Board {
     private int views; // 조회수
     private int likesCount; // 좋아요 수
     private int commentsCount; // 댓글 수
+    private String previewText; // 목록 미리보기 텍스트
+    private String previewImageUrl; // 목록 미리보기 이미지
+
+    public static final int PREVIEW_TEXT_LENGTH = 150; // 미리보기 텍스트 최대 글자 수
+
+    /**
+     * 블록 목록에서 목록용 미리보기(첫 텍스트 블록 앞부분, 첫 이미지 블록 URL)를 계산해 채웁니다.
+     * 블록은 order_index 순으로 판단하며, 해당 블록이 없으면 null로 둡니다.
+     */
+    public void applyPreview(List<Block> blocks) {
+        this.previewText = null;
+        this.previewImageUrl = null;
+        if (blocks == null) {
+            return;
+        }
+        List<Block> ordered = blocks.stream()
+                .sorted(Comparator.comparing(Block::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        for (Block block : ordered) {
+            if (previewText == null && "text".equalsIgnoreCase(block.getBlockType()) && block.getContentText() != null) {
+                previewText = truncate(block.getContentText().strip(), PREVIEW_TEXT_LENGTH);
+            } else if (previewImageUrl == null && "image".equalsIgnoreCase(block.getBlockType()) && block.getImageUrl() != null) {
+                previewImageUrl = block.getImageUrl();
+            }
+        }
+    }
+
+    // 서로게이트 쌍(이모지 등)이 잘리지 않도록 코드 포인트 기준으로 자름
+    private static String truncate(String text, int maxLength) {
+        if (text.codePointCount(0, text.length()) <= maxLength) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, maxLength));
+    }
 }
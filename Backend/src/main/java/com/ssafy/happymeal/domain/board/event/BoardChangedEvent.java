@@ -0,0 +1,19 @@
+package com.ssafy.happymeal.domain.board.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 작성/수정/삭제/댓글 작성 도메인 이벤트
+ * 트랜잭션 커밋 후 BoardChangedEventListener가 검색 색인과 Redis 상태(인기 랭킹, 좋아요 집합)를 해당 게시글 기준으로만 갱신합니다.
+ * (트랜잭션 안에서 Redis를 바꾸면 롤백 시 되돌릴 수 없으므로 커밋 이후에만 반영)
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoardChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, COMMENTED }
+
+    private final Long boardId;
+    private final Type type;
+}
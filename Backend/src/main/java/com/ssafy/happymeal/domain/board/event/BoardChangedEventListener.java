@@ -0,0 +1,123 @@
+package com.ssafy.happymeal.domain.board.event;
+
+import com.ssafy.happymeal.domain.board.dao.BoardDAO;
+import com.ssafy.happymeal.domain.board.entity.Board;
+import com.ssafy.happymeal.domain.board.hot.BoardHotRanking;
+import com.ssafy.happymeal.domain.board.index.BoardSearchIndex;
+import com.ssafy.happymeal.domain.board.like.BoardLikeStore;
+import com.ssafy.happymeal.util.CacheConstants;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 게시글 변경 이벤트 처리 (트랜잭션 커밋 후, 백그라운드 단일 스레드에서 순서대로 실행)
+ * 1. Redis 공유 상태를 DB의 현재 상태로 반영 (작성: 인기 랭킹 기록, 수정: 랭킹 카테고리 이동, 삭제: 좋아요 집합/랭킹 제거, 댓글: 인기 점수)
+ * 2. 검색 색인에 해당 게시글만 DB의 현재 상태로 반영
+ * 3. Redis pub/sub으로 다른 인스턴스에 알려 각자의 색인도 갱신하게 함 (Redis 상태는 공유되므로 보낸 쪽에서만 반영)
+ * 댓글 이벤트는 제목/본문이 바뀌지 않으므로 1만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardChangedEventListener implements MessageListener {
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString(); // 자신이 보낸 메시지 구분용
+
+    private final BoardDAO boardDAO;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardLikeStore boardLikeStore;
+    private final BoardHotRanking boardHotRanking;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ThreadPoolTaskExecutor boardEventExecutor;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CacheConstants.BOARD_CHANGED_CHANNEL));
+    }
+
+    @Async("boardEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        Long boardId = event.getBoardId();
+        log.debug("게시글 변경 이벤트 처리: boardId={}, type={}", boardId, event.getType());
+
+        syncRedisState(boardId, event.getType());
+        if (event.getType() == BoardChangedEvent.Type.COMMENTED) {
+            return;
+        }
+
+        try {
+            boardSearchIndex.sync(boardId);
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 갱신 실패 (boardId: {}), 야간 전체 재적재에서 반영됩니다.", boardId, e);
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(CacheConstants.BOARD_CHANGED_CHANNEL, INSTANCE_ID + ":" + boardId);
+        } catch (Exception e) {
+            // 다른 인스턴스는 야간 스케줄러의 전체 재적재에서 따라잡음
+            log.error("게시글 변경 브로드캐스트 실패 (boardId: {})", boardId, e);
+        }
+    }
+
+    // 이벤트 종류보다 DB의 현재 상태를 우선 (작성 직후 삭제된 게시글이 랭킹에 다시 들어가지 않도록)
+    private void syncRedisState(Long boardId, BoardChangedEvent.Type type) {
+        try {
+            Optional<Board> board = boardDAO.findBoardById(boardId);
+            if (board.isEmpty()) {
+                boardLikeStore.evict(boardId);
+                boardHotRanking.remove(boardId);
+                return;
+            }
+            Integer categoryId = board.get().getCategoryId();
+            switch (type) {
+                case CREATED -> boardHotRanking.recordCreated(boardId, categoryId);
+                case UPDATED -> boardHotRanking.syncCategory(boardId, categoryId);
+                case COMMENTED -> boardHotRanking.recordComment(boardId, categoryId);
+                default -> { }
+            }
+        } catch (Exception e) {
+            log.error("게시글 Redis 상태 반영 실패 (boardId: {}, type: {})", boardId, type, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발생한 변경 수신 -> 색인만 갱신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(INSTANCE_ID)) {
+            return;
+        }
+        try {
+            Long boardId = Long.parseLong(body.substring(separator + 1));
+            boardEventExecutor.execute(() -> {
+                try {
+                    boardSearchIndex.sync(boardId);
+                } catch (Exception e) {
+                    log.error("게시글 검색 색인 갱신 실패 (boardId: {})", boardId, e);
+                }
+            });
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게시글 변경 메시지 무시: {}", body);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.ssafy.happymeal.domain.board.hot;
+
+import com.ssafy.happymeal.domain.board.entity.Board;
+import com.ssafy.happymeal.util.CacheConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 인기순(hot) 랭킹 - Redis ZSET (전체 + 카테고리별)
+ * - 점수 = log2( Σ 가중치 * 2^((이벤트 시각 - EPOCH) / HALF_LIFE) )
+ *   모든 게시글이 같은 비율로 감쇠한다고 보면 순서는 "반감기 HALF_LIFE로 감쇠한 가중 반응 합"과 같고,
+ *   로그 공간에 두었으므로 재계산 없이 이벤트마다 더하기만 하면 되며 값이 넘치지도 않습니다.
+ * - 이벤트(작성, 고유 조회, 좋아요, 댓글)가 들어올 때마다 Lua 스크립트로 점수를 원자적으로 갱신하고, 집합은 상위 MAX_SIZE개로 유지합니다.
+ * 랭킹은 목록 정렬용 보조 데이터이므로, Redis 오류는 기록만 하고 요청 처리에는 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardHotRanking {
+
+    private static final long EPOCH_SECONDS = 1_735_689_600L; // 2025-01-01T00:00:00Z
+    private static final double HALF_LIFE_SECONDS = 24 * 3600.0; // 하루가 지나면 같은 반응의 가치가 절반
+    private static final int MAX_SIZE = 2000; // 집합마다 유지하는 상위 게시글 수
+    private static final long LIKED_TTL_SECONDS = 7 * 24 * 3600L; // 좋아요 점수 반영 사용자 기록 유지 기간 (이후 같은 사용자의 좋아요는 새 반응으로 봄)
+
+    public static final double WEIGHT_CREATE = 10; // 새 글이 바로 노출되도록 주는 기본 점수
+    public static final double WEIGHT_VIEW = 1;
+    public static final double WEIGHT_LIKE = 4;
+    public static final double WEIGHT_COMMENT = 6;
+
+    // 로그 공간 덧셈: log2(2^a + 2^b) = max + log2(1 + 2^(min - max)), 이후 하위 게시글 정리
+    private static final RedisScript<Long> ADD_SCORE = new DefaultRedisScript<>(
+            "local inc = tonumber(ARGV[2]) " +
+            "for i = 1, #KEYS do " +
+            "  local score = inc " +
+            "  local cur = redis.call('zscore', KEYS[i], ARGV[1]) " +
+            "  if cur then " +
+            "    cur = tonumber(cur) " +
+            "    local hi, lo = math.max(cur, inc), math.min(cur, inc) " +
+            "    score = hi + math.log(1 + 2 ^ (lo - hi)) / math.log(2) " +
+            "  end " +
+            "  redis.call('zadd', KEYS[i], score, ARGV[1]) " +
+            "  redis.call('zremrangebyrank', KEYS[i], 0, -(tonumber(ARGV[3]) + 1)) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // 좋아요 점수를 처음 반영하는 사용자인지 기록 -> 1 = 처음, 0 = 이미 반영 (만료 시간은 집합이 처음 생길 때만 설정)
+    private static final RedisScript<Long> MARK_LIKED = new DefaultRedisScript<>(
+            "local added = redis.call('sadd', KEYS[1], ARGV[1]) " +
+            "if redis.call('ttl', KEYS[1]) < 0 then redis.call('expire', KEYS[1], ARGV[2]) end " +
+            "return added",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void recordCreated(Long boardId, Integer categoryId) {
+        try {
+            stringRedisTemplate.opsForHash().put(CacheConstants.BOARD_HOT_CATEGORIES_KEY,
+                    String.valueOf(boardId), String.valueOf(categoryId));
+        } catch (Exception e) {
+            log.error("게시글 인기 랭킹 카테고리 기록 중 Redis 오류 (boardId: {})", boardId, e);
+        }
+        record(boardId, categoryId, WEIGHT_CREATE);
+    }
+
+    public void recordView(Long boardId, Integer categoryId) {
+        record(boardId, categoryId, WEIGHT_VIEW);
+    }
+
+    /**
+     * 좋아요 점수 반영 - 같은 사용자의 좋아요/취소 반복으로 점수가 계속 오르지 않도록 (게시글, 사용자)당 한 번만 더함
+     * 카테고리는 랭킹에 기록된 값을 사용합니다.
+     */
+    public void recordLike(Long boardId, Long userId) {
+        try {
+            Long first = stringRedisTemplate.execute(MARK_LIKED,
+                    Collections.singletonList(likedKey(boardId)), String.valueOf(userId), String.valueOf(LIKED_TTL_SECONDS));
+            if (first == null || first == 0) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("게시글 좋아요 점수 반영 여부 확인 중 Redis 오류 (boardId: {})", boardId, e);
+            return;
+        }
+        record(boardId, null, WEIGHT_LIKE);
+    }
+
+    public void recordComment(Long boardId, Integer categoryId) {
+        record(boardId, categoryId, WEIGHT_COMMENT);
+    }
+
+    /**
+     * 랭킹에 기록된 카테고리가 현재 카테고리와 다르면 카테고리별 랭킹 이동 (전체 랭킹 점수를 그대로 사용)
+     * 랭킹에 없는 게시글은 옮길 점수가 없으므로 무시합니다.
+     */
+    public void syncCategory(Long boardId, Integer categoryId) {
+        try {
+            String member = String.valueOf(boardId);
+            String recorded = (String) stringRedisTemplate.opsForHash().get(CacheConstants.BOARD_HOT_CATEGORIES_KEY, member);
+            if (recorded == null || recorded.equals(String.valueOf(categoryId))) {
+                return;
+            }
+            stringRedisTemplate.opsForZSet().remove(CacheConstants.BOARD_HOT_CATEGORY_KEY_PREFIX + recorded, member);
+            stringRedisTemplate.opsForHash().put(CacheConstants.BOARD_HOT_CATEGORIES_KEY, member, String.valueOf(categoryId));
+            Double score = stringRedisTemplate.opsForZSet().score(CacheConstants.BOARD_HOT_ALL_KEY, member);
+            if (score != null) {
+                stringRedisTemplate.opsForZSet().add(categoryKey(categoryId), member, score);
+            }
+        } catch (Exception e) {
+            log.error("게시글 인기 랭킹 카테고리 이동 중 Redis 오류 (boardId: {})", boardId, e);
+        }
+    }
+
+    /**
+     * 게시글 삭제 시 전체/카테고리 랭킹에서 제거 (카테고리는 랭킹에 기록된 값 사용)
+     */
+    public void remove(Long boardId) {
+        try {
+            String member = String.valueOf(boardId);
+            String category = (String) stringRedisTemplate.opsForHash().get(CacheConstants.BOARD_HOT_CATEGORIES_KEY, member);
+            stringRedisTemplate.opsForZSet().remove(CacheConstants.BOARD_HOT_ALL_KEY, member);
+            if (category != null) {
+                stringRedisTemplate.opsForZSet().remove(CacheConstants.BOARD_HOT_CATEGORY_KEY_PREFIX + category, member);
+            }
+            stringRedisTemplate.delete(likedKey(boardId));
+            stringRedisTemplate.opsForHash().delete(CacheConstants.BOARD_HOT_CATEGORIES_KEY, member);
+        } catch (Exception e) {
+            log.error("게시글 인기 랭킹 삭제 중 Redis 오류 (boardId: {})", boardId, e);
+        }
+    }
+
+    /**
+     * 인기순 게시글 ID 구간 (categoryId가 null이면 전체), 랭킹이 비어 있거나 Redis 오류면 null
+     */
+    public HotPage findPage(Long categoryId, int offset, int size) {
+        String key = categoryId == null ? CacheConstants.BOARD_HOT_ALL_KEY : categoryKey(categoryId.intValue());
+        try {
+            Long total = stringRedisTemplate.opsForZSet().zCard(key);
+            if (total == null || total == 0) {
+                return null;
+            }
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1L);
+            List<Long> boardIds = new ArrayList<>();
+            if (members != null) {
+                members.forEach(member -> boardIds.add(Long.valueOf(member)));
+            }
+            return new HotPage(boardIds, total);
+        } catch (Exception e) {
+            log.error("게시글 인기 랭킹 조회 중 Redis 오류 (key: {})", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 랭킹에 들어 있는 게시글 ID 전체 (categoryId가 null이면 전체 랭킹, 최대 MAX_SIZE개)
+     */
+    public Set<Long> findAllIds(Long categoryId) {
+        String key = categoryId == null ? CacheConstants.BOARD_HOT_ALL_KEY : categoryKey(categoryId.intValue());
+        Set<String> members = stringRedisTemplate.opsForZSet().range(key, 0, -1);
+        Set<Long> boardIds = new HashSet<>();
+        if (members != null) {
+            members.forEach(member -> boardIds.add(Long.valueOf(member)));
+        }
+        return boardIds;
+    }
+
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(stringRedisTemplate.hasKey(CacheConstants.BOARD_HOT_ALL_KEY));
+    }
+
+    /**
+     * DB 누적 값으로 랭킹 재구성 (모든 반응이 작성 시각에 일어났다고 근사)
+     */
+    public void rebuild(Collection<Board> boards) {
+        Set<ZSetOperations.TypedTuple<String>> all = new HashSet<>();
+        Map<Integer, Set<ZSetOperations.TypedTuple<String>>> byCategory = new HashMap<>();
+        Map<String, String> categories = new HashMap<>();
+        for (Board board : boards) {
+            double weight = WEIGHT_CREATE + board.getViews() * WEIGHT_VIEW
+                    + board.getLikesCount() * WEIGHT_LIKE + board.getCommentsCount() * WEIGHT_COMMENT;
+            double score = logScore(weight, board.getCreateAt().toInstant().getEpochSecond());
+            String member = String.valueOf(board.getBoardId());
+            all.add(ZSetOperations.TypedTuple.of(member, score));
+            byCategory.computeIfAbsent(board.getCategoryId(), id -> new HashSet<>())
+                    .add(ZSetOperations.TypedTuple.of(member, score));
+            categories.put(member, String.valueOf(board.getCategoryId()));
+        }
+        if (all.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForHash().putAll(CacheConstants.BOARD_HOT_CATEGORIES_KEY, categories);
+        byCategory.forEach((categoryId, tuples) -> stringRedisTemplate.opsForZSet().add(categoryKey(categoryId), tuples));
+        stringRedisTemplate.opsForZSet().add(CacheConstants.BOARD_HOT_ALL_KEY, all);
+        log.info("게시글 인기 랭킹 재구성 완료: {}건", all.size());
+    }
+
+    private void record(Long boardId, Integer categoryId, double weight) {
+        try {
+            String member = String.valueOf(boardId);
+            String category = categoryId != null ? String.valueOf(categoryId)
+                    : (String) stringRedisTemplate.opsForHash().get(CacheConstants.BOARD_HOT_CATEGORIES_KEY, member);
+            List<String> keys = category == null
+                    ? Collections.singletonList(CacheConstants.BOARD_HOT_ALL_KEY)
+                    : List.of(CacheConstants.BOARD_HOT_ALL_KEY, CacheConstants.BOARD_HOT_CATEGORY_KEY_PREFIX + category);
+            stringRedisTemplate.execute(ADD_SCORE, keys,
+                    member, String.valueOf(logScore(weight, Instant.now().getEpochSecond())), String.valueOf(MAX_SIZE));
+        } catch (Exception e) {
+            log.error("게시글 인기 점수 갱신 중 Redis 오류 (boardId: {})", boardId, e);
+        }
+    }
+
+    private static double logScore(double weight, long epochSecond) {
+        return Math.log(weight) / Math.log(2) + (epochSecond - EPOCH_SECONDS) / HALF_LIFE_SECONDS;
+    }
+
+    private static String likedKey(Long boardId) {
+        return CacheConstants.BOARD_HOT_LIKED_KEY_PREFIX + boardId;
+    }
+
+    private static String categoryKey(Integer categoryId) {
+        return CacheConstants.BOARD_HOT_CATEGORY_KEY_PREFIX + categoryId;
+    }
+
+    public record HotPage(List<Long> boardIds, long totalElements) {
+    }
+}
@@ -0,0 +1,431 @@
+package com.ssafy.happymeal.domain.board.index;
+
+import com.ssafy.happymeal.domain.board.dao.BlockDAO;
+import com.ssafy.happymeal.domain.board.dao.BoardDAO;
+import com.ssafy.happymeal.domain.board.entity.Block;
+import com.ssafy.happymeal.domain.board.entity.Board;
+import com.ssafy.happymeal.util.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 제목 + 텍스트 블록 본문 역색인 (제목 LIKE '%keyword%' 대체, 본문까지 검색)
+ * - 단어(공백/기호 기준)를 색인어로 두고, 색인어마다 (게시글 ID 오름차순 배열, 제목/본문 출현 횟수 배열)을 보관합니다. 본문 원문은 들고 있지 않습니다.
+ * - 검색어 단어는 기호를 포함하지 않으므로 본문 속 출현은 항상 한 색인어 안에 있습니다.
+ *   그래서 색인어 사전의 bigram/글자 목록으로 검색어를 포함하는 색인어만 찾아 그 포스팅을 합치면, 건수와 출현 횟수가 LIKE 검색과 같은 정확한 값이 됩니다.
+ * - 점수는 단어별 BM25 형태 (제목 일치는 TITLE_WEIGHT배, 단어 전체가 일치하면 가산)이며, 같은 점수면 최신 글이 앞섭니다.
+ * 애플리케이션 시작 시 전체를 적재하고, 이후에는 BoardChangedEventListener가 게시글 단위로 갱신합니다.
+ * 게시글이 지워져도 색인어 사전은 줄이지 않으며(빈 포스팅으로 남음), 야간 전체 재적재에서 정리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double WORD_MATCH_BONUS = 0.5; // 부분 문자열이 아니라 단어 전체가 일치할 때 idf에 곱해 더하는 값
+    private static final double K1 = 1.2;              // 단어 빈도 포화 계수
+    private static final int MAX_FREQUENCY = 0xFFFF;   // 제목/본문 출현 횟수를 각각 16비트에 담음 (넘으면 최댓값으로 고정)
+
+    private final BoardDAO boardDAO;
+    private final BlockDAO blockDAO;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Vocabulary vocabulary = new Vocabulary();
+    private Map<Long, int[]> documents = new HashMap<>(); // 게시글 ID -> 포함한 색인어 번호 (갱신 시 이전 포스팅 제거용)
+    private volatile boolean loaded = false; // 최초 적재 완료 여부 (false면 서비스는 DB 검색으로 대체)
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 초기 적재 실패. DB 제목 검색으로 동작합니다.", e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * DB에서 전체 게시글 제목과 텍스트 블록을 읽어 색인을 다시 만듭니다.
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        Map<Long, StringBuilder> contents = new HashMap<>();
+        for (Block block : blockDAO.findAllTextBlocks()) {
+            contents.computeIfAbsent(block.getBoardId(), id -> new StringBuilder())
+                    .append(block.getContentText()).append('\n');
+        }
+
+        Vocabulary newVocabulary = new Vocabulary();
+        Map<Long, int[]> newDocuments = new HashMap<>();
+        List<Board> boards = new ArrayList<>(boardDAO.findAllTitles());
+        boards.sort(Comparator.comparing(Board::getBoardId)); // 포스팅 배열이 ID 오름차순으로 뒤에만 추가되도록
+        for (Board board : boards) {
+            StringBuilder content = contents.remove(board.getBoardId());
+            newDocuments.put(board.getBoardId(),
+                    newVocabulary.add(board.getBoardId(), board.getTitle(), content == null ? "" : content.toString()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            vocabulary = newVocabulary;
+            documents = newDocuments;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 검색 색인 적재 완료: {}건, 색인어 {}개 ({}ms)",
+                newDocuments.size(), newVocabulary.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 게시글 한 건을 DB의 현재 상태로 다시 색인 (없으면 색인에서 제거)
+     */
+    public synchronized void sync(Long boardId) {
+        if (!loaded) {
+            return;
+        }
+        Optional<Board> board = boardDAO.findBoardById(boardId);
+        if (board.isEmpty()) {
+            remove(boardId);
+            return;
+        }
+        String content = blockDAO.findBlocksByBoardId(boardId).stream()
+                .filter(block -> "text".equalsIgnoreCase(block.getBlockType()) && block.getContentText() != null)
+                .sorted(Comparator.comparing(Block::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(Block::getContentText)
+                .collect(Collectors.joining("\n"));
+
+        lock.writeLock().lock();
+        try {
+            unindex(boardId);
+            documents.put(boardId, vocabulary.add(boardId, board.get().getTitle(), content));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("게시글 검색 색인 갱신: boardId={}", boardId);
+    }
+
+    public synchronized void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            unindex(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("게시글 검색 색인 제거: boardId={}", boardId);
+    }
+
+    /**
+     * 검색어의 모든 단어를 제목 또는 본문에 포함한 게시글을 점수순으로 offset부터 limit개 (전체 일치 건수 포함)
+     */
+    public Result search(String query, int offset, int limit) {
+        List<String> words = words(HangulUtils.normalize(query));
+        if (words.isEmpty()) {
+            return new Result(Collections.emptyList(), 0);
+        }
+
+        List<Scored> ranked;
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            Map<Long, Double> scores = null;
+            for (String word : words) {
+                Map<Long, Double> frequencies = frequencies(word);
+                if (frequencies.isEmpty()) {
+                    return new Result(Collections.emptyList(), 0);
+                }
+                double idf = Math.log(1 + (docCount - frequencies.size() + 0.5) / (frequencies.size() + 0.5));
+                Postings wholeWord = vocabulary.postingsOf(word);
+                Map<Long, Double> next = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : frequencies.entrySet()) {
+                    Long boardId = entry.getKey();
+                    if (scores != null && !scores.containsKey(boardId)) {
+                        continue; // 앞 단어와 AND
+                    }
+                    double tf = entry.getValue();
+                    double score = idf * tf * (K1 + 1) / (tf + K1);
+                    if (wholeWord != null && wholeWord.indexOf(boardId) >= 0) {
+                        score += idf * WORD_MATCH_BONUS;
+                    }
+                    next.put(boardId, (scores == null ? 0 : scores.get(boardId)) + score);
+                }
+                scores = next;
+                if (scores.isEmpty()) {
+                    return new Result(Collections.emptyList(), 0);
+                }
+            }
+            ranked = new ArrayList<>(scores.size());
+            scores.forEach((boardId, score) -> ranked.add(new Scored(boardId, score)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int total = ranked.size();
+        if (offset >= total || limit <= 0) {
+            return new Result(Collections.emptyList(), total);
+        }
+        ranked.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(Scored::boardId, Comparator.reverseOrder()));
+        List<Long> boardIds = ranked.subList(offset, Math.min(offset + limit, total)).stream()
+                .map(Scored::boardId)
+                .toList();
+        return new Result(boardIds, total);
+    }
+
+    // 단어를 포함한 게시글 -> 가중 출현 횟수 (제목 출현 * TITLE_WEIGHT + 본문 출현)
+    // 단어를 포함한 색인어마다 (색인어 안 출현 횟수 * 색인어 출현 횟수)를 더하므로 원문에서 센 값과 같음
+    private Map<Long, Double> frequencies(String word) {
+        Map<Long, Double> frequencies = new HashMap<>();
+        for (int termId : vocabulary.termsContaining(word)) {
+            int inTerm = occurrences(vocabulary.term(termId), word);
+            Postings postings = vocabulary.postings(termId);
+            for (int i = 0; i < postings.size; i++) {
+                int frequency = postings.frequencies[i];
+                double weighted = inTerm * (TITLE_WEIGHT * titleFrequency(frequency) + contentFrequency(frequency));
+                frequencies.merge(postings.boardIds[i], weighted, Double::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    private void unindex(Long boardId) {
+        int[] previous = documents.remove(boardId);
+        if (previous == null) {
+            return;
+        }
+        for (int termId : previous) {
+            vocabulary.postings(termId).remove(boardId);
+        }
+    }
+
+    private static int occurrences(String text, String word) {
+        int count = 0;
+        for (int from = text.indexOf(word); from >= 0; from = text.indexOf(word, from + word.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    // 공백/기호 기준 단어 분리 (글자와 숫자만 단어로 취급)
+    private static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static int titleFrequency(int packed) {
+        return packed >>> 16;
+    }
+
+    private static int contentFrequency(int packed) {
+        return packed & MAX_FREQUENCY;
+    }
+
+    /**
+     * 색인어 사전: 색인어 번호 <-> 문자열, 색인어별 포스팅, 색인어의 bigram/글자 -> 색인어 번호 목록
+     * 색인어 번호는 추가 순서대로 늘어나므로 gram 목록은 항상 오름차순을 유지합니다.
+     */
+    private static final class Vocabulary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> terms = new ArrayList<>();
+        private final List<Postings> postings = new ArrayList<>();
+        private final Map<String, IntList> grams = new HashMap<>();
+
+        int size() {
+            return terms.size();
+        }
+
+        String term(int termId) {
+            return terms.get(termId);
+        }
+
+        Postings postings(int termId) {
+            return postings.get(termId);
+        }
+
+        Postings postingsOf(String term) {
+            Integer termId = ids.get(term);
+            return termId == null ? null : postings.get(termId);
+        }
+
+        /**
+         * 게시글 한 건의 제목/본문 단어를 포스팅에 추가하고, 포함한 색인어 번호 목록을 반환
+         */
+        int[] add(Long boardId, String title, String content) {
+            Map<Integer, Integer> frequencies = new LinkedHashMap<>(); // 색인어 번호 -> (제목 출현 << 16 | 본문 출현)
+            for (String word : words(HangulUtils.normalize(title))) {
+                frequencies.merge(idOf(word), 1 << 16, BoardSearchIndex::addFrequency);
+            }
+            for (String word : words(HangulUtils.normalize(content))) {
+                frequencies.merge(idOf(word), 1, BoardSearchIndex::addFrequency);
+            }
+            int[] termIds = new int[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+                postings.get(entry.getKey()).put(boardId, entry.getValue());
+                termIds[i++] = entry.getKey();
+            }
+            return termIds;
+        }
+
+        /**
+         * 단어를 부분 문자열로 포함한 색인어 번호 (gram 목록 교집합 -> 실제 포함 여부 확인)
+         */
+        List<Integer> termsContaining(String word) {
+            Set<String> wordGrams = HangulUtils.bigrams(word);
+            List<IntList> lists = new ArrayList<>(wordGrams.size());
+            for (String gram : wordGrams) {
+                IntList list = grams.get(gram);
+                if (list == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            int[] candidates = Arrays.copyOf(lists.get(0).values, lists.get(0).size);
+            int length = candidates.length;
+            for (int i = 1; i < lists.size() && length > 0; i++) {
+                length = intersect(candidates, length, lists.get(i));
+            }
+            List<Integer> matched = new ArrayList<>();
+            for (int i = 0; i < length; i++) {
+                if (terms.get(candidates[i]).contains(word)) { // bigram이 모두 있어도 연속하지 않을 수 있음
+                    matched.add(candidates[i]);
+                }
+            }
+            return matched;
+        }
+
+        private int idOf(String term) {
+            Integer termId = ids.get(term);
+            if (termId != null) {
+                return termId;
+            }
+            int newId = terms.size();
+            ids.put(term, newId);
+            terms.add(term);
+            postings.add(new Postings());
+            // 한 글자 검색어도 찾을 수 있도록 bigram과 각 글자를 모두 등록
+            Set<String> termGrams = HangulUtils.bigrams(term);
+            for (int i = 0; i < term.length(); i++) {
+                termGrams.add(term.substring(i, i + 1));
+            }
+            for (String gram : termGrams) {
+                grams.computeIfAbsent(gram, g -> new IntList()).add(newId);
+            }
+            return newId;
+        }
+
+        // 두 오름차순 목록의 교집합 (결과는 left 배열을 재사용하며 길이를 반환)
+        private static int intersect(int[] left, int leftLength, IntList right) {
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < leftLength && j < right.size) {
+                if (left[i] < right.values[j]) {
+                    i++;
+                } else if (left[i] > right.values[j]) {
+                    j++;
+                } else {
+                    left[size++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return size;
+        }
+    }
+
+    private static int addFrequency(int left, int right) {
+        int title = Math.min(titleFrequency(left) + titleFrequency(right), MAX_FREQUENCY);
+        int content = Math.min(contentFrequency(left) + contentFrequency(right), MAX_FREQUENCY);
+        return title << 16 | content;
+    }
+
+    /**
+     * 색인어 하나의 포스팅: 게시글 ID 오름차순 배열과 같은 위치의 출현 횟수 (제목 << 16 | 본문)
+     * 새 게시글은 ID가 가장 크므로 대부분 뒤에 붙고, 수정/삭제만 배열 중간을 옮깁니다.
+     */
+    private static final class Postings {
+        private long[] boardIds = new long[2];
+        private int[] frequencies = new int[2];
+        private int size;
+
+        int indexOf(long boardId) {
+            return Arrays.binarySearch(boardIds, 0, size, boardId);
+        }
+
+        void put(long boardId, int frequency) {
+            int index = indexOf(boardId);
+            if (index >= 0) {
+                frequencies[index] = frequency;
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == boardIds.length) {
+                boardIds = Arrays.copyOf(boardIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(boardIds, insertAt, boardIds, insertAt + 1, size - insertAt);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+            boardIds[insertAt] = boardId;
+            frequencies[insertAt] = frequency;
+            size++;
+        }
+
+        void remove(long boardId) {
+            int index = indexOf(boardId);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(boardIds, index + 1, boardIds, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+        }
+    }
+
+    // 오름차순으로만 추가되는 int 목록 (gram -> 색인어 번호)
+    private static final class IntList {
+        private int[] values = new int[2];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private record Scored(Long boardId, double score) {
+    }
+
+    public record Result(List<Long> boardIds, long totalElements) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.ssafy.happymeal.domain.board.like;
+
+import com.ssafy.happymeal.util.CacheConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글 좋아요 Redis 저장소
+ * - 게시글마다 좋아요한 사용자 ID 집합(board:likes:{boardId})을 두고, 토글/조회는 Lua 스크립트 한 번으로 원자적으로 처리합니다.
+ * - 집합에는 "DB에서 불러왔음"을 나타내는 표시 멤버(LOADED_MARKER)가 항상 함께 들어 있으므로, 좋아요 수는 SCARD - 1 입니다.
+ * - 토글 결과는 board:likes-pending 해시에 마지막 상태만 남기고, BoardLikeSyncScheduler가 주기적으로 DB(BoardLike, likes_count)에 반영합니다.
+ * 집합은 만료 시간 없이 유지하므로, Redis 메모리 정책으로 키가 제거되지 않도록 운영해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardLikeStore {
+
+    private static final String LOADED_MARKER = "-";
+    private static final long NOT_LOADED = -1;
+    private static final Duration SYNC_LOCK_TTL = Duration.ofSeconds(30);
+
+    // 집합이 있을 때만 토글하고 변경 내용을 pending 해시에 기록 -> {좋아요 여부(1/0), 좋아요 수}, 집합이 없으면 {-1, 0}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return {-1, 0} end " +
+            "local liked = 1 " +
+            "if redis.call('srem', KEYS[1], ARGV[1]) == 1 then liked = 0 else redis.call('sadd', KEYS[1], ARGV[1]) end " +
+            "redis.call('hset', KEYS[2], ARGV[2], liked) " +
+            "return {liked, redis.call('scard', KEYS[1]) - 1}",
+            List.class);
+
+    // 좋아요 여부와 좋아요 수 -> {좋아요 여부(1/0), 좋아요 수}, 집합이 없으면 {-1, 0}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> STATUS = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return {-1, 0} end " +
+            "return {redis.call('sismember', KEYS[1], ARGV[1]), redis.call('scard', KEYS[1]) - 1}",
+            List.class);
+
+    // 집합이 없을 때만 DB 내용으로 채움 (동시에 불러온 다른 요청이 이미 채웠고 그 뒤 토글됐다면 덮어쓰지 않도록)
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+            "for i = 1, #ARGV do redis.call('sadd', KEYS[1], ARGV[i]) end " +
+            "return 1",
+            Long.class);
+
+    // 반영 중인 묶음이 없으면 pending 해시를 반영 중 키로 옮긴 뒤, 반영 중인 묶음 전체를 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_PENDING = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 0 then " +
+            "  if redis.call('exists', KEYS[1]) == 0 then return {} end " +
+            "  redis.call('rename', KEYS[1], KEYS[2]) " +
+            "end " +
+            "return redis.call('hgetall', KEYS[2])",
+            List.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public record LikeState(boolean liked, int likesCount) {
+    }
+
+    /**
+     * 좋아요 토글 (집합이 아직 없으면 null -> load 후 다시 호출)
+     */
+    public LikeState toggle(Long boardId, Long userId) {
+        List<?> result = stringRedisTemplate.execute(TOGGLE,
+                List.of(likesKey(boardId), CacheConstants.BOARD_LIKES_PENDING_KEY),
+                String.valueOf(userId), pendingField(boardId, userId));
+        return toState(result);
+    }
+
+    /**
+     * 좋아요 여부와 좋아요 수 (집합이 아직 없으면 null)
+     * userId가 null이면 좋아요 수만 의미가 있습니다.
+     */
+    public LikeState status(Long boardId, Long userId) {
+        List<?> result = stringRedisTemplate.execute(STATUS,
+                Collections.singletonList(likesKey(boardId)),
+                userId == null ? LOADED_MARKER : String.valueOf(userId));
+        LikeState state = toState(result);
+        return state == null || userId != null ? state : new LikeState(false, state.likesCount());
+    }
+
+    /**
+     * DB의 좋아요 사용자 목록으로 집합 생성 (이미 있으면 무시)
+     */
+    public void load(Long boardId, Collection<Long> userIds) {
+        List<String> members = new ArrayList<>(userIds.size() + 1);
+        members.add(LOADED_MARKER);
+        userIds.forEach(userId -> members.add(String.valueOf(userId)));
+        stringRedisTemplate.execute(LOAD, Collections.singletonList(likesKey(boardId)), members.toArray());
+    }
+
+    public void evict(Long boardId) {
+        stringRedisTemplate.delete(likesKey(boardId));
+    }
+
+    /**
+     * DB에 반영할 좋아요 변경 묶음 가져오기 (boardId:userId -> 좋아요 여부)
+     * 반영을 마치면 completePending으로 지워야 하며, 실패하면 다음 주기에 같은 묶음을 다시 받습니다.
+     */
+    public Map<String, Boolean> claimPending() {
+        List<?> flat = stringRedisTemplate.execute(CLAIM_PENDING,
+                List.of(CacheConstants.BOARD_LIKES_PENDING_KEY, CacheConstants.BOARD_LIKES_SYNCING_KEY));
+        Map<String, Boolean> changes = new HashMap<>();
+        if (flat == null) {
+            return changes;
+        }
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            changes.put(String.valueOf(flat.get(i)), "1".equals(String.valueOf(flat.get(i + 1))));
+        }
+        return changes;
+    }
+
+    public void completePending() {
+        stringRedisTemplate.delete(CacheConstants.BOARD_LIKES_SYNCING_KEY);
+    }
+
+    /**
+     * 좋아요 DB 반영 작업 잠금 (여러 인스턴스 중 한 곳만 반영하도록), 획득 실패 시 null
+     */
+    public String tryLockSync() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(CacheConstants.BOARD_LIKES_SYNC_LOCK_KEY, token, SYNC_LOCK_TTL);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void unlockSync(String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK,
+                    Collections.singletonList(CacheConstants.BOARD_LIKES_SYNC_LOCK_KEY), token);
+        } catch (Exception e) {
+            log.warn("좋아요 DB 반영 잠금 해제 실패 (TTL 후 자동 해제)", e);
+        }
+    }
+
+    public static String pendingField(Long boardId, Long userId) {
+        return boardId + ":" + userId;
+    }
+
+    private static String likesKey(Long boardId) {
+        return CacheConstants.BOARD_LIKES_KEY_PREFIX + boardId;
+    }
+
+    private static LikeState toState(List<?> result) {
+        if (result == null || result.size() < 2 || ((Number) result.get(0)).longValue() == NOT_LOADED) {
+            return null;
+        }
+        return new LikeState(((Number) result.get(0)).longValue() == 1, ((Number) result.get(1)).intValue());
+    }
+}
@@ -13,6 +13,9 @@ public interface BoardService {
     // 게시글 검색 (제목으로 검색)
     Page<BoardResponseDto> searchBoardsByTitle(BoardTitleSearchCriteria criteria);
 
+    // 게시글 검색 (제목 + 본문, 검색 색인 사용)
+    Page<BoardResponseDto> searchBoards(String query, int page, int size);
+
     // 게시글 검색 (작성자로 검색)
     Page<BoardResponseDto> searchBoardsByAuthor(BoardAuthorSearchCriteria criteria);
 
@@ -20,7 +23,8 @@ public interface BoardService {
     BoardDetailResponseDto createBoardWithBlocks(BoardCreateRequestDto requestDto, Long userId);
 
     // === 신규 기능: 게시글 상세 조회 (블록 및 작성자 정보 포함) ===
-    BoardDetailResponseDto getBoardDetailById(Long boardId);
+    // viewerKey: 조회수 중복 집계 방지용 조회자 식별값 (로그인 사용자 ID 또는 IP)
+    BoardDetailResponseDto getBoardDetailById(Long boardId, String viewerKey);
 
     // 댓글/대댓글 생성
     Comment createComment(Long userId, Long boardId, CommentRequestDto requestDto);
@@ -6,7 +6,11 @@ import com.ssafy.happymeal.domain.board.dao.BoardLikeDAO;
 import com.ssafy.happymeal.domain.board.dto.*;
 import com.ssafy.happymeal.domain.board.entity.Block;
 import com.ssafy.happymeal.domain.board.entity.Board;
-import com.ssafy.happymeal.domain.board.entity.BoardLike;
+import com.ssafy.happymeal.domain.board.event.BoardChangedEvent;
+import com.ssafy.happymeal.domain.board.hot.BoardHotRanking;
+import com.ssafy.happymeal.domain.board.index.BoardSearchIndex;
+import com.ssafy.happymeal.domain.board.like.BoardLikeStore;
+import com.ssafy.happymeal.domain.board.view.BoardViewCounter;
 import com.ssafy.happymeal.domain.comment.dao.CommentDAO;
 import com.ssafy.happymeal.domain.comment.entity.Comment;
 import com.ssafy.happymeal.domain.user.dao.UserDAO;
@@ -14,6 +18,7 @@ import com.ssafy.happymeal.domain.user.entity.User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +29,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,10 +43,27 @@ public class BoardServiceImpl implements BoardService{
     private final UserDAO userDao;
     private final CommentDAO commentDAO;
     private final BoardLikeDAO boardLikeDAO;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardLikeStore boardLikeStore;
+    private final BoardHotRanking boardHotRanking;
+    private final BoardSearchIndex boardSearchIndex;
+    private final ApplicationEventPublisher eventPublisher; // 게시글 변경 이벤트 (커밋 후 검색 색인, 인기 랭킹, 좋아요 집합 갱신)
 
     // 게시글 조회(필터링, 정렬, 페이징 포함)
     @Override
     public Page<BoardResponseDto> getBoardsByCategory(BoardCategoryCriteria criteria) {
+        // 인기순은 미리 계산된 랭킹의 ID 구간으로 조회 (랭킹을 쓸 수 없으면 아래 DB 정렬로 대체)
+        if ("popular".equals(criteria.getSortBy())) {
+            BoardHotRanking.HotPage hotPage = boardHotRanking.findPage(criteria.getCategoryId(), criteria.getOffset(), criteria.getSize());
+            if (hotPage != null) {
+                try {
+                    return popularPage(criteria, hotPage);
+                } catch (Exception e) {
+                    log.error("인기순 랭킹 목록 구성 중 오류, DB 정렬로 조회합니다. (categoryId: {})", criteria.getCategoryId(), e);
+                }
+            }
+        }
+
         // 1. DAO에게 요청사항인 criteria 전달해서 조건에 맞는 게시글 목록(페이징 처리된)을 가져옴
         List<BoardResponseDto> boards = boardDAO.findBoardByCategory(criteria);
 
@@ -51,6 +75,18 @@ public class BoardServiceImpl implements BoardService{
         return new PageImpl<>(boards, PageRequest.of(criteria.getPage(), criteria.getSize()), totalElements);
     }
 
+    // 게시글 검색 (제목 + 본문)
+    @Override
+    public Page<BoardResponseDto> searchBoards(String query, int page, int size) {
+        if (!boardSearchIndex.isLoaded()) {
+            // 색인 적재 전에는 DB 제목 검색으로 대체
+            return searchBoardsByTitle(new BoardTitleSearchCriteria(query, "latest", page, size));
+        }
+        BoardSearchIndex.Result result = boardSearchIndex.search(query, page * size, size);
+        List<BoardResponseDto> boards = orderByIds(result.boardIds(), boardDAO::findBoardsByIds);
+        return new PageImpl<>(boards, PageRequest.of(page, size), result.totalElements());
+    }
+
     // 게시글 검색 (제목으로 검색)
     @Override
     public Page<BoardResponseDto> searchBoardsByTitle(BoardTitleSearchCriteria criteria) {
@@ -103,6 +139,11 @@ public class BoardServiceImpl implements BoardService{
             }
         }
 
+        // 목록 조회용 미리보기 저장 (목록 쿼리에서 블록 테이블을 다시 읽지 않도록)
+        board.applyPreview(savedBlockEntities);
+        boardDAO.updatePreview(board.getBoardId(), board.getPreviewText(), board.getPreviewImageUrl());
+        eventPublisher.publishEvent(new BoardChangedEvent(board.getBoardId(), BoardChangedEvent.Type.CREATED));
+
         Board createdBoard = boardDAO.findBoardById(board.getBoardId())
                 .orElseThrow(() -> new EntityNotFoundException("방금 생성된 게시글 정보를 찾을 수 없습니다. ID: " + board.getBoardId()));
 
@@ -114,19 +155,19 @@ public class BoardServiceImpl implements BoardService{
     }
 
     @Override
-    @Transactional // 조회수 증가(UPDATE)가 포함되므로 readOnly=false
-    public BoardDetailResponseDto getBoardDetailById(Long boardId) {
+    @Transactional(readOnly = true) // 조회수는 BoardViewCounter에 누적 후 주기적으로 반영
+    public BoardDetailResponseDto getBoardDetailById(Long boardId, String viewerKey) {
         log.info("게시글 상세 조회 서비스 시작 - boardId: {}", boardId);
 
         // 1. 게시글 조회
         Board board = boardDAO.findBoardById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + boardId));
 
-        // 2. 조회수 증가
-        int updatedRows = boardDAO.incrementViewCount(boardId);
-        if (updatedRows == 0) {
-            log.warn("게시글(ID: {}) 조회수 증가 실패 또는 해당 게시글이 존재하지 않을 수 있음.", boardId);
+        // 2. 조회수 증가 (메모리 누적, 아직 반영 전인 조회수까지 더해 응답)
+        if (boardViewCounter.record(boardId, viewerKey)) {
+            boardHotRanking.recordView(boardId, board.getCategoryId());
         }
+        board.setViews(board.getViews() + (int) boardViewCounter.pendingViews(boardId));
 
         // 3. 작성자 정보 조회
         User author = userDao.findById(board.getUserId())
@@ -169,6 +210,7 @@ public class BoardServiceImpl implements BoardService{
                 throw new IllegalArgumentException("commentId 생성 실패");
             }
             commentDAO.updateCommentCount(comment);
+            eventPublisher.publishEvent(new BoardChangedEvent(boardId, BoardChangedEvent.Type.COMMENTED)); // 커밋 후 인기 점수 반영
             return comment;
         }
         // 저장 실패 시 반환 로직
@@ -244,6 +286,11 @@ public class BoardServiceImpl implements BoardService{
             }
         }
 
+        // 목록 조회용 미리보기 갱신
+        board.applyPreview(savedBlockEntities);
+        boardDAO.updatePreview(boardId, board.getPreviewText(), board.getPreviewImageUrl());
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId, BoardChangedEvent.Type.UPDATED));
+
         // 5. 업데이트된 게시글 정보 조회
         Board updatedBoard = boardDAO.findBoardById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException("업데이트된 게시글을 찾을 수 없습니다."));
@@ -271,60 +318,42 @@ public class BoardServiceImpl implements BoardService{
 
         // 3. 게시글 삭제
         boardDAO.deleteBoard(boardId);
-
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId, BoardChangedEvent.Type.DELETED)); // 커밋 후 좋아요 집합/랭킹 정리
 
     }
 
     @Override
-    @Transactional
     public BoardLikeResponseDto toggleLike(Long userId, Long boardId) {
-        // 1. 게시글 존재 확인
-        Board board = boardDAO.findBoardById(boardId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-
-        // 2. 좋아요 상태 확인
-        BoardLike existingLike = boardLikeDAO.findByUserIdAndBoardId(userId, boardId);
-        
-        if (existingLike != null) {
-            // 이미 좋아요가 있는 경우 -> 좋아요 취소
-            boardLikeDAO.deleteLike(userId, boardId);
-            boardLikeDAO.updateLikeCount2(boardId);
-            board.setLikesCount(board.getLikesCount() - 1);
-        } else {
-            // 좋아요가 없는 경우 -> 좋아요 추가
-            BoardLike newLike = BoardLike.builder()
-                    .userId(userId)
-                    .boardId(boardId)
-                    .build();
-            boardLikeDAO.saveLike(newLike);
-            boardLikeDAO.updateLikeCount(newLike);
-            board.setLikesCount(board.getLikesCount() + 1);
+        // Redis 좋아요 집합에서 원자적으로 토글 (DB 반영은 BoardLikeSyncScheduler가 묶어서 처리)
+        BoardLikeStore.LikeState state = boardLikeStore.toggle(boardId, userId);
+        if (state == null) {
+            loadLikes(boardId);
+            state = boardLikeStore.toggle(boardId, userId);
+            if (state == null) {
+                throw new IllegalStateException("게시글 좋아요 정보를 불러오지 못했습니다. boardId: " + boardId);
+            }
         }
-        
-        boardDAO.updateBoard(board);
-        
+        if (state.liked()) {
+            boardHotRanking.recordLike(boardId, userId);
+        }
+
         return BoardLikeResponseDto.builder()
                 .boardId(boardId)
                 .userId(userId)
-                .isLiked(existingLike == null)
-                .likesCount(board.getLikesCount())
+                .isLiked(state.liked())
+                .likesCount(state.likesCount())
                 .build();
     }
 
     @Override
     public BoardLikeResponseDto getLikeStatus(Long userId, Long boardId) {
-        // 1. 게시글 존재 확인
-        Board board = boardDAO.findBoardById(boardId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-                
-        // 2. 좋아요 상태 확인
-        boolean isLiked = boardLikeDAO.existsByUserIdAndBoardId(userId, boardId) > 0;
-        
+        BoardLikeStore.LikeState state = likeStatus(boardId, userId);
+
         return BoardLikeResponseDto.builder()
                 .boardId(boardId)
                 .userId(userId)
-                .isLiked(isLiked)
-                .likesCount(board.getLikesCount())
+                .isLiked(state.liked())
+                .likesCount(state.likesCount())
                 .build();
     }
 
@@ -344,7 +373,59 @@ public class BoardServiceImpl implements BoardService{
     @Override
     public int getLikesCount(Long boardId) {
         log.info("게시글 좋아요 수 조회 - boardId: {}", boardId);
-        return boardLikeDAO.countByBoardId(boardId);
+        return likeStatus(boardId, null).likesCount();
+    }
+
+    // 인기순 페이지: 랭킹(상위 MAX_SIZE개, 최근 게시글 위주)을 다 보면 랭킹에 없는 나머지 게시글을 최신순으로 이어서 보여 줌
+    // 전체 개수는 랭킹 크기가 아닌 DB 기준이므로 랭킹 밖의 오래된 게시글도 페이지로 도달할 수 있음
+    private Page<BoardResponseDto> popularPage(BoardCategoryCriteria criteria, BoardHotRanking.HotPage hotPage) {
+        List<BoardResponseDto> boards = new ArrayList<>(orderByIds(hotPage.boardIds(), boardDAO::findBoardsByIds));
+        int remaining = criteria.getSize() - hotPage.boardIds().size();
+        if (remaining > 0) {
+            long offsetAfterRanking = Math.max(0, criteria.getOffset() - hotPage.totalElements());
+            boards.addAll(boardDAO.findBoardsNotIn(criteria.getCategoryId(),
+                    boardHotRanking.findAllIds(criteria.getCategoryId()), offsetAfterRanking, remaining));
+        }
+        long totalElements = boardDAO.countBoardsByCategory(criteria);
+        return new PageImpl<>(boards, PageRequest.of(criteria.getPage(), criteria.getSize()), totalElements);
+    }
+
+    // ID 목록 순서대로 게시글 조회 (삭제되어 없는 ID는 건너뜀)
+    private List<BoardResponseDto> orderByIds(List<Long> boardIds, Function<List<Long>, List<BoardResponseDto>> loader) {
+        if (boardIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, BoardResponseDto> byId = loader.apply(boardIds).stream()
+                .collect(Collectors.toMap(BoardResponseDto::getBoardId, Function.identity()));
+        return boardIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private BoardLikeStore.LikeState likeStatus(Long boardId, Long userId) {
+        BoardLikeStore.LikeState state = boardLikeStore.status(boardId, userId);
+        if (state == null) {
+            loadLikes(boardId);
+            state = boardLikeStore.status(boardId, userId);
+            if (state == null) {
+                throw new IllegalStateException("게시글 좋아요 정보를 불러오지 못했습니다. boardId: " + boardId);
+            }
+        }
+        return state;
+    }
+
+    // Redis에 좋아요 집합이 없을 때 DB 기준으로 생성 (게시글이 없으면 404)
+    // 집합을 만든 뒤 게시글이 아직 있는지 다시 확인: 그 사이 삭제가 커밋됐다면 직접 지우고,
+    // 확인 이후에 커밋되는 삭제는 커밋 후 이벤트(BoardChangedEventListener)가 집합을 지우므로 삭제된 게시글의 집합이 남지 않음
+    private void loadLikes(Long boardId) {
+        boardDAO.findBoardById(boardId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
+        boardLikeStore.load(boardId, boardLikeDAO.findUserIdsByBoardId(boardId));
+        if (boardDAO.findBoardById(boardId).isEmpty()) {
+            boardLikeStore.evict(boardId);
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+        }
     }
 
 }
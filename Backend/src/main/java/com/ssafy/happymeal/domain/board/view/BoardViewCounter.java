@@ -0,0 +1,83 @@
+package com.ssafy.happymeal.domain.board.view;
+
+import com.ssafy.happymeal.util.RotatingBloomFilter;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ * - 상세 조회마다 Board 행을 UPDATE하지 않고 게시글별 LongAdder에 누적한 뒤, BoardViewFlushScheduler가 주기적으로 한 번에 반영합니다.
+ * - 같은 사용자(비로그인은 IP)의 같은 게시글 반복 조회는 블룸 필터로 DEDUP_WINDOW 동안 한 번만 셉니다.
+ * - 누적분은 인스턴스 메모리에만 있으므로, 비정상 종료 시 마지막 반영 이후의 조회수는 유실될 수 있습니다.
+ */
+@Component
+public class BoardViewCounter {
+
+    private static final int DEDUP_EXPECTED_VIEWS = 200_000; // 중복 판정 창 하나에 들어올 것으로 예상되는 (게시글, 조회자) 쌍 수
+    private static final double DEDUP_FALSE_POSITIVE_RATE = 0.01;
+    private static final long DEDUP_WINDOW_MS = 30 * 60 * 1000L; // 30분
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final RotatingBloomFilter viewerFilter =
+            new RotatingBloomFilter(DEDUP_EXPECTED_VIEWS, DEDUP_FALSE_POSITIVE_RATE, DEDUP_WINDOW_MS);
+
+    /**
+     * 조회 1건 기록 (중복 조회면 무시)
+     * @param viewerKey 조회자 식별값 (예: "u:{userId}", "ip:{address}")
+     * @return 조회수로 집계되었으면 true
+     */
+    public boolean record(Long boardId, String viewerKey) {
+        if (viewerKey != null && !viewerFilter.put(boardId + "|" + viewerKey)) {
+            return false;
+        }
+        // 증가를 compute 안에서 해야 drain이 같은 누적기를 떼어 가는 것과 겹치지 않음
+        pending.compute(boardId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.increment();
+            return target;
+        });
+        return true;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (상세 응답에 더해 바로 보여 주기 위함)
+     */
+    public long pendingViews(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수를 꺼냄 (게시글 ID -> 증가분)
+     * 게시글별 누적기를 맵에서 통째로 떼어 낸 뒤 합산하므로, 떼어 낸 이후의 조회는 새 누적기에 쌓여 다음 주기에 반영됩니다.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long boardId : pending.keySet()) {
+            LongAdder adder = pending.remove(boardId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sum();
+            if (delta > 0) {
+                deltas.put(boardId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 반영에 실패한 증가분을 다시 쌓아 둠 (다음 주기에 재시도)
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((boardId, delta) -> pending.compute(boardId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        }));
+    }
+}
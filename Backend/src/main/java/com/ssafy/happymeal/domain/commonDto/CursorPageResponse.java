@@ -0,0 +1,24 @@
+package com.ssafy.happymeal.domain.commonDto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/* 커서 기반 페이지 응답 DTO
+* 전체 건수(COUNT) 없이 다음 페이지 커서만 내려줍니다. nextCursor가 null이면 마지막 페이지입니다. */
+@Getter
+@Setter
+public class CursorPageResponse<T> {
+    public List<T> content;
+    public int pageSize;
+    public String nextCursor;
+    public boolean hasNext;
+
+    public CursorPageResponse(List<T> content, int pageSize, String nextCursor) {
+        this.content = content;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,176 @@
+package com.ssafy.happymeal.domain.food.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.happymeal.domain.food.dao.FoodDAO;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.util.CacheConstants;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 음식 단건(ID) 조회용 2단계 캐시
+ * - L1: 인스턴스 로컬 Caffeine 캐시 (최대 건수 + TTL 제한)
+ * - L2: Redis "food:{foodId}" (인스턴스 간 공유)
+ * - 둘 다 없으면 DB에서 읽어 L2, L1 순으로 채웁니다.
+ * 음식이 수정/삭제되면 evict()로 L1/L2를 지우고 Redis pub/sub으로 다른 인스턴스의 L1도 비우게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodCache implements MessageListener {
+
+    private static final long L1_MAX_SIZE = 10_000;
+    private static final Duration L1_TTL = Duration.ofMinutes(10); // 브로드캐스트 유실 시에도 이 시간 안에는 최신화
+    private static final Duration L2_TTL = Duration.ofHours(1);
+
+    private final FoodDAO foodDAO;
+    private final RedisTemplate<String, Food> redisTemplateFood;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<Long, Food> local = Caffeine.newBuilder()
+            .maximumSize(L1_MAX_SIZE)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CacheConstants.FOOD_EVICT_CHANNEL));
+    }
+
+    /**
+     * ID로 음식 조회 (L1 -> L2 -> DB)
+     * Redis 장애 시에는 L2를 건너뛰고 DB 결과를 그대로 반환합니다.
+     */
+    public Optional<Food> findById(Long foodId) {
+        if (foodId == null) {
+            return Optional.empty();
+        }
+        Food cached = local.getIfPresent(foodId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        String key = CacheConstants.FOOD_KEY_PREFIX + foodId;
+        try {
+            cached = redisTemplateFood.opsForValue().get(key);
+        } catch (Exception e) {
+            log.error("Redis 음식 캐시 조회 중 오류 발생. DB에서 조회합니다. (Key: {})", key, e);
+        }
+        if (cached != null) {
+            local.put(foodId, cached);
+            return Optional.of(cached);
+        }
+
+        Optional<Food> loaded = foodDAO.findById(foodId);
+        loaded.ifPresent(food -> {
+            try {
+                redisTemplateFood.opsForValue().set(key, food, L2_TTL);
+            } catch (Exception e) {
+                log.error("Redis 음식 캐시 저장 중 오류 발생 (Key: {})", key, e);
+            }
+            local.put(foodId, food);
+        });
+        return loaded;
+    }
+
+    /**
+     * 여러 ID의 음식을 한 번에 조회 (L1 -> L2 MGET -> DB IN 조회)
+     * 없는 ID는 결과 Map에 포함되지 않습니다.
+     */
+    public Map<Long, Food> findAllById(Collection<Long> foodIds) {
+        Set<Long> ids = new LinkedHashSet<>(foodIds);
+        ids.remove(null);
+        Map<Long, Food> result = new HashMap<>(local.getAllPresent(ids));
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            if (!result.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<String> keys = new ArrayList<>(missing.size());
+        for (Long id : missing) {
+            keys.add(CacheConstants.FOOD_KEY_PREFIX + id);
+        }
+        try {
+            List<Food> cached = redisTemplateFood.opsForValue().multiGet(keys);
+            if (cached != null) {
+                for (int i = 0; i < cached.size(); i++) {
+                    if (cached.get(i) != null) {
+                        result.put(missing.get(i), cached.get(i));
+                        local.put(missing.get(i), cached.get(i));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Redis 음식 캐시 다건 조회 중 오류 발생. DB에서 조회합니다. ({}건)", keys.size(), e);
+        }
+        missing.removeIf(result::containsKey);
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        for (Food food : foodDAO.findAllByIds(missing)) {
+            result.put(food.getFoodId(), food);
+            local.put(food.getFoodId(), food);
+            try {
+                redisTemplateFood.opsForValue().set(CacheConstants.FOOD_KEY_PREFIX + food.getFoodId(), food, L2_TTL);
+            } catch (Exception e) {
+                log.error("Redis 음식 캐시 저장 중 오류 발생 (foodId: {})", food.getFoodId(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 음식 캐시 무효화 (현재 인스턴스 L1 + Redis L2 + 다른 인스턴스 L1)
+     */
+    public void evict(Long foodId) {
+        local.invalidate(foodId);
+        try {
+            redisTemplateFood.delete(CacheConstants.FOOD_KEY_PREFIX + foodId);
+            stringRedisTemplate.convertAndSend(CacheConstants.FOOD_EVICT_CHANNEL, String.valueOf(foodId));
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1은 TTL이 지나면 자연히 갱신됨
+            log.error("Redis 음식 캐시 무효화 중 오류 발생 (foodId: {})", foodId, e);
+        }
+        log.debug("음식 캐시 무효화: foodId={}", foodId);
+    }
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)가 보낸 무효화 메시지 수신 -> L1에서만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            local.invalidate(Long.parseLong(body.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 음식 캐시 무효화 메시지 무시: {}", body);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ssafy.happymeal.domain.food.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 음식 목록 캐시 본문 압축 방식 (FoodListRedisSerializer 헤더의 플래그 바이트에 기록)
+ * - 쓸 때는 설정(happymeal.cache.food-list.codec)으로 고른 방식을 쓰고,
+ * - 읽을 때는 설정과 관계없이 값에 기록된 플래그로 판단하므로 설정을 바꿔 배포해도 기존 캐시를 읽을 수 있습니다.
+ */
+public enum FoodCacheCodec {
+
+    NONE((byte) 0) {
+        @Override
+        byte[] encode(byte[] body) {
+            return body;
+        }
+
+        @Override
+        byte[] decode(byte[] body) {
+            return body;
+        }
+    },
+
+    DEFLATE((byte) 1) {
+        @Override
+        byte[] encode(byte[] body) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(body);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+                byte[] chunk = new byte[4096];
+                while (!deflater.finished()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decode(byte[] body) throws DataFormatException {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(body);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 3);
+                byte[] chunk = new byte[4096];
+                while (!inflater.finished()) {
+                    int n = inflater.inflate(chunk);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new DataFormatException("압축 데이터가 손상되었습니다.");
+                    }
+                    out.write(chunk, 0, n);
+                }
+                return out.toByteArray();
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    private final byte flag;
+
+    FoodCacheCodec(byte flag) {
+        this.flag = flag;
+    }
+
+    public byte getFlag() {
+        return flag;
+    }
+
+    abstract byte[] encode(byte[] body);
+
+    abstract byte[] decode(byte[] body) throws DataFormatException;
+
+    /**
+     * 헤더 플래그에 해당하는 방식 (알 수 없는 플래그면 null)
+     */
+    public static FoodCacheCodec fromFlag(byte flag) {
+        for (FoodCacheCodec codec : values()) {
+            if (codec.flag == flag) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 설정값(none, deflate)으로 방식 선택 (대소문자 무시)
+     */
+    public static FoodCacheCodec from(String name) {
+        for (FoodCacheCodec codec : values()) {
+            if (codec.name().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 음식 캐시 압축 방식: " + name);
+    }
+}
@@ -0,0 +1,272 @@
+package com.ssafy.happymeal.domain.food.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+
+/**
+ * Redis에 캐시하는 List&lt;Food&gt;용 바이너리 직렬화기
+ * - JSON과 달리 클래스 타입 정보나 필드 이름을 넣지 않고, BigDecimal은 (scale, unscaled 값)으로 기록합니다.
+ * - 크기가 COMPRESS_THRESHOLD 이상이면 설정된 방식(FoodCacheCodec)으로 압축합니다. (img_url에 data URL이 들어있는 경우 대부분 여기서 줄어듦)
+ *
+ * 형식: [버전 1바이트][압축 방식 플래그 1바이트][본문]
+ * 버전이 바뀌어도 롤링 배포 중 읽을 수 있도록 알 수 없는 버전은 예외 대신 null(캐시 미스)로 처리하고,
+ * 이전 JSON 직렬화기로 저장된 값('['로 시작, 타입 정보 없는 배열)은 legacyMapper로 List&lt;Food&gt;로 읽습니다.
+ */
+@Slf4j
+public class FoodListRedisSerializer implements RedisSerializer<List<Food>> {
+
+    static final byte VERSION = 1;
+    static final int COMPRESS_THRESHOLD = 512; // 바이트
+
+    private static final TypeReference<List<Food>> LEGACY_TYPE = new TypeReference<>() { };
+
+    private final ObjectMapper legacyMapper; // 이전 형식(JSON) 읽기용, null이면 사용 안 함
+    private final FoodCacheCodec codec;      // 쓸 때 사용할 압축 방식 (읽을 때는 값의 플래그를 따름)
+
+    public FoodListRedisSerializer(ObjectMapper legacyMapper) {
+        this(legacyMapper, FoodCacheCodec.DEFLATE);
+    }
+
+    public FoodListRedisSerializer(ObjectMapper legacyMapper, FoodCacheCodec codec) {
+        this.legacyMapper = legacyMapper;
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(List<Food> foods) throws SerializationException {
+        if (foods == null) {
+            return new byte[0];
+        }
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * foods.size() + 8);
+            DataOutputStream out = new DataOutputStream(buffer);
+            writeVarInt(out, foods.size());
+            for (Food food : foods) {
+                writeFood(out, food);
+            }
+            out.flush();
+            byte[] body = buffer.toByteArray();
+
+            FoodCacheCodec used = FoodCacheCodec.NONE;
+            if (codec != FoodCacheCodec.NONE && body.length >= COMPRESS_THRESHOLD) {
+                byte[] compressed = codec.encode(body);
+                if (compressed.length < body.length) { // 압축해도 줄지 않으면 그대로 저장
+                    body = compressed;
+                    used = codec;
+                }
+            }
+            byte[] result = new byte[body.length + 2];
+            result[0] = VERSION;
+            result[1] = used.getFlag();
+            System.arraycopy(body, 0, result, 2, body.length);
+            return result;
+        } catch (IOException e) {
+            throw new SerializationException("음식 목록 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public List<Food> deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == '[' && legacyMapper != null) { // 이전 JSON 형식 (타입 정보가 없으므로 Food로 직접 변환)
+            try {
+                return legacyMapper.readValue(bytes, LEGACY_TYPE);
+            } catch (IOException e) {
+                throw new SerializationException("이전 형식 음식 목록 역직렬화 실패", e);
+            }
+        }
+        if (bytes[0] != VERSION || bytes.length < 2) {
+            log.warn("알 수 없는 음식 캐시 형식(version={}), 캐시 미스로 처리합니다.", bytes[0]);
+            return null;
+        }
+        FoodCacheCodec stored = FoodCacheCodec.fromFlag(bytes[1]);
+        if (stored == null) {
+            log.warn("알 수 없는 음식 캐시 압축 방식(flag={}), 캐시 미스로 처리합니다.", bytes[1]);
+            return null;
+        }
+        try {
+            byte[] body = new byte[bytes.length - 2];
+            System.arraycopy(bytes, 2, body, 0, body.length);
+            body = stored.decode(body);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            int size = readVarInt(in);
+            List<Food> foods = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                foods.add(readFood(in));
+            }
+            return foods;
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("음식 목록 역직렬화 실패", e);
+        }
+    }
+
+    private static void writeFood(DataOutputStream out, Food food) throws IOException {
+        writeLong(out, food.getFoodId());
+        writeString(out, food.getName());
+        writeString(out, food.getCategory());
+        writeDecimal(out, food.getServingSize());
+        writeString(out, food.getUnit());
+        writeDecimal(out, food.getCalories());
+        writeDecimal(out, food.getCarbs());
+        writeDecimal(out, food.getSugar());
+        writeDecimal(out, food.getProtein());
+        writeDecimal(out, food.getFat());
+        writeString(out, food.getImgUrl());
+        writeString(out, food.getFoodCode());
+        writeDateTime(out, food.getCreateAt());
+        writeDateTime(out, food.getUpdateAt());
+    }
+
+    private static Food readFood(DataInputStream in) throws IOException {
+        return Food.builder()
+                .foodId(readLong(in))
+                .name(readString(in))
+                .category(readString(in))
+                .servingSize(readDecimal(in))
+                .unit(readString(in))
+                .calories(readDecimal(in))
+                .carbs(readDecimal(in))
+                .sugar(readDecimal(in))
+                .protein(readDecimal(in))
+                .fat(readDecimal(in))
+                .imgUrl(readString(in))
+                .foodCode(readString(in))
+                .createAt(readDateTime(in))
+                .updateAt(readDateTime(in))
+                .build();
+    }
+
+    // 모든 필드는 null 여부 1바이트 뒤에 값이 옴
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(out, value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readVarLong(in) : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8); // writeUTF는 64KB 제한이 있어 직접 기록
+            writeVarInt(out, utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        byte[] utf8 = new byte[readVarInt(in)];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    // DECIMAL(10, 2) 값은 대부분 unscaled 값이 작아 varint 2~3바이트로 기록됨
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarInt(out, value.scale() & 0xFFFF);
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                out.writeBoolean(true);
+                writeVarLong(out, zigZag(unscaled.longValue()));
+            } else {
+                out.writeBoolean(false);
+                byte[] raw = unscaled.toByteArray();
+                writeVarInt(out, raw.length);
+                out.write(raw);
+            }
+        }
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int scale = (short) readVarInt(in);
+        if (in.readBoolean()) {
+            return BigDecimal.valueOf(unZigZag(readVarLong(in)), scale);
+        }
+        byte[] raw = new byte[readVarInt(in)];
+        in.readFully(raw);
+        return new BigDecimal(new BigInteger(raw), scale);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(out, zigZag(value.toEpochSecond(ZoneOffset.UTC)));
+            writeVarInt(out, value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = unZigZag(readVarLong(in));
+        return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(in), ZoneOffset.UTC);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
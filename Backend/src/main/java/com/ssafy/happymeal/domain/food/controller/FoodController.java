@@ -1,8 +1,13 @@
 package com.ssafy.happymeal.domain.food.controller;
 
+import com.ssafy.happymeal.domain.commonDto.CursorPageResponse;
 import com.ssafy.happymeal.domain.commonDto.PageResponse;
 import com.ssafy.happymeal.domain.food.dto.FoodNameSearchCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodNutrientFilterCriteria;
 import com.ssafy.happymeal.domain.food.dto.FoodPagingSortCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodScrollCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodSuggestionDto;
+import com.ssafy.happymeal.domain.food.dto.SimilarFoodCriteria;
 import com.ssafy.happymeal.domain.food.entity.Food; // Food DTO로 사용
 import com.ssafy.happymeal.domain.food.service.FoodService;
 import com.ssafy.happymeal.domain.food.service.FoodServiceImpl;
@@ -14,9 +19,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 // import org.springframework.security.access.prepost.PreAuthorize; // Spring Security 사용 시 권한 관리
 
+import java.math.BigDecimal;
 import java.util.List;
 
 
@@ -55,6 +63,20 @@ public class FoodController {
         );
         return ResponseEntity.ok(response);
     }
+    /**
+     * 음식 이름 자동완성 (초성 검색 지원, 예: "ㄷㄱ" -> 닭가슴살)
+     * GET /api/foods/suggest?q={검색어}
+     * 접근 권한: ALL
+     * 입력 중 반복 호출되므로 결과가 없어도 204 대신 빈 목록(200)을 반환합니다.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<FoodSuggestionDto>> suggestFoods(
+            @Parameter(description = "검색어 (음절 또는 초성)", required = true, example = "ㄷㄱ") @RequestParam String q,
+            @Parameter(description = "최대 결과 수 (최대 10)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        log.debug("음식 자동완성 요청: q={}, limit={}", q, limit);
+        return ResponseEntity.ok(foodService.suggestFoods(q, limit));
+    }
+
     /**
      * 모든 음식 정보 조회
      * GET /api/v1/foods
@@ -80,6 +102,80 @@ public class FoodController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 커서 기반 음식 목록 조회 (무한 스크롤용, 이름 검색 선택)
+     * GET /api/foods/scroll?name={}&sortBy={}&size={}&cursor={}
+     * 접근 권한: ALL
+     * 첫 요청은 cursor 없이 호출하고, 이후에는 응답의 nextCursor를 그대로 전달합니다. 전체 건수는 계산하지 않습니다.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<Food>> scrollFoods(
+            @Parameter(description = "검색할 음식 이름 키워드 (선택)", example = "닭가슴살") @RequestParam(required = false) String name,
+            @Parameter(description = "정렬 기준 (예: name, calories DESC, protein ASC)", example = "name ASC") @RequestParam(defaultValue = "name ASC") String sortBy,
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 당 아이템 수", example = "10") @RequestParam(defaultValue = "10") int size) {
+        log.info("커서 기반 음식 목록 조회 요청: name={}, sortBy={}, size={}", name, sortBy, size);
+
+        CursorPageResponse<Food> response = foodService.scrollFoods(new FoodScrollCriteria(name, sortBy, cursor, size));
+
+        if (response.getContent().isEmpty()) {
+            log.info("조회된 음식 정보 없음: name={}", name);
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 영양소 범위로 음식 검색 (100g 기준)
+     * GET /api/foods/filter?minProtein={}&maxCalories={}&sortBy={}
+     * 접근 권한: ALL
+     * DB 대신 인메모리 영양소 인덱스에서 조회합니다.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<PageResponse<Food>> filterFoodsByNutrients(
+            @Parameter(description = "최소 칼로리") @RequestParam(required = false) BigDecimal minCalories,
+            @Parameter(description = "최대 칼로리", example = "300") @RequestParam(required = false) BigDecimal maxCalories,
+            @Parameter(description = "최소 탄수화물(g)") @RequestParam(required = false) BigDecimal minCarbs,
+            @Parameter(description = "최대 탄수화물(g)") @RequestParam(required = false) BigDecimal maxCarbs,
+            @Parameter(description = "최소 당류(g)") @RequestParam(required = false) BigDecimal minSugar,
+            @Parameter(description = "최대 당류(g)") @RequestParam(required = false) BigDecimal maxSugar,
+            @Parameter(description = "최소 단백질(g)", example = "20") @RequestParam(required = false) BigDecimal minProtein,
+            @Parameter(description = "최대 단백질(g)") @RequestParam(required = false) BigDecimal maxProtein,
+            @Parameter(description = "최소 지방(g)") @RequestParam(required = false) BigDecimal minFat,
+            @Parameter(description = "최대 지방(g)") @RequestParam(required = false) BigDecimal maxFat,
+            @Parameter(description = "정렬 기준 (예: name, calories DESC, protein ASC)", example = "protein DESC") @RequestParam(defaultValue = "name ASC") String sortBy,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 당 아이템 수", example = "10") @RequestParam(defaultValue = "10") int size) {
+        log.info("영양소 범위 검색 요청: calories=[{}, {}], protein=[{}, {}], sortBy={}, page={}, size={}",
+                minCalories, maxCalories, minProtein, maxProtein, sortBy, page, size);
+
+        FoodNutrientFilterCriteria criteria = new FoodNutrientFilterCriteria();
+        criteria.setMinCalories(minCalories);
+        criteria.setMaxCalories(maxCalories);
+        criteria.setMinCarbs(minCarbs);
+        criteria.setMaxCarbs(maxCarbs);
+        criteria.setMinSugar(minSugar);
+        criteria.setMaxSugar(maxSugar);
+        criteria.setMinProtein(minProtein);
+        criteria.setMaxProtein(maxProtein);
+        criteria.setMinFat(minFat);
+        criteria.setMaxFat(maxFat);
+        criteria.setSortBy(sortBy);
+        criteria.setPage(page);
+        criteria.setSize(size);
+
+        Page<Food> foodPage = foodService.filterFoodsByNutrients(criteria);
+
+        if (foodPage == null || foodPage.getContent().isEmpty()) {
+            log.info("영양소 조건에 맞는 음식 없음");
+            return ResponseEntity.noContent().build();
+        }
+        PageResponse<Food> response = new PageResponse<>(
+                foodPage.getContent(), foodPage.getNumber(), foodPage.getSize(), foodPage.getTotalElements()
+        );
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 음식 정보 조회 (ID 기반)
      * GET /api/v1/foods/{foodId}
@@ -97,6 +193,50 @@ public class FoodController {
         return ResponseEntity.ok(food); // 200 OK
     }
 
+    /**
+     * 비슷한 음식 조회 (영양소 구성 기준, 가까운 순)
+     * GET /api/foods/{foodId}/similar?size={}&category={}&lowerCalories=true&lowerSugar=true
+     * 접근 권한: ALL
+     * 예: 같은 영양 구성이면서 칼로리가 더 낮은 대체 음식 찾기
+     */
+    @GetMapping("/{foodId}/similar")
+    public ResponseEntity<List<Food>> getSimilarFoods(
+            @PathVariable Long foodId,
+            @Parameter(description = "결과 개수 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "음식 분류 (선택)") @RequestParam(required = false) String category,
+            @Parameter(description = "칼로리가 더 낮은 음식만") @RequestParam(defaultValue = "false") boolean lowerCalories,
+            @Parameter(description = "당류가 더 적은 음식만") @RequestParam(defaultValue = "false") boolean lowerSugar,
+            @Parameter(description = "지방이 더 적은 음식만") @RequestParam(defaultValue = "false") boolean lowerFat,
+            @Parameter(description = "단백질이 더 많은 음식만") @RequestParam(defaultValue = "false") boolean higherProtein) {
+        log.info("비슷한 음식 조회 요청: foodId={}, size={}, category={}", foodId, size, category);
+
+        List<Food> similarFoods = foodService.getSimilarFoods(foodId,
+                new SimilarFoodCriteria(size, category, lowerCalories, lowerSugar, lowerFat, higherProtein));
+        if (similarFoods.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(similarFoods);
+    }
+
+    /**
+     * 사용자 맞춤 음식 추천 (오늘/이번 주 식단 기록의 영양소 부족분 기준)
+     * GET /api/foods/recommendations/personal?limit={}
+     * 접근 권한: USER, ADMIN
+     */
+    @GetMapping("/recommendations/personal")
+    public ResponseEntity<List<Food>> getPersonalRecommendations(
+            @Parameter(description = "추천 개수 (최대 20)", example = "4") @RequestParam(defaultValue = "4") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        log.info("맞춤 음식 추천 요청: userId={}, limit={}", userId, limit);
+
+        List<Food> recommendations = foodService.getPersonalRecommendations(userId, limit);
+        if (recommendations.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(recommendations);
+    }
+
 //    @Operation(summary = "카테고리별 간단 음식 추천", description = "지정된 카테고리(예: diet, healthy, bulk-up, cheating)의 영양소 기준에 맞는 음식 목록을 랜덤으로 3개 추천합니다.")
     @GetMapping("/recommendations")
     public ResponseEntity<List<Food>> getSimplifiedRecommendations(
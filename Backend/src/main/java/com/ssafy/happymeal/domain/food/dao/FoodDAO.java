@@ -3,6 +3,7 @@ package com.ssafy.happymeal.domain.food.dao; // DAO 인터페이스 패키지 
 import com.ssafy.happymeal.domain.food.entity.Food; // Food 엔티티 경로 (FoodDto가 아님)
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +37,16 @@ public interface FoodDAO {
             "WHERE food_id = #{foodId}")
     Optional<Food> findById(@Param("foodId") Long foodId);
 
+    /**
+     * 여러 ID의 음식 정보를 한 번에 조회 (IN 조건)
+     */
+    @Select("<script>" +
+            "SELECT " + BASE_COLUMNS + " FROM Food " +
+            "WHERE food_id IN " +
+            "<foreach collection='foodIds' item='foodId' open='(' separator=',' close=')'>#{foodId}</foreach>" +
+            "</script>")
+    List<Food> findAllByIds(@Param("foodIds") Collection<Long> foodIds);
+
     /**
      * 음식 정보 추가
      * create_at은 DB의 DEFAULT CURRENT_TIMESTAMP 활용
@@ -117,6 +128,30 @@ public interface FoodDAO {
     @Select("SELECT COUNT(*) FROM Food")
     long countAll();
 
+    /**
+     * 키셋(커서) 방식 목록 조회 - OFFSET 없이 직전 페이지 마지막 키 이후부터 읽으므로 몇 번째 페이지든 비용이 같습니다.
+     * params.seek: FoodSortOrder.seekAfter가 만든 (OR 분기 -> AND 조건) 목록, 첫 페이지는 null
+     * params.orderByClause: FoodSortOrder.toKeysetOrderByClause (food_id 포함)
+     */
+    @Select("<script>" +
+            "SELECT " + BASE_COLUMNS + " FROM Food " +
+            "<where>" +
+            "   <if test='params.name != null and params.name != \"\"'>" +
+            "       AND name LIKE CONCAT('%', #{params.name}, '%')" +
+            "   </if>" +
+            "   <if test='params.seek != null'>" +
+            "       AND (" +
+            "       <foreach collection='params.seek' item='branch' separator=' OR '>" +
+            "           (<foreach collection='branch' item='cond' separator=' AND '>${cond.column} ${cond.operator} #{cond.value}</foreach>)" +
+            "       </foreach>" +
+            "       )" +
+            "   </if>" +
+            "</where>" +
+            " ORDER BY ${params.orderByClause}" + // SQL Injection 주의: FoodSortOrder에서 허용 필드로만 구성
+            " LIMIT #{params.limit}" +
+            "</script>")
+    List<Food> findAllByKeyset(@Param("params") Map<String, Object> params);
+
     /**
      * 간결화된 추천 음식 조회 메소드 (영양소 수치 기반 필터링, 랜덤 3개)
      */
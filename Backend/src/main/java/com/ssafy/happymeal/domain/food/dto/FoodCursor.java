@@ -0,0 +1,22 @@
+package com.ssafy.happymeal.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 음식 목록 커서 내용 (CursorCodec으로 인코딩되어 클라이언트에 전달)
+ * 직전 페이지 마지막 행의 정렬 키 값과 food_id, 그리고 커서를 만든 정렬 조건을 담습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodCursor {
+    private String sort;     // 정렬 조건 (다른 정렬로 커서를 재사용하는 것을 막기 위함)
+    private List<String> key; // 정렬 필드별 마지막 값
+    private Long id;          // 마지막 food_id
+}
@@ -0,0 +1,36 @@
+package com.ssafy.happymeal.domain.food.dto;
+
+import com.ssafy.happymeal.domain.food.index.Nutrient;
+import com.ssafy.happymeal.domain.food.index.NutrientFilter;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/* 영양소 범위 검색 조건 (100g 기준, 값이 없으면 해당 경계는 제한 없음) */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FoodNutrientFilterCriteria extends FoodPagingSortCriteria {
+    private BigDecimal minCalories;
+    private BigDecimal maxCalories;
+    private BigDecimal minCarbs;
+    private BigDecimal maxCarbs;
+    private BigDecimal minSugar;
+    private BigDecimal maxSugar;
+    private BigDecimal minProtein;
+    private BigDecimal maxProtein;
+    private BigDecimal minFat;
+    private BigDecimal maxFat;
+
+    // 인메모리 인덱스 조회 조건으로 변환
+    public NutrientFilter toNutrientFilter() {
+        return new NutrientFilter()
+                .min(Nutrient.CALORIES, minCalories).max(Nutrient.CALORIES, maxCalories)
+                .min(Nutrient.CARBS, minCarbs).max(Nutrient.CARBS, maxCarbs)
+                .min(Nutrient.SUGAR, minSugar).max(Nutrient.SUGAR, maxSugar)
+                .min(Nutrient.PROTEIN, minProtein).max(Nutrient.PROTEIN, maxProtein)
+                .min(Nutrient.FAT, minFat).max(Nutrient.FAT, maxFat);
+    }
+}
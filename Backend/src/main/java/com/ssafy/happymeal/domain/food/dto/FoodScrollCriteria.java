@@ -0,0 +1,21 @@
+package com.ssafy.happymeal.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 커서 기반 음식 목록 조회 조건
+ * cursor가 없으면 첫 페이지, 있으면 그 다음 페이지를 조회합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodScrollCriteria {
+    private String name;   // 이름 검색어 (선택)
+    private String sortBy; // 정렬 기준 (예: calories DESC, name ASC)
+    private String cursor; // 직전 응답의 nextCursor
+    private int size;      // 페이지 크기
+}
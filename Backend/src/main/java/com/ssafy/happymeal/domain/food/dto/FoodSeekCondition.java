@@ -0,0 +1,16 @@
+package com.ssafy.happymeal.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키셋 페이지 조회 WHERE 절의 비교 조건 하나 (column operator value)
+ * column과 operator는 FoodSortOrder가 허용 목록에서만 만들어내므로 ${}로 삽입해도 안전하며, value는 바인딩됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FoodSeekCondition {
+    private final String column;
+    private final String operator;
+    private final Object value;
+}
@@ -0,0 +1,12 @@
+package com.ssafy.happymeal.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 음식 이름 자동완성 응답 */
+@Getter
+@AllArgsConstructor
+public class FoodSuggestionDto {
+    private Long foodId;
+    private String name;
+}
@@ -0,0 +1,23 @@
+package com.ssafy.happymeal.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 비슷한 음식 조회 조건
+ * lowerXxx / higherProtein 값이 true이면 기준 음식보다 해당 영양소가 적은(많은) 음식만 결과에 포함합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarFoodCriteria {
+    private int size;              // 결과 개수
+    private String category;       // 음식 분류 (선택)
+    private boolean lowerCalories; // 칼로리가 더 낮은 음식만
+    private boolean lowerSugar;    // 당류가 더 적은 음식만
+    private boolean lowerFat;      // 지방이 더 적은 음식만
+    private boolean higherProtein; // 단백질이 더 많은 음식만
+}
@@ -0,0 +1,19 @@
+package com.ssafy.happymeal.domain.food.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 음식 추가/수정/삭제 도메인 이벤트
+ * 트랜잭션 커밋 후 FoodChangedEventListener가 인메모리 인덱스, 캐시, 추천 캐시를 해당 음식 기준으로만 갱신합니다.
+ * 리스너는 이벤트 내용 대신 DB의 현재 상태를 다시 읽어 반영하므로, 이벤트에는 ID와 변경 종류만 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FoodChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long foodId;
+    private final Type type;
+}
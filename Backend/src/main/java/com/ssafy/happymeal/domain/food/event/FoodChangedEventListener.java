@@ -0,0 +1,117 @@
+package com.ssafy.happymeal.domain.food.event;
+
+import com.ssafy.happymeal.domain.food.cache.FoodCache;
+import com.ssafy.happymeal.domain.food.dao.FoodDAO;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.domain.food.index.FoodCatalog;
+import com.ssafy.happymeal.domain.food.recommend.PersonalRecommendationKeys;
+import com.ssafy.happymeal.domain.food.recommend.RecommendationCache;
+import com.ssafy.happymeal.domain.food.recommend.RecommendationCategory;
+import com.ssafy.happymeal.util.CacheConstants;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 음식 변경 이벤트 처리 (트랜잭션 커밋 후, 백그라운드 단일 스레드에서 순서대로 실행)
+ * 1. 인메모리 카탈로그/인덱스에 해당 음식만 반영 (추천 후보 풀도 영향받는 카테고리만 재구성)
+ * 2. 음식 단건 캐시(L1/L2) 무효화
+ * 3. 변경 전/후 기준으로 해당 음식이 속했던 카테고리의 추천 캐시(recommendations:{category})만 삭제
+ * 4. 사용자 맞춤 추천 캐시 전역 버전 증가 (추천은 전체 음식 영양 정보에 의존하므로 모든 사용자 키를 무효화)
+ * 5. Redis pub/sub으로 다른 인스턴스에 알려 각자의 카탈로그도 갱신하게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodChangedEventListener implements MessageListener {
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString(); // 자신이 보낸 메시지 구분용
+
+    private final FoodDAO foodDAO;
+    private final FoodCatalog foodCatalog;
+    private final FoodCache foodCache;
+    private final RecommendationCache recommendationCache;
+    private final PersonalRecommendationKeys personalRecommendationKeys;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ThreadPoolTaskExecutor foodEventExecutor;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CacheConstants.FOOD_CHANGED_CHANNEL));
+    }
+
+    @Async("foodEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFoodChanged(FoodChangedEvent event) {
+        Long foodId = event.getFoodId();
+        log.debug("음식 변경 이벤트 처리: foodId={}, type={}", foodId, event.getType());
+
+        Optional<Food> before = foodCatalog.findById(foodId);
+        Optional<Food> after = syncCatalog(foodId);
+
+        foodCache.evict(foodId);
+        for (RecommendationCategory category : RecommendationCategory.values()) {
+            boolean affected = before.map(food -> category.toNutrientFilter().matches(food)).orElse(false)
+                    || after.map(food -> category.toNutrientFilter().matches(food)).orElse(false);
+            if (affected) {
+                recommendationCache.evict(category);
+            }
+        }
+        personalRecommendationKeys.invalidateAll();
+
+        try {
+            stringRedisTemplate.convertAndSend(CacheConstants.FOOD_CHANGED_CHANNEL, INSTANCE_ID + ":" + foodId);
+        } catch (Exception e) {
+            // 다른 인스턴스는 야간 스케줄러의 전체 재적재에서 따라잡음
+            log.error("음식 변경 브로드캐스트 실패 (foodId: {})", foodId, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발생한 변경 수신 -> 카탈로그 갱신 (캐시 무효화는 보낸 쪽에서 이미 처리)
+     * 맞춤 추천 버전은 이 인스턴스의 카탈로그 반영 후 한 번 더 올려, 반영 전 카탈로그로 계산해 새 버전에 저장한 값이 남지 않게 합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(INSTANCE_ID)) {
+            return;
+        }
+        try {
+            Long foodId = Long.parseLong(body.substring(separator + 1));
+            foodEventExecutor.execute(() -> {
+                syncCatalog(foodId);
+                personalRecommendationKeys.invalidateAll();
+            });
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 음식 변경 메시지 무시: {}", body);
+        }
+    }
+
+    // 이벤트 내용 대신 DB의 현재 상태를 반영 (이벤트가 늦게 도착하거나 중복되어도 결과가 같음)
+    private Optional<Food> syncCatalog(Long foodId) {
+        Optional<Food> current = foodDAO.findById(foodId);
+        if (current.isPresent()) {
+            foodCatalog.upsert(current.get());
+        } else {
+            foodCatalog.remove(foodId);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 정렬된 문서 번호 목록을 간격(delta) + 가변 길이 정수(varint)로 압축한 불변 포스팅 리스트
+ * 대부분의 간격이 1바이트에 들어가므로 int[] 대비 메모리를 크게 줄입니다.
+ */
+public final class CompressedPostingList {
+
+    private final byte[] data;
+    private final int count;
+
+    private CompressedPostingList(byte[] data, int count) {
+        this.data = data;
+        this.count = count;
+    }
+
+    /**
+     * @param sortedDocs 오름차순으로 정렬되고 중복이 없는 문서 번호
+     * @param length 사용할 앞부분 길이
+     */
+    public static CompressedPostingList of(int[] sortedDocs, int length) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 4);
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            int gap = sortedDocs[i] - previous;
+            previous = sortedDocs[i];
+            while ((gap & ~0x7F) != 0) {
+                out.write((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            out.write(gap);
+        }
+        return new CompressedPostingList(out.toByteArray(), length);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int[] decode() {
+        int[] docs = new int[count];
+        int position = 0;
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += gap;
+            docs[i] = previous;
+        }
+        return docs;
+    }
+
+    /**
+     * 두 정렬된 배열의 교집합 (결과는 left 배열을 재사용하며 길이를 반환)
+     */
+    public static int intersect(int[] left, int leftLength, int[] right) {
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < leftLength && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                left[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return size;
+    }
+}
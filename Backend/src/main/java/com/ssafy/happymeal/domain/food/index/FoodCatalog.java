@@ -0,0 +1,139 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.dao.FoodDAO;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Food 테이블의 인메모리 사본
+ * 애플리케이션 시작 시 FoodDAO.findAll()로 한 번 적재하고, 음식 추가/수정/삭제 시 증분 갱신합니다.
+ * 변경 사항은 등록된 모든 FoodIndex 구현체(영양소 범위 인덱스 등)에 그대로 전달됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodCatalog {
+
+    private final FoodDAO foodDAO;
+    private final List<FoodIndex> indexes; // 스프링이 모든 FoodIndex 빈을 주입
+
+    // 조회 스레드는 락 없이 읽으므로 재적재는 새 맵을 다 채운 뒤 참조만 교체 (교체 전 맵은 수정하지 않음)
+    private volatile Map<Long, Food> foods = new ConcurrentHashMap<>();
+    private static final long RELOAD_RETRY_INTERVAL_MS = 10_000; // 요청 경로 재적재 실패 후 다시 시도하기까지의 간격
+
+    private volatile boolean loaded = false; // 최초 적재 완료 여부 (false면 서비스는 DB 조회로 대체)
+    private long lastFailedReloadAt = 0;     // 요청 경로 재적재 마지막 실패 시각 (this 락 안에서만 접근)
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // DB 연결 실패 등으로 적재하지 못하더라도 애플리케이션은 기동되어야 하므로 예외를 삼킴
+            log.error("음식 카탈로그 초기 적재 실패. 인메모리 인덱스 없이 DB 조회로 동작합니다.", e);
+        }
+    }
+
+    /**
+     * DB에서 전체 음식을 다시 읽어 카탈로그와 모든 인덱스를 재구성합니다.
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        List<Food> all = foodDAO.findAll();
+
+        Map<Long, Food> next = new ConcurrentHashMap<>(all.size() * 2);
+        for (Food food : all) {
+            next.put(food.getFoodId(), food);
+        }
+        foods = next;
+        Collection<Food> snapshot = Collections.unmodifiableCollection(next.values());
+        for (FoodIndex index : indexes) {
+            index.rebuild(snapshot);
+        }
+        loaded = true;
+        log.info("음식 카탈로그 적재 완료: {}건, 인덱스 {}개 ({}ms)", next.size(), indexes.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 아직 적재되지 않았다면 한 번만 적재 (시작 시 적재 실패 대비, 요청 스레드에서 호출)
+     * 동시에 들어온 요청은 락 안에서 다시 확인하므로 먼저 들어온 요청의 적재 결과를 그대로 사용하고,
+     * 적재가 실패한 직후(RELOAD_RETRY_INTERVAL_MS 이내)에는 DB를 다시 읽지 않고 바로 실패합니다.
+     */
+    public void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (now - lastFailedReloadAt < RELOAD_RETRY_INTERVAL_MS) {
+                throw new IllegalStateException("음식 카탈로그가 적재되지 않았습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            log.warn("음식 카탈로그가 아직 적재되지 않아 DB에서 다시 적재합니다.");
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                lastFailedReloadAt = now;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 음식 한 건 추가/수정 반영
+     */
+    public synchronized void upsert(Food food) {
+        if (!loaded || food == null || food.getFoodId() == null) {
+            return;
+        }
+        foods.put(food.getFoodId(), food);
+        Collection<Food> snapshot = all();
+        for (FoodIndex index : indexes) {
+            index.upsert(food, snapshot);
+        }
+        log.debug("음식 카탈로그 갱신: foodId={}", food.getFoodId());
+    }
+
+    /**
+     * 음식 한 건 삭제 반영
+     */
+    public synchronized void remove(Long foodId) {
+        if (!loaded || foodId == null || foods.remove(foodId) == null) {
+            return;
+        }
+        Collection<Food> snapshot = all();
+        for (FoodIndex index : indexes) {
+            index.remove(foodId, snapshot);
+        }
+        log.debug("음식 카탈로그 삭제: foodId={}", foodId);
+    }
+
+    public Optional<Food> findById(Long foodId) {
+        return Optional.ofNullable(foods.get(foodId));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return foods.size();
+    }
+
+    private Collection<Food> all() {
+        return Collections.unmodifiableCollection(foods.values());
+    }
+}
@@ -0,0 +1,37 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+
+import java.util.Collection;
+
+/**
+ * FoodCatalog(메모리 상의 Food 테이블 사본)로부터 만들어지는 인메모리 인덱스 공통 인터페이스
+ * FoodCatalog가 시작 시 전체 적재(rebuild) 및 음식 추가/수정/삭제(upsert/remove)를 모든 구현체에 전달합니다.
+ * 기본 구현은 변경 시 전체 목록으로 다시 만드는 방식(copy-on-write)이며, 필요한 구현체만 증분 갱신을 재정의합니다.
+ */
+public interface FoodIndex {
+
+    /**
+     * 전체 음식 목록으로 인덱스를 새로 만듭니다.
+     * @param foods 현재 카탈로그의 전체 음식 목록
+     */
+    void rebuild(Collection<Food> foods);
+
+    /**
+     * 음식 한 건이 추가/수정되었을 때 호출됩니다.
+     * @param food 추가/수정된 음식
+     * @param foods 변경이 반영된 전체 음식 목록
+     */
+    default void upsert(Food food, Collection<Food> foods) {
+        rebuild(foods);
+    }
+
+    /**
+     * 음식 한 건이 삭제되었을 때 호출됩니다.
+     * @param foodId 삭제된 음식 ID
+     * @param foods 변경이 반영된 전체 음식 목록
+     */
+    default void remove(Long foodId, Collection<Food> foods) {
+        rebuild(foods);
+    }
+}
@@ -0,0 +1,214 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.util.HangulUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 음식 이름 n-gram 역색인 (LIKE '%keyword%' 대체)
+ * - 이름의 모든 한 글자(unigram)와 연속된 두 글자(bigram)를 키로, 해당 음식 번호 목록을 압축 포스팅 리스트로 보관합니다.
+ * - 두 글자 이상 검색어는 bigram 포스팅의 교집합으로 후보를 좁힌 뒤 실제 부분 문자열 포함 여부로 확인합니다.
+ * - 전체 건수와 페이지를 한 번의 조회로 함께 계산하므로 COUNT(*) 쿼리가 필요 없습니다.
+ * - 음식 추가/수정/삭제는 포스팅을 다시 만들지 않고 변경분(추가 목록 + 삭제 표시)에 쌓아 두었다가,
+ *   변경분이 일정 크기를 넘으면 그때 전체를 재구성합니다. 조회 시 변경분은 전수 비교합니다.
+ */
+@Slf4j
+@Component
+public class FoodNameIndex implements FoodIndex {
+
+    private static final int MIN_DELTA_BEFORE_REBUILD = 256;
+    private static final double MAX_DELTA_RATIO = 0.05; // 전체 대비 변경분이 이 비율을 넘으면 재구성
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    @Override
+    public void rebuild(Collection<Food> foods) {
+        long start = System.currentTimeMillis();
+        snapshot = new Snapshot(foods);
+        log.debug("음식 이름 n-gram 인덱스 재구성 완료: {}건, gram {}개 ({}ms)",
+                snapshot.foods.length, snapshot.postings.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void upsert(Food food, Collection<Food> foods) {
+        Snapshot current = this.snapshot;
+        if (current.needsRebuild()) {
+            rebuild(foods);
+            return;
+        }
+        snapshot = current.withChange(food.getFoodId(), food);
+    }
+
+    @Override
+    public void remove(Long foodId, Collection<Food> foods) {
+        Snapshot current = this.snapshot;
+        if (current.needsRebuild()) {
+            rebuild(foods);
+            return;
+        }
+        snapshot = current.withChange(foodId, null);
+    }
+
+    /**
+     * 이름에 keyword가 포함된 음식을 정렬 후 offset부터 limit개 반환 (전체 일치 건수 포함)
+     */
+    public Result search(String keyword, FoodSortOrder sortOrder, int offset, int limit) {
+        Snapshot snap = this.snapshot;
+        String query = HangulUtils.normalize(keyword);
+
+        List<Food> matched = new ArrayList<>();
+        if (query.isEmpty()) { // LIKE '%%'와 동일하게 전체
+            for (Food food : snap.foods) {
+                if (!snap.tombstones.contains(food.getFoodId())) {
+                    matched.add(food);
+                }
+            }
+            matched.addAll(snap.added);
+        } else {
+            for (int doc : snap.candidates(query)) {
+                // bigram이 모두 있어도 연속하지 않을 수 있으므로 최종 확인
+                if (snap.normalizedNames[doc].contains(query) && !snap.tombstones.contains(snap.foods[doc].getFoodId())) {
+                    matched.add(snap.foods[doc]);
+                }
+            }
+            for (Food food : snap.added) {
+                if (HangulUtils.normalize(food.getName()).contains(query)) {
+                    matched.add(food);
+                }
+            }
+        }
+
+        int total = matched.size();
+        if (total == 0 || offset >= total || limit <= 0) {
+            return new Result(Collections.emptyList(), total);
+        }
+        matched.sort(sortOrder.toComparator());
+        return new Result(new ArrayList<>(matched.subList(offset, Math.min(offset + limit, total))), total);
+    }
+
+    @Getter
+    public static class Result {
+        private final List<Food> content;
+        private final long totalElements;
+
+        Result(List<Food> content, long totalElements) {
+            this.content = content;
+            this.totalElements = totalElements;
+        }
+    }
+
+    private static class Snapshot {
+        final Food[] foods;
+        final String[] normalizedNames;
+        final Map<String, CompressedPostingList> postings;
+        final Set<Long> tombstones; // 포스팅에 있지만 삭제/수정되어 무시할 food_id
+        final List<Food> added;     // 포스팅에 없는 추가/수정 음식
+
+        private Snapshot(Snapshot base, Set<Long> tombstones, List<Food> added) {
+            this.foods = base.foods;
+            this.normalizedNames = base.normalizedNames;
+            this.postings = base.postings;
+            this.tombstones = tombstones;
+            this.added = added;
+        }
+
+        boolean needsRebuild() {
+            int delta = tombstones.size() + added.size();
+            return delta >= MIN_DELTA_BEFORE_REBUILD && delta > foods.length * MAX_DELTA_RATIO;
+        }
+
+        // food == null 이면 삭제
+        Snapshot withChange(Long foodId, Food food) {
+            Set<Long> nextTombstones = new HashSet<>(tombstones);
+            nextTombstones.add(foodId);
+            List<Food> nextAdded = new ArrayList<>(added.size() + 1);
+            for (Food existing : added) {
+                if (!existing.getFoodId().equals(foodId)) {
+                    nextAdded.add(existing);
+                }
+            }
+            if (food != null) {
+                nextAdded.add(food);
+            }
+            return new Snapshot(this, nextTombstones, nextAdded);
+        }
+
+        Snapshot(Collection<Food> source) {
+            this.tombstones = Collections.emptySet();
+            this.added = Collections.emptyList();
+            this.foods = source.toArray(new Food[0]);
+            this.normalizedNames = new String[foods.length];
+
+            // gram -> 문서 번호 목록 (문서 번호 순서대로 추가되므로 자연히 정렬됨)
+            Map<String, int[]> building = new HashMap<>();
+            Map<String, Integer> lengths = new HashMap<>();
+            for (int doc = 0; doc < foods.length; doc++) {
+                String name = HangulUtils.normalize(foods[doc].getName());
+                normalizedNames[doc] = name;
+                for (String gram : grams(name)) {
+                    int length = lengths.getOrDefault(gram, 0);
+                    int[] docs = building.get(gram);
+                    if (docs == null) {
+                        docs = new int[4];
+                        building.put(gram, docs);
+                    } else if (length == docs.length) {
+                        docs = Arrays.copyOf(docs, length * 2);
+                        building.put(gram, docs);
+                    }
+                    docs[length] = doc;
+                    lengths.put(gram, length + 1);
+                }
+            }
+
+            this.postings = new HashMap<>(building.size() * 2);
+            for (Map.Entry<String, int[]> entry : building.entrySet()) {
+                postings.put(entry.getKey(), CompressedPostingList.of(entry.getValue(), lengths.get(entry.getKey())));
+            }
+        }
+
+        // 색인 대상 gram: 모든 한 글자 + 모든 연속 두 글자
+        private static Set<String> grams(String name) {
+            Set<String> grams = HangulUtils.bigrams(name);
+            for (int i = 0; i < name.length(); i++) {
+                grams.add(name.substring(i, i + 1));
+            }
+            return grams;
+        }
+
+        /**
+         * 검색어의 모든 gram을 포함하는 문서 번호 (포스팅이 짧은 것부터 교집합)
+         */
+        int[] candidates(String query) {
+            Set<String> queryGrams = HangulUtils.bigrams(query);
+            List<CompressedPostingList> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                CompressedPostingList posting = postings.get(gram);
+                if (posting == null) {
+                    return new int[0];
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(CompressedPostingList::size));
+
+            int[] result = lists.get(0).decode();
+            int length = result.length;
+            for (int i = 1; i < lists.size() && length > 0; i++) {
+                length = CompressedPostingList.intersect(result, length, lists.get(i).decode());
+            }
+            return Arrays.copyOf(result, length);
+        }
+    }
+}
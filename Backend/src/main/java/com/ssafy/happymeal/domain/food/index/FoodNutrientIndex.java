@@ -0,0 +1,313 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 영양소 범위 검색용 컬럼 지향(columnar) 인메모리 인덱스
+ * - 영양소별 double[] 컬럼과, 각 컬럼 값 기준으로 정렬된 행 번호 순열(int[])을 유지합니다.
+ * - 범위 조건은 가장 좁은 구간을 가진 컬럼을 이분 탐색으로 잘라낸 뒤 나머지 조건을 원시 배열에서 바로 비교합니다.
+ * - 스냅샷은 불변 객체로 교체(copy-on-write)되므로 조회 중에는 락이 필요 없습니다.
+ * - 음식 한 건 추가/수정/삭제는 다시 정렬하지 않고, 각 순열에서 해당 행을 빼거나 이분 탐색한 위치에 끼워 넣습니다(O(N) 복사).
+ */
+@Slf4j
+@Component
+public class FoodNutrientIndex implements FoodIndex {
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    @Override
+    public void rebuild(Collection<Food> foods) {
+        snapshot = new Snapshot(foods);
+        log.debug("영양소 인덱스 재구성 완료: {}건", snapshot.size);
+    }
+
+    @Override
+    public void upsert(Food food, Collection<Food> foods) {
+        Snapshot current = this.snapshot;
+        int row = current.rowOf(food.getFoodId());
+        snapshot = (row < 0 ? current : current.without(row)).with(food);
+    }
+
+    @Override
+    public void remove(Long foodId, Collection<Food> foods) {
+        Snapshot current = this.snapshot;
+        int row = current.rowOf(foodId);
+        if (row >= 0) {
+            snapshot = current.without(row);
+        }
+    }
+
+    /**
+     * 범위 조건에 맞는 음식을 정렬 후 offset부터 limit개 반환합니다.
+     * 첫 번째 정렬 기준이 영양소 하나뿐이면 미리 정렬된 순열을 그대로 따라가므로 별도 정렬 비용이 없습니다.
+     */
+    public Result query(NutrientFilter filter, FoodSortOrder sortOrder, int offset, int limit) {
+        Snapshot snap = this.snapshot;
+        BitSet matches = snap.match(filter);
+        int total = matches.cardinality();
+        if (total == 0 || offset >= total || limit <= 0) {
+            return new Result(Collections.emptyList(), total);
+        }
+
+        List<Food> content = new ArrayList<>(Math.min(limit, total - offset));
+        Nutrient sortNutrient = sortOrder.getTerms().size() == 1 ? Nutrient.fromColumn(sortOrder.first().getField()) : null;
+
+        if (sortNutrient != null) {
+            int[] perm = snap.sortedRows[sortNutrient.ordinal()];
+            boolean ascending = sortOrder.first().isAscending();
+            int skipped = 0;
+            for (int i = 0; i < perm.length && content.size() < limit; i++) {
+                int row = perm[ascending ? i : perm.length - 1 - i];
+                if (!matches.get(row)) {
+                    continue;
+                }
+                if (skipped++ < offset) {
+                    continue;
+                }
+                content.add(snap.foods[row]);
+            }
+        } else {
+            List<Food> matched = new ArrayList<>(total);
+            for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+                matched.add(snap.foods[row]);
+            }
+            matched.sort(sortOrder.toComparator());
+            content.addAll(matched.subList(offset, Math.min(offset + limit, total)));
+        }
+        return new Result(content, total);
+    }
+
+    @Getter
+    public static class Result {
+        private final List<Food> content;
+        private final long totalElements;
+
+        Result(List<Food> content, long totalElements) {
+            this.content = content;
+            this.totalElements = totalElements;
+        }
+    }
+
+    /**
+     * 특정 시점의 불변 인덱스
+     */
+    private static class Snapshot {
+        final int size;
+        final Food[] foods;
+        final long[] ids;
+        final double[][] columns;      // [영양소][행] 원본 값
+        final int[][] sortedRows;      // [영양소][순위] 값 오름차순으로 정렬된 행 번호
+        final double[][] sortedValues; // [영양소][순위] sortedRows 순서대로 나열한 값 (이분 탐색용)
+
+        Snapshot(Collection<Food> source) {
+            this.foods = source.toArray(new Food[0]);
+            this.size = foods.length;
+            this.ids = new long[size];
+            this.columns = new double[NUTRIENTS.length][size];
+            this.sortedRows = new int[NUTRIENTS.length][];
+            this.sortedValues = new double[NUTRIENTS.length][size];
+
+            for (int row = 0; row < size; row++) {
+                ids[row] = foods[row].getFoodId();
+                for (Nutrient nutrient : NUTRIENTS) {
+                    columns[nutrient.ordinal()][row] = nutrient.valueOf(foods[row]);
+                }
+            }
+            for (Nutrient nutrient : NUTRIENTS) {
+                int c = nutrient.ordinal();
+                double[] column = columns[c];
+                Integer[] boxed = new Integer[size];
+                for (int row = 0; row < size; row++) {
+                    boxed[row] = row;
+                }
+                // 값이 같으면 food_id 순으로 두어 결과 순서를 고정
+                Arrays.sort(boxed, Comparator.<Integer>comparingDouble(row -> column[row]).thenComparingLong(row -> ids[row]));
+                int[] perm = new int[size];
+                for (int rank = 0; rank < size; rank++) {
+                    perm[rank] = boxed[rank];
+                    sortedValues[c][rank] = column[perm[rank]];
+                }
+                sortedRows[c] = perm;
+            }
+        }
+
+        private Snapshot(Food[] foods, long[] ids, double[][] columns, int[][] sortedRows, double[][] sortedValues) {
+            this.size = foods.length;
+            this.foods = foods;
+            this.ids = ids;
+            this.columns = columns;
+            this.sortedRows = sortedRows;
+            this.sortedValues = sortedValues;
+        }
+
+        int rowOf(Long foodId) {
+            for (int row = 0; row < size; row++) {
+                if (ids[row] == foodId) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * removed 행을 뺀 스냅샷 (뒤쪽 행 번호는 하나씩 당겨짐, 순위 순서는 그대로 유지)
+         */
+        Snapshot without(int removed) {
+            int n = size - 1;
+            Food[] nextFoods = new Food[n];
+            long[] nextIds = new long[n];
+            System.arraycopy(foods, 0, nextFoods, 0, removed);
+            System.arraycopy(foods, removed + 1, nextFoods, removed, n - removed);
+            System.arraycopy(ids, 0, nextIds, 0, removed);
+            System.arraycopy(ids, removed + 1, nextIds, removed, n - removed);
+
+            double[][] nextColumns = new double[NUTRIENTS.length][n];
+            int[][] nextRows = new int[NUTRIENTS.length][n];
+            double[][] nextValues = new double[NUTRIENTS.length][n];
+            for (int c = 0; c < NUTRIENTS.length; c++) {
+                System.arraycopy(columns[c], 0, nextColumns[c], 0, removed);
+                System.arraycopy(columns[c], removed + 1, nextColumns[c], removed, n - removed);
+                int j = 0;
+                for (int rank = 0; rank < size; rank++) {
+                    int row = sortedRows[c][rank];
+                    if (row == removed) {
+                        continue;
+                    }
+                    nextRows[c][j] = row > removed ? row - 1 : row;
+                    nextValues[c][j] = sortedValues[c][rank];
+                    j++;
+                }
+            }
+            return new Snapshot(nextFoods, nextIds, nextColumns, nextRows, nextValues);
+        }
+
+        /**
+         * food를 마지막 행으로 추가한 스냅샷 (각 순열에는 (값, food_id) 순서를 지키는 위치에 끼워 넣음)
+         */
+        Snapshot with(Food food) {
+            int n = size + 1;
+            int added = size;
+            Food[] nextFoods = Arrays.copyOf(foods, n);
+            long[] nextIds = Arrays.copyOf(ids, n);
+            nextFoods[added] = food;
+            nextIds[added] = food.getFoodId();
+
+            double[][] nextColumns = new double[NUTRIENTS.length][];
+            int[][] nextRows = new int[NUTRIENTS.length][n];
+            double[][] nextValues = new double[NUTRIENTS.length][n];
+            for (Nutrient nutrient : NUTRIENTS) {
+                int c = nutrient.ordinal();
+                double value = nutrient.valueOf(food);
+                nextColumns[c] = Arrays.copyOf(columns[c], n);
+                nextColumns[c][added] = value;
+
+                int at = insertionRank(c, value, food.getFoodId());
+                System.arraycopy(sortedRows[c], 0, nextRows[c], 0, at);
+                System.arraycopy(sortedValues[c], 0, nextValues[c], 0, at);
+                nextRows[c][at] = added;
+                nextValues[c][at] = value;
+                System.arraycopy(sortedRows[c], at, nextRows[c], at + 1, size - at);
+                System.arraycopy(sortedValues[c], at, nextValues[c], at + 1, size - at);
+            }
+            return new Snapshot(nextFoods, nextIds, nextColumns, nextRows, nextValues);
+        }
+
+        // (값, food_id)가 새 항목보다 큰 첫 순위
+        private int insertionRank(int c, double value, long foodId) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int cmp = Double.compare(sortedValues[c][mid], value);
+                if (cmp < 0 || (cmp == 0 && ids[sortedRows[c][mid]] < foodId)) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        BitSet match(NutrientFilter filter) {
+            BitSet matches = new BitSet(size);
+            Nutrient driver = null;
+            int driverFrom = 0;
+            int driverTo = size;
+
+            // 1. 조건이 걸린 컬럼 중 후보 구간이 가장 좁은 컬럼을 기준(driver)으로 선택
+            for (Nutrient nutrient : NUTRIENTS) {
+                if (!filter.isBounded(nutrient)) {
+                    continue;
+                }
+                if (filter.isEmptyRange(nutrient)) {
+                    return matches;
+                }
+                double[] values = sortedValues[nutrient.ordinal()];
+                int from = lowerBound(values, filter.getMin(nutrient));
+                int to = upperBound(values, filter.getMax(nutrient));
+                if (driver == null || to - from < driverTo - driverFrom) {
+                    driver = nutrient;
+                    driverFrom = from;
+                    driverTo = to;
+                }
+            }
+
+            if (driver == null) { // 조건 없음 -> 전체
+                matches.set(0, size);
+                return matches;
+            }
+
+            // 2. 기준 구간의 행만 나머지 조건으로 검사
+            int[] perm = sortedRows[driver.ordinal()];
+            for (int rank = driverFrom; rank < driverTo; rank++) {
+                int row = perm[rank];
+                boolean ok = true;
+                for (Nutrient nutrient : NUTRIENTS) {
+                    if (nutrient != driver && filter.isBounded(nutrient)
+                            && !filter.matches(nutrient, columns[nutrient.ordinal()][row])) {
+                        ok = false;
+                        break;
+                    }
+                }
+                if (ok) {
+                    matches.set(row);
+                }
+            }
+            return matches;
+        }
+
+        // values[i] >= key 인 첫 위치
+        private static int lowerBound(double[] values, double key) {
+            int lo = 0;
+            int hi = values.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] < key) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        // values[i] > key 인 첫 위치
+        private static int upperBound(double[] values, double key) {
+            int lo = 0;
+            int hi = values.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] <= key) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
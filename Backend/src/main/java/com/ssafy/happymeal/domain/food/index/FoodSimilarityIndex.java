@@ -0,0 +1,275 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 영양소 벡터 최근접 이웃(kNN) 인덱스 - "비슷한 음식" 조회용
+ * - (칼로리, 탄수화물, 당류, 단백질, 지방)을 각 표준편차로 나눈 정규화 벡터에 대해 배열 기반 KD-트리를 구성합니다.
+ * - 음식 추가/수정/삭제는 트리를 다시 만들지 않고 작은 변경분(추가 목록 + 삭제 표시)에 쌓아 두었다가,
+ *   변경분이 일정 크기를 넘으면 그때 전체를 재구성합니다. 조회 시 변경분은 전수 비교합니다.
+ */
+@Slf4j
+@Component
+public class FoodSimilarityIndex implements FoodIndex {
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+    private static final int DIMENSIONS = NUTRIENTS.length;
+    private static final int MIN_DELTA_BEFORE_REBUILD = 256;
+    private static final double MAX_DELTA_RATIO = 0.05; // 전체 대비 변경분이 이 비율을 넘으면 재구성
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    @Override
+    public void rebuild(Collection<Food> foods) {
+        long start = System.currentTimeMillis();
+        snapshot = new Snapshot(foods);
+        log.debug("유사 음식 KD-트리 재구성 완료: {}건 ({}ms)", foods.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void upsert(Food food, Collection<Food> foods) {
+        Snapshot current = this.snapshot;
+        if (current.needsRebuild()) {
+            rebuild(foods);
+            return;
+        }
+        snapshot = current.withChange(food.getFoodId(), food);
+    }
+
+    @Override
+    public void remove(Long foodId, Collection<Food> foods) {
+        Snapshot current = this.snapshot;
+        if (current.needsRebuild()) {
+            rebuild(foods);
+            return;
+        }
+        snapshot = current.withChange(foodId, null);
+    }
+
+    /**
+     * base와 영양소 구성이 가장 비슷한 음식 최대 k개 (base 자신 제외, 가까운 순)
+     * @param filter 후보 조건 (카테고리, "당류가 더 적은" 등), 조건을 만족하는 음식만 결과에 포함
+     */
+    public List<Food> nearest(Food base, int k, Predicate<Food> filter) {
+        Snapshot snap = this.snapshot;
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        double[] query = snap.normalize(base);
+        Predicate<Food> accept = food -> !food.getFoodId().equals(base.getFoodId()) && filter.test(food);
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b.distance, a.distance));
+
+        snap.searchTree(0, snap.treeFoods.length, query, k, accept, heap);
+        for (Food food : snap.added) { // 마지막 재구성 이후 추가/수정된 음식
+            offer(heap, k, food, squaredDistance(query, snap.normalize(food)), accept);
+        }
+
+        List<Food> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().food);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static void offer(PriorityQueue<Neighbor> heap, int k, Food food, double distance, Predicate<Food> accept) {
+        if (heap.size() == k && distance >= heap.peek().distance) {
+            return;
+        }
+        if (!accept.test(food)) {
+            return;
+        }
+        heap.add(new Neighbor(food, distance));
+        if (heap.size() > k) {
+            heap.poll();
+        }
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double diff = a[d] - b[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private record Neighbor(Food food, double distance) {
+    }
+
+    /**
+     * 불변 스냅샷: KD-트리(재구성 시점) + 이후 변경분
+     * 트리는 구간 [lo, hi)의 중앙 원소를 노드로 두는 암시적 배열 구조로, 노드별 분할 축만 따로 저장합니다.
+     */
+    private static class Snapshot {
+        final double[] scale;          // 차원별 정규화 계수 (1 / 표준편차)
+        final Food[] treeFoods;        // 트리 순서로 배치한 음식
+        final double[][] points;       // treeFoods와 같은 순서의 정규화 벡터
+        final byte[] splitAxis;        // 노드(= 구간 중앙 위치)별 분할 축
+        final Set<Long> tombstones;    // 트리에 있지만 삭제/수정되어 무시할 food_id
+        final List<Food> added;        // 트리에 없는 추가/수정 음식
+
+        Snapshot(Collection<Food> source) {
+            this.treeFoods = source.toArray(new Food[0]);
+            this.scale = computeScale(treeFoods);
+            this.points = new double[treeFoods.length][];
+            for (int i = 0; i < treeFoods.length; i++) {
+                points[i] = normalize(treeFoods[i]);
+            }
+            this.splitAxis = new byte[treeFoods.length];
+            this.tombstones = Collections.emptySet();
+            this.added = Collections.emptyList();
+            build(0, treeFoods.length);
+        }
+
+        private Snapshot(Snapshot base, Set<Long> tombstones, List<Food> added) {
+            this.scale = base.scale;
+            this.treeFoods = base.treeFoods;
+            this.points = base.points;
+            this.splitAxis = base.splitAxis;
+            this.tombstones = tombstones;
+            this.added = added;
+        }
+
+        boolean needsRebuild() {
+            int delta = tombstones.size() + added.size();
+            return delta >= MIN_DELTA_BEFORE_REBUILD && delta > treeFoods.length * MAX_DELTA_RATIO;
+        }
+
+        // food == null 이면 삭제
+        Snapshot withChange(Long foodId, Food food) {
+            Set<Long> nextTombstones = new HashSet<>(tombstones);
+            nextTombstones.add(foodId);
+            List<Food> nextAdded = new ArrayList<>(added.size() + 1);
+            for (Food existing : added) {
+                if (!existing.getFoodId().equals(foodId)) {
+                    nextAdded.add(existing);
+                }
+            }
+            if (food != null) {
+                nextAdded.add(food);
+            }
+            return new Snapshot(this, nextTombstones, nextAdded);
+        }
+
+        double[] normalize(Food food) {
+            double[] vector = new double[DIMENSIONS];
+            for (Nutrient nutrient : NUTRIENTS) {
+                vector[nutrient.ordinal()] = nutrient.valueOf(food) * scale[nutrient.ordinal()];
+            }
+            return vector;
+        }
+
+        private static double[] computeScale(Food[] foods) {
+            double[] scale = new double[DIMENSIONS];
+            for (Nutrient nutrient : NUTRIENTS) {
+                int d = nutrient.ordinal();
+                double sum = 0;
+                double sumSq = 0;
+                for (Food food : foods) {
+                    double v = nutrient.valueOf(food);
+                    sum += v;
+                    sumSq += v * v;
+                }
+                double variance = foods.length == 0 ? 0 : sumSq / foods.length - Math.pow(sum / foods.length, 2);
+                scale[d] = variance > 1e-9 ? 1 / Math.sqrt(variance) : 1;
+            }
+            return scale;
+        }
+
+        // 구간에서 분산이 가장 큰 축을 골라 중앙값 기준으로 나눔 (quickselect, 평균 O(n log n))
+        private void build(int lo, int hi) {
+            if (hi - lo <= 1) {
+                return;
+            }
+            int axis = widestAxis(lo, hi);
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, axis);
+            splitAxis[mid] = (byte) axis;
+            build(lo, mid);
+            build(mid + 1, hi);
+        }
+
+        private int widestAxis(int lo, int hi) {
+            int best = 0;
+            double bestSpread = -1;
+            for (int d = 0; d < DIMENSIONS; d++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = lo; i < hi; i++) {
+                    min = Math.min(min, points[i][d]);
+                    max = Math.max(max, points[i][d]);
+                }
+                if (max - min > bestSpread) {
+                    bestSpread = max - min;
+                    best = d;
+                }
+            }
+            return best;
+        }
+
+        private void select(int left, int right, int k, int axis) {
+            while (left < right) {
+                double pivot = points[(left + right) >>> 1][axis];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (points[i][axis] < pivot) i++;
+                    while (points[j][axis] > pivot) j--;
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+                if (k <= j) right = j;
+                else if (k >= i) left = i;
+                else return;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double[] p = points[a];
+            points[a] = points[b];
+            points[b] = p;
+            Food f = treeFoods[a];
+            treeFoods[a] = treeFoods[b];
+            treeFoods[b] = f;
+        }
+
+        void searchTree(int lo, int hi, double[] query, int k, Predicate<Food> accept, PriorityQueue<Neighbor> heap) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            Food food = treeFoods[mid];
+            if (!tombstones.contains(food.getFoodId())) {
+                offer(heap, k, food, squaredDistance(query, points[mid]), accept);
+            }
+            if (hi - lo == 1) {
+                return;
+            }
+            int axis = splitAxis[mid];
+            double diff = query[axis] - points[mid][axis];
+            boolean leftFirst = diff < 0;
+            if (leftFirst) searchTree(lo, mid, query, k, accept, heap);
+            else searchTree(mid + 1, hi, query, k, accept, heap);
+            // 분할 평면까지의 거리가 현재 k번째 거리보다 가까울 때만 반대편 탐색
+            if (heap.size() < k || diff * diff < heap.peek().distance) {
+                if (leftFirst) searchTree(mid + 1, hi, query, k, accept, heap);
+                else searchTree(lo, mid, query, k, accept, heap);
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.dto.FoodSeekCondition;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.global.exception.InvalidCursorException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * "name ASC, calories DESC" 형태의 정렬 파라미터를 해석한 결과
+ * FoodServiceImpl.buildOrderByClause와 같은 필드만 허용하며, 인메모리 인덱스의 정렬(Comparator)에 사용합니다.
+ * 동일한 값끼리의 순서가 매번 같도록 마지막에는 항상 food_id 오름차순이 붙습니다.
+ * 키셋(커서) 조회용 SQL 정렬식/비교 조건도 여기서 만듭니다.
+ */
+@Slf4j
+@Getter
+public class FoodSortOrder {
+
+    // 정렬 가능한 필드(DB 컬럼명) -> Food 필드 추출 함수
+    private static final Map<String, Function<Food, Comparable<?>>> FIELD_EXTRACTORS = Map.of(
+            "name", Food::getName,
+            "calories", Food::getCalories,
+            "protein", Food::getProtein,
+            "fat", Food::getFat,
+            "sugar", Food::getSugar,
+            "carbs", Food::getCarbs,
+            "category", Food::getCategory,
+            "create_at", Food::getCreateAt,
+            "update_at", Food::getUpdateAt
+    );
+
+    // 키셋 조회에서 사용할 SQL 식: NULL 허용 컬럼은 비교가 가능하도록 값을 채워 ORDER BY와 WHERE에 똑같이 사용
+    // (schema.sql의 함수 인덱스 idx_food_category_keyset, idx_food_update_at_keyset과 식이 정확히 같아야 인덱스를 탐)
+    private static final Map<String, String> KEYSET_EXPRESSIONS = Map.of(
+            "category", "IFNULL(category, '')",
+            "update_at", "IFNULL(update_at, create_at)"
+    );
+
+    private static final FoodSortOrder DEFAULT = new FoodSortOrder(List.of(new Term("name", true)));
+
+    private final List<Term> terms;
+
+    private FoodSortOrder(List<Term> terms) {
+        this.terms = Collections.unmodifiableList(terms);
+    }
+
+    /**
+     * 정렬 파라미터 해석 (허용되지 않은 필드는 무시, 유효한 필드가 없으면 name ASC)
+     */
+    public static FoodSortOrder parse(String sortByWithDirection) {
+        if (!StringUtils.hasText(sortByWithDirection)) {
+            return DEFAULT;
+        }
+        List<Term> terms = new ArrayList<>();
+        for (String sortParam : sortByWithDirection.split(",")) {
+            String[] parts = sortParam.trim().split("\\s+");
+            String field = parts[0].toLowerCase();
+            boolean ascending = !(parts.length > 1 && "desc".equalsIgnoreCase(parts[1]));
+            if (FIELD_EXTRACTORS.containsKey(field)) {
+                terms.add(new Term(field, ascending));
+            } else {
+                log.warn("Invalid sort field provided: {}. Ignoring.", field);
+            }
+        }
+        return terms.isEmpty() ? DEFAULT : new FoodSortOrder(terms);
+    }
+
+    /**
+     * 키셋 조회용 정렬 조건: 첫 번째 정렬 필드만 남김 (나머지 필드는 무시)
+     * 정렬 필드마다 (필드, food_id) 단일 인덱스만 있으므로, 여러 필드 정렬은 어느 페이지든 전체 스캔 + filesort가 되기 때문입니다.
+     */
+    public FoodSortOrder forKeyset() {
+        if (terms.size() == 1) {
+            return this;
+        }
+        log.warn("Keyset pagination supports a single sort field. Using {} only.", first().getField());
+        return new FoodSortOrder(List.of(first()));
+    }
+
+    /**
+     * 첫 번째 정렬 기준 필드 (인덱스가 미리 정렬해 둔 순서를 그대로 쓸 수 있는지 판단할 때 사용)
+     */
+    public Term first() {
+        return terms.get(0);
+    }
+
+    /**
+     * 인메모리 정렬용 Comparator (null은 MySQL과 같이 오름차순에서 가장 앞)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparator<Food> toComparator() {
+        Comparator<Food> comparator = null;
+        for (Term term : terms) {
+            Function<Food, Comparable> extractor = (Function) FIELD_EXTRACTORS.get(term.getField());
+            Comparator<Food> next = Comparator.comparing(extractor, Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (!term.isAscending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator.thenComparing(Food::getFoodId);
+    }
+
+    /**
+     * 정렬 조건 문자열 (예: "calories DESC,name ASC"), 커서가 같은 정렬에서 만들어졌는지 확인하는 용도
+     */
+    public String signature() {
+        StringBuilder sb = new StringBuilder();
+        for (Term term : terms) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(term.getField()).append(term.isAscending() ? " ASC" : " DESC");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 키셋 조회용 ORDER BY 절
+     * 마지막에 붙는 food_id는 마지막 정렬 필드와 같은 방향으로 두어, 단일 필드 정렬이면 (필드, PK) 인덱스를 정/역방향으로 그대로 탈 수 있게 합니다.
+     */
+    public String toKeysetOrderByClause() {
+        StringBuilder sb = new StringBuilder();
+        for (Term term : terms) {
+            sb.append(keysetExpression(term.getField())).append(term.isAscending() ? " ASC, " : " DESC, ");
+        }
+        return sb.append("food_id").append(terms.get(terms.size() - 1).isAscending() ? " ASC" : " DESC").toString();
+    }
+
+    /**
+     * 음식 한 건의 정렬 키 값 (커서에 담을 문자열, NULL은 KEYSET_EXPRESSIONS와 같은 값으로 채움)
+     */
+    public List<String> keyOf(Food food) {
+        List<String> key = new ArrayList<>(terms.size());
+        for (Term term : terms) {
+            Object value = switch (term.getField()) {
+                case "category" -> food.getCategory() == null ? "" : food.getCategory();
+                case "update_at" -> food.getUpdateAt() == null ? food.getCreateAt() : food.getUpdateAt();
+                default -> FIELD_EXTRACTORS.get(term.getField()).apply(food);
+            };
+            key.add(value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value));
+        }
+        return key;
+    }
+
+    /**
+     * 커서 이후의 행만 남기는 WHERE 조건 (OR로 묶인 분기 목록, 각 분기는 AND 조건 목록)
+     * 예: calories DESC, name ASC -> (calories &lt; c) OR (calories = c AND name &gt; n) OR (calories = c AND name = n AND food_id &gt; id)
+     * 정렬 방향이 섞여 있어도 동작하도록 행 생성자 비교 대신 펼친 형태로 만듭니다.
+     *
+     * @throws InvalidCursorException 키 개수나 값 형식이 현재 정렬 조건과 맞지 않는 경우
+     */
+    public List<List<FoodSeekCondition>> seekAfter(List<String> key, Long lastFoodId) {
+        if (key == null || key.size() != terms.size() || lastFoodId == null) {
+            throw new InvalidCursorException("커서가 현재 정렬 조건과 맞지 않습니다.");
+        }
+        List<Object> values = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            values.add(parseKeyValue(terms.get(i).getField(), key.get(i)));
+        }
+
+        List<List<FoodSeekCondition>> branches = new ArrayList<>(terms.size() + 1);
+        for (int i = 0; i <= terms.size(); i++) {
+            List<FoodSeekCondition> branch = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                branch.add(new FoodSeekCondition(keysetExpression(terms.get(j).getField()), "=", values.get(j)));
+            }
+            if (i < terms.size()) {
+                Term term = terms.get(i);
+                branch.add(new FoodSeekCondition(keysetExpression(term.getField()), term.isAscending() ? ">" : "<", values.get(i)));
+            } else {
+                boolean ascending = terms.get(terms.size() - 1).isAscending();
+                branch.add(new FoodSeekCondition("food_id", ascending ? ">" : "<", lastFoodId));
+            }
+            branches.add(branch);
+        }
+        return branches;
+    }
+
+    private static String keysetExpression(String field) {
+        return KEYSET_EXPRESSIONS.getOrDefault(field, field);
+    }
+
+    // 커서 문자열 값을 컬럼 타입에 맞게 변환 (문자열 그대로 비교하면 숫자가 사전순으로 비교될 수 있음)
+    private static Object parseKeyValue(String field, String value) {
+        try {
+            return switch (field) {
+                case "name", "category" -> value;
+                case "create_at", "update_at" -> LocalDateTime.parse(value);
+                default -> new BigDecimal(value);
+            };
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("커서 값 형식이 올바르지 않습니다: " + field, e);
+        }
+    }
+
+    @Getter
+    public static class Term {
+        private final String field;       // DB 컬럼명 (예: calories, create_at)
+        private final boolean ascending;
+
+        public Term(String field, boolean ascending) {
+            this.field = field;
+            this.ascending = ascending;
+        }
+    }
+}
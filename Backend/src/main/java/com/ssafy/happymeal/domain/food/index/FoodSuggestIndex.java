@@ -0,0 +1,361 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.dto.FoodSuggestionDto;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.util.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 음식 이름 자동완성용 접두어 트라이 (DB 조회 없음)
+ * - 공백을 뺀 이름 전체와 각 단어 시작 위치부터의 접미 문자열을 키로 넣고, 같은 키의 초성 변환본(예: "ㄷㄱㅅㅅ")도 함께 넣습니다.
+ * - 노드는 배열로 평탄화(자식은 라벨 순으로 연속 배치)하고, 노드마다 상위 N개 결과를 미리 계산해 두므로
+ *   조회 비용은 검색어 길이에만 비례합니다.
+ * - 음식 추가/수정/삭제는 트라이를 다시 만들지 않고 변경분(추가 목록 + 삭제 표시)에 쌓아 두었다가,
+ *   변경분이 일정 크기를 넘으면 그때 전체를 재구성합니다. 조회 시 변경분은 전수 비교합니다.
+ */
+@Slf4j
+@Component
+public class FoodSuggestIndex implements FoodIndex {
+
+    public static final int MAX_SUGGESTIONS = 10; // 노드마다 미리 계산해 두는 결과 수 (= 응답 최대 개수)
+    private static final int MIN_DELTA_BEFORE_REBUILD = 256;
+    private static final double MAX_DELTA_RATIO = 0.05; // 전체 대비 변경분이 이 비율을 넘으면 재구성
+
+    // 짧은 이름 우선, 같은 길이면 가나다순
+    private static final Comparator<Food> RANKING = Comparator
+            .comparingInt((Food food) -> food.getName() == null ? Integer.MAX_VALUE : food.getName().length())
+            .thenComparing(Food::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Food::getFoodId);
+
+    private volatile Trie trie = new Trie(Collections.emptyList());
+
+    @Override
+    public void rebuild(Collection<Food> foods) {
+        long start = System.currentTimeMillis();
+        trie = new Trie(foods);
+        log.debug("음식 자동완성 트라이 재구성 완료: {}건, 노드 {}개 ({}ms)",
+                foods.size(), trie.labels.length, System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void upsert(Food food, Collection<Food> foods) {
+        Trie current = this.trie;
+        if (current.needsRebuild()) {
+            rebuild(foods);
+            return;
+        }
+        trie = current.withChange(food.getFoodId(), food);
+    }
+
+    @Override
+    public void remove(Long foodId, Collection<Food> foods) {
+        Trie current = this.trie;
+        if (current.needsRebuild()) {
+            rebuild(foods);
+            return;
+        }
+        trie = current.withChange(foodId, null);
+    }
+
+    /**
+     * 검색어로 시작하는 음식 이름 상위 limit개
+     * - 초성만으로 된 검색어(예: "ㄷㄱ")는 초성 키를 그대로 따라갑니다.
+     * - 음절과 초성이 섞인 검색어(예: "닭ㄱ")는 음절 키를 따라가되, 초성 위치에서는 해당 초성으로 시작하는 자식 음절을 모두 탐색합니다.
+     */
+    public List<FoodSuggestionDto> suggest(String keyword, int limit) {
+        String query = compact(HangulUtils.normalize(keyword));
+        if (query.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Trie current = this.trie;
+        int[] docs = isAllChosung(query) || !HangulUtils.containsChosung(query)
+                ? current.lookup(query)
+                : current.lookupMixed(query);
+
+        List<FoodSuggestionDto> result = new ArrayList<>(Math.min(limit, docs.length));
+        if (current.tombstones.isEmpty() && current.added.isEmpty()) {
+            for (int i = 0; i < docs.length && i < limit; i++) {
+                Food food = current.foods[docs[i]];
+                result.add(new FoodSuggestionDto(food.getFoodId(), food.getName()));
+            }
+            return result;
+        }
+
+        // 변경분 반영: 삭제 표시된 음식을 빼고 추가 목록 중 일치하는 음식을 합쳐 다시 순위 정렬
+        List<Food> candidates = new ArrayList<>();
+        boolean dropped = false;
+        for (int doc : docs) {
+            Food food = current.foods[doc];
+            if (current.tombstones.contains(food.getFoodId())) {
+                dropped = true;
+            } else {
+                candidates.add(food);
+            }
+        }
+        if (dropped && docs.length == MAX_SUGGESTIONS) {
+            // 노드에는 상위 N개만 있으므로 빠진 자리를 채울 다음 순위를 알 수 없음 -> 트라이의 음식을 전수 비교
+            candidates.clear();
+            for (Food food : current.foods) {
+                if (!current.tombstones.contains(food.getFoodId()) && matches(food, query)) {
+                    candidates.add(food);
+                }
+            }
+        }
+        for (Food food : current.added) {
+            if (matches(food, query)) {
+                candidates.add(food);
+            }
+        }
+        candidates.sort(RANKING);
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            Food food = candidates.get(i);
+            result.add(new FoodSuggestionDto(food.getFoodId(), food.getName()));
+        }
+        return result;
+    }
+
+    /**
+     * 트라이 조회와 같은 규칙의 선형 비교: 키 중 하나가 검색어로 시작 (초성 위치는 해당 초성으로 시작하는 음절과 일치)
+     */
+    private static boolean matches(Food food, String query) {
+        for (String key : keysOf(food)) {
+            if (key.length() < query.length()) {
+                continue;
+            }
+            boolean ok = true;
+            for (int i = 0; i < query.length() && ok; i++) {
+                char q = query.charAt(i);
+                char k = key.charAt(i);
+                ok = q == k || (HangulUtils.isChosung(q) && HangulUtils.chosungOf(k) == q);
+            }
+            if (ok) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAllChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!HangulUtils.isChosung(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String compact(String text) {
+        return text.replaceAll("\\s+", "");
+    }
+
+    /**
+     * 자동완성 키: 공백 제거한 이름 전체 + 각 단어 시작부터의 접미 문자열 (예: "훈제 닭가슴살" -> 훈제닭가슴살, 닭가슴살)
+     */
+    private static Set<String> keysOf(Food food) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = HangulUtils.normalize(food.getName());
+        if (name.isEmpty()) {
+            return keys;
+        }
+        String[] words = name.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            keys.add(String.join("", Arrays.copyOfRange(words, i, words.length)));
+        }
+        return keys;
+    }
+
+    /**
+     * 배열 기반 불변 트라이
+     */
+    private static class Trie {
+        final Food[] foods;
+        final char[] labels;       // 노드로 들어오는 간선 문자 (루트는 미사용)
+        final int[] firstChild;    // 첫 자식 노드 번호
+        final int[] childCount;    // 자식 수 (자식들은 라벨 오름차순으로 연속 배치)
+        final int[][] top;         // 노드별 상위 결과 (음식 번호, 순위순)
+        final Set<Long> tombstones; // 트라이에 있지만 삭제/수정되어 무시할 food_id
+        final List<Food> added;     // 트라이에 없는 추가/수정 음식
+
+        private Trie(Trie base, Set<Long> tombstones, List<Food> added) {
+            this.foods = base.foods;
+            this.labels = base.labels;
+            this.firstChild = base.firstChild;
+            this.childCount = base.childCount;
+            this.top = base.top;
+            this.tombstones = tombstones;
+            this.added = added;
+        }
+
+        boolean needsRebuild() {
+            int delta = tombstones.size() + added.size();
+            return delta >= MIN_DELTA_BEFORE_REBUILD && delta > foods.length * MAX_DELTA_RATIO;
+        }
+
+        // food == null 이면 삭제
+        Trie withChange(Long foodId, Food food) {
+            Set<Long> nextTombstones = new HashSet<>(tombstones);
+            nextTombstones.add(foodId);
+            List<Food> nextAdded = new ArrayList<>(added.size() + 1);
+            for (Food existing : added) {
+                if (!existing.getFoodId().equals(foodId)) {
+                    nextAdded.add(existing);
+                }
+            }
+            if (food != null) {
+                nextAdded.add(food);
+            }
+            return new Trie(this, nextTombstones, nextAdded);
+        }
+
+        Trie(Collection<Food> source) {
+            this.tombstones = Collections.emptySet();
+            this.added = Collections.emptyList();
+            Food[] sorted = source.toArray(new Food[0]);
+            Arrays.sort(sorted, RANKING);
+            this.foods = sorted;
+
+            // 1. 빌드용 포인터 트라이 (순위 순서대로 넣으므로 노드마다 먼저 들어온 N개가 곧 상위 N개)
+            BuildNode root = new BuildNode();
+            int nodeCount = 1;
+            for (int doc = 0; doc < sorted.length; doc++) {
+                Set<String> keys = keysOf(sorted[doc]);
+                Set<String> allKeys = new LinkedHashSet<>(keys);
+                for (String key : keys) {
+                    allKeys.add(HangulUtils.toChosung(key));
+                }
+                for (String key : allKeys) {
+                    BuildNode node = root;
+                    for (int i = 0; i < key.length(); i++) {
+                        BuildNode child = node.children.get(key.charAt(i));
+                        if (child == null) {
+                            child = new BuildNode();
+                            node.children.put(key.charAt(i), child);
+                            nodeCount++;
+                        }
+                        child.offer(doc);
+                        node = child;
+                    }
+                }
+            }
+
+            // 2. 너비 우선으로 배열에 평탄화 (같은 부모의 자식은 연속 구간)
+            this.labels = new char[nodeCount];
+            this.firstChild = new int[nodeCount];
+            this.childCount = new int[nodeCount];
+            this.top = new int[nodeCount][];
+            Deque<BuildNode> queue = new ArrayDeque<>();
+            queue.add(root);
+            int index = 0;
+            int next = 1;
+            while (!queue.isEmpty()) {
+                BuildNode node = queue.poll();
+                top[index] = Arrays.copyOf(node.top, node.topSize);
+                firstChild[index] = next;
+                childCount[index] = node.children.size();
+                for (var entry : node.children.entrySet()) {
+                    labels[next++] = entry.getKey();
+                    queue.add(entry.getValue());
+                }
+                index++;
+            }
+        }
+
+        int[] lookup(String key) {
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                node = child(node, key.charAt(i));
+                if (node < 0) {
+                    return new int[0];
+                }
+            }
+            return top[node];
+        }
+
+        private int child(int node, char label) {
+            int lo = firstChild[node];
+            int hi = lo + childCount[node] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (labels[mid] < label) lo = mid + 1;
+                else if (labels[mid] > label) hi = mid - 1;
+                else return mid;
+            }
+            return -1;
+        }
+
+        /**
+         * 초성이 섞인 검색어: 도달한 노드들의 상위 결과를 합친 뒤 순위(= 음식 번호) 순으로 정렬
+         * 각 노드의 상위 N개는 그 하위 전체의 상위 N개이므로 합집합의 앞 N개가 곧 정답입니다.
+         */
+        int[] lookupMixed(String query) {
+            List<Integer> reached = new ArrayList<>();
+            collect(0, query, 0, reached);
+            TreeSet<Integer> merged = new TreeSet<>();
+            for (int node : reached) {
+                for (int doc : top[node]) {
+                    merged.add(doc);
+                }
+            }
+            int[] docs = new int[Math.min(merged.size(), MAX_SUGGESTIONS)];
+            int i = 0;
+            for (int doc : merged) {
+                if (i == docs.length) {
+                    break;
+                }
+                docs[i++] = doc;
+            }
+            return docs;
+        }
+
+        private void collect(int node, String query, int depth, List<Integer> reached) {
+            if (depth == query.length()) {
+                reached.add(node);
+                return;
+            }
+            char c = query.charAt(depth);
+            if (!HangulUtils.isChosung(c)) {
+                int next = child(node, c);
+                if (next >= 0) {
+                    collect(next, query, depth + 1, reached);
+                }
+                return;
+            }
+            // 초성 위치: 그 초성으로 시작하는 음절 자식 전부 (자식이 라벨순이라 연속 구간)
+            int from = firstChild[node];
+            int to = from + childCount[node];
+            for (int next = from; next < to; next++) {
+                if (HangulUtils.chosungOf(labels[next]) == c) {
+                    collect(next, query, depth + 1, reached);
+                }
+            }
+        }
+    }
+
+    private static class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final int[] top = new int[MAX_SUGGESTIONS];
+        int topSize = 0;
+
+        void offer(int doc) {
+            if (topSize == MAX_SUGGESTIONS || (topSize > 0 && top[topSize - 1] == doc)) {
+                return; // 이미 가득 찼거나 같은 음식의 다른 키로 들어온 경우
+            }
+            top[topSize++] = doc;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * 인메모리 인덱스에서 다루는 영양소 컬럼 (모두 100g 기준 값)
+ */
+public enum Nutrient {
+    CALORIES("calories", Food::getCalories),
+    CARBS("carbs", Food::getCarbs),
+    SUGAR("sugar", Food::getSugar),
+    PROTEIN("protein", Food::getProtein),
+    FAT("fat", Food::getFat);
+
+    private final String column; // DB 컬럼명 (정렬 파라미터와 동일)
+    private final Function<Food, BigDecimal> extractor;
+
+    Nutrient(String column, Function<Food, BigDecimal> extractor) {
+        this.column = column;
+        this.extractor = extractor;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * 음식의 영양소 값을 double로 반환 (DB 컬럼이 NOT NULL DEFAULT 0이므로 null은 0으로 취급)
+     */
+    public double valueOf(Food food) {
+        BigDecimal value = extractor.apply(food);
+        return value == null ? 0d : value.doubleValue();
+    }
+
+    public static Nutrient fromColumn(String column) {
+        for (Nutrient nutrient : values()) {
+            if (nutrient.column.equalsIgnoreCase(column)) {
+                return nutrient;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+
+import java.util.Arrays;
+
+/**
+ * 영양소별 최소/최대 범위 조건 (양 끝 포함, SQL의 &gt;= / &lt;= 와 동일)
+ * 지정하지 않은 경계는 무한대로 취급합니다.
+ */
+public class NutrientFilter {
+
+    private final double[] min = new double[Nutrient.values().length];
+    private final double[] max = new double[Nutrient.values().length];
+
+    public NutrientFilter() {
+        Arrays.fill(min, Double.NEGATIVE_INFINITY);
+        Arrays.fill(max, Double.POSITIVE_INFINITY);
+    }
+
+    public NutrientFilter min(Nutrient nutrient, Number value) {
+        if (value != null) {
+            min[nutrient.ordinal()] = value.doubleValue();
+        }
+        return this;
+    }
+
+    public NutrientFilter max(Nutrient nutrient, Number value) {
+        if (value != null) {
+            max[nutrient.ordinal()] = value.doubleValue();
+        }
+        return this;
+    }
+
+    public double getMin(Nutrient nutrient) {
+        return min[nutrient.ordinal()];
+    }
+
+    public double getMax(Nutrient nutrient) {
+        return max[nutrient.ordinal()];
+    }
+
+    public boolean isBounded(Nutrient nutrient) {
+        return min[nutrient.ordinal()] != Double.NEGATIVE_INFINITY || max[nutrient.ordinal()] != Double.POSITIVE_INFINITY;
+    }
+
+    public boolean isEmptyRange(Nutrient nutrient) {
+        return min[nutrient.ordinal()] > max[nutrient.ordinal()];
+    }
+
+    public boolean matches(Nutrient nutrient, double value) {
+        return value >= min[nutrient.ordinal()] && value <= max[nutrient.ordinal()];
+    }
+
+    /**
+     * 음식 한 건이 모든 범위 조건을 만족하는지 검사
+     */
+    public boolean matches(Food food) {
+        for (Nutrient nutrient : Nutrient.values()) {
+            if (isBounded(nutrient) && !matches(nutrient, nutrient.valueOf(food))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
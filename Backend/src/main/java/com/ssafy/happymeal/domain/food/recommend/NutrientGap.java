@@ -0,0 +1,78 @@
+package com.ssafy.happymeal.domain.food.recommend;
+
+import com.ssafy.happymeal.domain.food.index.Nutrient;
+import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자의 남은 영양소 섭취량(부족분) 벡터
+ * - 오늘 섭취량을 1일 영양성분 기준치에서 빼고, 최근 6일(기록이 있는 날만) 평균 과부족을 일부 반영합니다.
+ * - 음식 한 끼로 채울 목표는 남은 양과 기준치의 1/3(한 끼 분량) 중 작은 값입니다.
+ */
+public class NutrientGap {
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    // 식품 등 표시 기준 1일 영양성분 기준치 (칼로리 kcal, 나머지 g) - Nutrient 순서와 동일
+    private static final double[] DAILY_REFERENCE = {2000, 324, 100, 55, 54};
+    private static final double MEALS_PER_DAY = 3;
+    private static final double WEEKLY_WEIGHT = 0.3; // 지난 기록의 평균 과부족 반영 비율
+
+    private final double[] perMealTarget = new double[NUTRIENTS.length];
+
+    private NutrientGap() {
+    }
+
+    /**
+     * @param stats today를 포함한 최근 7일의 일별 통계 (기록이 없는 날은 빠져 있을 수 있음)
+     */
+    public static NutrientGap of(List<MealLogStatsDto> stats, LocalDate today) {
+        double[] consumedToday = new double[NUTRIENTS.length];
+        double[] consumedBefore = new double[NUTRIENTS.length];
+        int loggedDaysBefore = 0;
+        for (MealLogStatsDto day : stats) {
+            boolean isToday = today.equals(day.getDate());
+            if (!isToday) {
+                loggedDaysBefore++;
+            }
+            double[] target = isToday ? consumedToday : consumedBefore;
+            target[Nutrient.CALORIES.ordinal()] += toDouble(day.getTotalCalories());
+            target[Nutrient.CARBS.ordinal()] += toDouble(day.getTotalCarbs());
+            target[Nutrient.SUGAR.ordinal()] += toDouble(day.getTotalSugar());
+            target[Nutrient.PROTEIN.ordinal()] += toDouble(day.getTotalProtein());
+            target[Nutrient.FAT.ordinal()] += toDouble(day.getTotalFat());
+        }
+
+        NutrientGap gap = new NutrientGap();
+        for (Nutrient nutrient : NUTRIENTS) {
+            int n = nutrient.ordinal();
+            double weeklyDeficit = loggedDaysBefore == 0 ? 0
+                    : DAILY_REFERENCE[n] - consumedBefore[n] / loggedDaysBefore; // 음수면 지난 며칠 과잉 섭취
+            double remaining = Math.max(0, DAILY_REFERENCE[n] - consumedToday[n] + WEEKLY_WEIGHT * weeklyDeficit);
+            gap.perMealTarget[n] = Math.min(remaining, DAILY_REFERENCE[n] / MEALS_PER_DAY);
+        }
+        return gap;
+    }
+
+    /**
+     * 음식(100g 기준 값)과 한 끼 목표 사이의 거리 (작을수록 적합)
+     * 영양소마다 기준치로 나누어 단위를 맞추고, 칼로리/당류/지방이 목표를 넘는 경우는 더 크게 벌점을 줍니다.
+     */
+    public double distance(double[] nutrients) {
+        double sum = 0;
+        for (Nutrient nutrient : NUTRIENTS) {
+            int n = nutrient.ordinal();
+            double diff = (nutrients[n] - perMealTarget[n]) / DAILY_REFERENCE[n];
+            boolean overLimit = diff > 0 && nutrient != Nutrient.CARBS && nutrient != Nutrient.PROTEIN;
+            sum += (overLimit ? 2 : 1) * diff * diff;
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value == null ? 0 : value.doubleValue();
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.happymeal.domain.food.recommend;
+
+import com.ssafy.happymeal.domain.meallog.event.MealLogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 식단 기록이 바뀌면 해당 사용자의 맞춤 추천 캐시 버전을 올려 무효화 (다음 조회 시 한 번만 다시 계산)
+ * 키를 지우는 대신 버전을 바꾸므로, 커밋 전 통계로 계산 중이던 요청이 나중에 저장해도 새 키에는 남지 않습니다.
+ * 음식이 바뀐 경우는 FoodChangedEventListener가 카탈로그 반영 후 전역 버전을 올려 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PersonalRecommendationEvictListener {
+
+    private final PersonalRecommendationKeys personalRecommendationKeys;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealLogChanged(MealLogChangedEvent event) {
+        personalRecommendationKeys.invalidateUser(event.getUserId());
+    }
+}
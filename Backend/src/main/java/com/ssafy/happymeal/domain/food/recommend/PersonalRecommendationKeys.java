@@ -0,0 +1,75 @@
+package com.ssafy.happymeal.domain.food.recommend;
+
+import com.ssafy.happymeal.util.CacheConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자 맞춤 추천 캐시 키 (recommendations:personal:{version}:{userVersion}:{userId})
+ * 추천 결과는 모든 음식의 영양 정보에 의존하므로, 음식이 바뀌면 전역 버전을 올려 모든 사용자의 키를 한 번에 무효화합니다.
+ * 식단 기록이 바뀌면 사용자 버전을 올립니다. 키를 지우지 않고 버전을 바꾸므로, 커밋 전에 통계를 읽은 요청이
+ * 무효화 이후에 결과를 저장하더라도 이전 버전 키에 저장되어 다시 읽히지 않습니다. (이전 버전 키는 자정 만료로 정리됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersonalRecommendationKeys {
+
+    // 추천 캐시(자정 만료, 최대 1일)보다 길게 두어, 버전이 만료되어 0으로 돌아가도 같은 키의 이전 값이 남아 있지 않게 함
+    private static final Duration USER_VERSION_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 현재 버전 기준 사용자 캐시 키 (버전 조회 실패 시 null -> 캐시를 쓰지 않음)
+     * 조회 결과를 계산하기 전에 받아 두고, 계산한 값은 이 키에만 저장해야 합니다.
+     */
+    public String cacheKey(Long userId) {
+        try {
+            List<String> versions = stringRedisTemplate.opsForValue()
+                    .multiGet(List.of(CacheConstants.PERSONAL_RECOMMENDATIONS_VERSION_KEY, userVersionKey(userId)));
+            String version = versions == null ? null : versions.get(0);
+            String userVersion = versions == null ? null : versions.get(1);
+            return CacheConstants.PERSONAL_RECOMMENDATIONS_KEY_PREFIX + (version == null ? "0" : version) + ":"
+                    + (userVersion == null ? "0" : userVersion) + ":" + userId;
+        } catch (Exception e) {
+            log.error("맞춤 추천 캐시 버전 조회 중 Redis 오류 (userId: {})", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 식단 기록 변경 시 사용자 버전 증가 (이후 조회는 새 키에서 다시 계산)
+     */
+    public void invalidateUser(Long userId) {
+        String key = userVersionKey(userId);
+        try {
+            stringRedisTemplate.opsForValue().increment(key);
+            stringRedisTemplate.expire(key, USER_VERSION_TTL);
+        } catch (Exception e) {
+            // 기존 키는 자정에 만료되므로 실패 시에도 그날 안에는 정리됨
+            log.error("맞춤 추천 캐시 사용자 버전 증가 중 Redis 오류 (userId: {})", userId, e);
+        }
+    }
+
+    /**
+     * 음식 변경 시 전역 버전 증가 (이후 조회는 새 키에서 다시 계산)
+     */
+    public void invalidateAll() {
+        try {
+            stringRedisTemplate.opsForValue().increment(CacheConstants.PERSONAL_RECOMMENDATIONS_VERSION_KEY);
+        } catch (Exception e) {
+            // 기존 키는 자정에 만료되므로 실패 시에도 그날 안에는 정리됨
+            log.error("맞춤 추천 캐시 버전 증가 중 Redis 오류", e);
+        }
+    }
+
+    private static String userVersionKey(Long userId) {
+        return CacheConstants.PERSONAL_RECOMMENDATIONS_USER_VERSION_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ssafy.happymeal.domain.food.recommend;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.domain.food.index.FoodIndex;
+import com.ssafy.happymeal.domain.food.index.Nutrient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 사용자 맞춤 추천용 영양소 벡터 목록
+ * 카탈로그의 모든 음식을 (칼로리, 탄수화물, 당류, 단백질, 지방) 벡터로 펼쳐 두고,
+ * 사용자의 부족분(NutrientGap)과 가장 가까운 음식 k개를 메모리에서 바로 고릅니다.
+ */
+@Slf4j
+@Component
+public class PersonalRecommender implements FoodIndex {
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    @Override
+    public void rebuild(Collection<Food> foods) {
+        snapshot = new Snapshot(foods);
+        log.debug("맞춤 추천 벡터 재구성 완료: {}건", snapshot.foods.length);
+    }
+
+    /**
+     * 부족분과의 거리가 가까운 순으로 최대 k개 (크기 k의 최대 힙으로 한 번만 훑음)
+     */
+    public List<Food> recommend(NutrientGap gap, int k) {
+        Snapshot snap = this.snapshot;
+        if (k <= 0 || snap.foods.length == 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<Scored> heap = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b.distance, a.distance));
+        for (int row = 0; row < snap.foods.length; row++) {
+            double distance = gap.distance(snap.vectors[row]);
+            if (heap.size() < k) {
+                heap.add(new Scored(row, distance));
+            } else if (distance < heap.peek().distance) {
+                heap.poll();
+                heap.add(new Scored(row, distance));
+            }
+        }
+        List<Food> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(snap.foods[heap.poll().row]);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private record Scored(int row, double distance) {
+    }
+
+    private static class Snapshot {
+        final Food[] foods;
+        final double[][] vectors; // [행][영양소]
+
+        Snapshot(Collection<Food> source) {
+            this.foods = source.toArray(new Food[0]);
+            this.vectors = new double[foods.length][NUTRIENTS.length];
+            for (int row = 0; row < foods.length; row++) {
+                for (Nutrient nutrient : NUTRIENTS) {
+                    vectors[row][nutrient.ordinal()] = nutrient.valueOf(foods[row]);
+                }
+            }
+        }
+    }
+}
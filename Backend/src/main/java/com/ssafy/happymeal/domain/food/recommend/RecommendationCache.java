@@ -0,0 +1,211 @@
+package com.ssafy.happymeal.domain.food.recommend;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.util.CacheConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 추천 음식 Redis 캐시 (recommendations:{category}) - 캐시 스탬피드 방지
+ * - 인스턴스 내부: 키별 진행 중인 CompletableFuture를 공유하여 동시에 하나의 스레드만 재계산합니다.
+ * - 인스턴스 간: Redis SET NX 임대(lease)를 얻은 한 곳만 DB를 조회하고, 나머지는 결과가 캐시에 올라오기를 잠시 기다립니다.
+ * - stale-while-revalidate: 유효 기간(25시간)이 지난 뒤에도 1시간 동안은 이전 값을 바로 반환하고 백그라운드에서 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCache {
+
+    private static final Duration FRESH_TTL = Duration.ofHours(25); // 기존 캐시 유지 시간
+    private static final Duration STALE_TTL = Duration.ofHours(1);  // 유효 기간 이후 만료된 값을 계속 제공하는 시간
+    private static final Duration LEASE_TTL = Duration.ofSeconds(10); // 재계산 임대 시간 (임대 보유 인스턴스 장애 시 자동 해제)
+    private static final long WAIT_TIMEOUT_MS = 2_000; // 다른 인스턴스의 재계산을 기다리는 최대 시간
+    private static final long POLL_INTERVAL_MS = 50;
+    private static final String LEASE_SUFFIX = ":lease";
+
+    // 내가 잡은 임대일 때만 해제 (임대 만료 후 다른 인스턴스가 새로 잡은 임대를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, List<Food>> redisTemplateListFood;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ThreadPoolTaskExecutor cacheRefreshExecutor;
+
+    private final Map<String, CompletableFuture<List<Food>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 카테고리 추천 목록 조회 (캐시 -> 필요 시 loader로 재계산)
+     */
+    public List<Food> get(RecommendationCategory category, Supplier<List<Food>> loader) {
+        String cacheKey = CacheConstants.RECOMMENDATIONS_KEY_PRIPIX + category.getCategoryName();
+        Entry cached = read(cacheKey);
+
+        if (cached != null && cached.fresh) { // 캐시 히트
+            log.debug("캐시 히트! Redis 캐시에서 추천 음식을 제공합니다. ({}개 항목, Key: {})", cached.value.size(), cacheKey);
+            return cached.value;
+        }
+
+        if (cached != null) { // 유효 기간 경과 -> 이전 값을 반환하고 백그라운드 갱신
+            if (!inFlight.containsKey(cacheKey)) {
+                log.info("추천 캐시 유효 기간 경과 (Key: {}). 이전 값을 제공하며 백그라운드에서 갱신합니다.", cacheKey);
+                cacheRefreshExecutor.execute(() -> {
+                    try {
+                        singleFlight(cacheKey, loader, false);
+                    } catch (Exception e) {
+                        log.error("추천 캐시 백그라운드 갱신 실패 (Key: {})", cacheKey, e);
+                    }
+                });
+            }
+            return cached.value;
+        }
+
+        log.warn("캐시 미스 발생 (Key: {}). 재계산 후 캐시를 업데이트합니다.", cacheKey);
+        try {
+            return singleFlight(cacheKey, loader, true).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 카테고리 추천 캐시 삭제 (해당 카테고리에 속한 음식이 바뀌었을 때)
+     */
+    public void evict(RecommendationCategory category) {
+        String cacheKey = CacheConstants.RECOMMENDATIONS_KEY_PRIPIX + category.getCategoryName();
+        try {
+            redisTemplateListFood.delete(cacheKey);
+            log.info("추천 캐시 삭제 (Key: {})", cacheKey);
+        } catch (Exception e) {
+            log.error("추천 캐시 삭제 중 Redis 오류 (Key: {})", cacheKey, e);
+        }
+    }
+
+    /**
+     * 인스턴스 내 단일 실행: 이미 같은 키를 계산 중인 스레드가 있으면 그 결과(future)를 공유합니다.
+     */
+    private CompletableFuture<List<Food>> singleFlight(String cacheKey, Supplier<List<Food>> loader, boolean waitForOthers) {
+        CompletableFuture<List<Food>> mine = new CompletableFuture<>();
+        CompletableFuture<List<Food>> existing = inFlight.putIfAbsent(cacheKey, mine);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            mine.complete(loadWithLease(cacheKey, loader, waitForOthers));
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+        return mine;
+    }
+
+    /**
+     * 인스턴스 간 단일 실행: 임대를 얻은 경우에만 DB를 조회해 캐시에 기록합니다.
+     * 임대를 얻지 못하면 다른 인스턴스가 기록할 때까지 기다리고, 시간이 초과되면 직접 조회합니다(캐시에는 기록하지 않음).
+     */
+    private List<Food> loadWithLease(String cacheKey, Supplier<List<Food>> loader, boolean waitForOthers) {
+        String leaseKey = cacheKey + LEASE_SUFFIX;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, token, LEASE_TTL);
+        } catch (Exception e) {
+            log.error("추천 캐시 임대 획득 중 Redis 오류. DB에서 직접 조회합니다. (Key: {})", leaseKey, e);
+            return nonNull(loader.get());
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                List<Food> recommendations = nonNull(loader.get());
+                write(cacheKey, recommendations);
+                return recommendations;
+            } finally {
+                try {
+                    stringRedisTemplate.execute(RELEASE_LEASE, Collections.singletonList(leaseKey), token);
+                } catch (Exception e) {
+                    log.warn("추천 캐시 임대 해제 실패, 임대 시간 경과 후 자동 해제됩니다. (Key: {})", leaseKey, e);
+                }
+            }
+        }
+
+        if (!waitForOthers) { // 백그라운드 갱신: 다른 인스턴스가 이미 갱신 중
+            return Collections.emptyList();
+        }
+
+        log.debug("다른 인스턴스가 추천 캐시를 재계산 중입니다. 결과를 기다립니다. (Key: {})", cacheKey);
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Entry cached = read(cacheKey);
+            if (cached != null && cached.fresh) {
+                return cached.value;
+            }
+        }
+        log.warn("추천 캐시 재계산 대기 시간 초과. DB에서 직접 조회합니다. (Key: {})", cacheKey);
+        return nonNull(loader.get());
+    }
+
+    private Entry read(String cacheKey) {
+        try {
+            List<Food> value = redisTemplateListFood.opsForValue().get(cacheKey);
+            if (value == null) {
+                return null;
+            }
+            Long remainingMs = redisTemplateListFood.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+            boolean fresh = remainingMs == null || remainingMs < 0 || remainingMs > STALE_TTL.toMillis();
+            return new Entry(value, fresh);
+        } catch (Exception e) {
+            log.error("Redis 캐시 조회 중 오류 발생! 캐시 미스로 처리합니다. (Key: {})", cacheKey, e);
+            return null;
+        }
+    }
+
+    // 결과가 비어 있으면 캐시하지 않음 (기존 동작 유지)
+    private void write(String cacheKey, List<Food> recommendations) {
+        if (recommendations.isEmpty()) {
+            log.info("추천 음식이 비어있어 캐시하지 않습니다. (Key: {})", cacheKey);
+            return;
+        }
+        try {
+            // 키의 실제 만료 = 유효 기간 + stale 제공 기간, 남은 시간이 stale 기간 이하이면 만료된 값으로 취급
+            redisTemplateListFood.opsForValue().set(cacheKey, recommendations, FRESH_TTL.plus(STALE_TTL));
+            log.info("추천 음식 ({}개)을 Redis 캐시에 저장했습니다. (Key: {})", recommendations.size(), cacheKey);
+        } catch (Exception e) {
+            log.error("Redis 캐시에 추천 음식 저장 중 오류 발생 (Key: {})!", cacheKey, e);
+        }
+    }
+
+    private static List<Food> nonNull(List<Food> foods) {
+        return foods == null ? Collections.emptyList() : foods;
+    }
+
+    private record Entry(List<Food> value, boolean fresh) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.ssafy.happymeal.domain.food.recommend;
+
+import com.ssafy.happymeal.domain.food.index.Nutrient;
+import com.ssafy.happymeal.domain.food.index.NutrientFilter;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메인 페이지 추천 카테고리별 영양소 기준 (100g 기준)
+ * 인메모리 후보 풀 구성과 DB 조회(FoodDAO.findRecommendFoods) 파라미터가 같은 기준을 쓰도록 한 곳에 모아 둡니다.
+ */
+public enum RecommendationCategory {
+    DIET("diet") {
+        @Override
+        void fill(Criteria c) {
+            c.max(Nutrient.CALORIES, new BigDecimal("150"));
+            c.min(Nutrient.PROTEIN, new BigDecimal("10"));
+            c.max(Nutrient.FAT, new BigDecimal("10").subtract(BigDecimal.valueOf(0.01)));
+            c.max(Nutrient.SUGAR, new BigDecimal("5").subtract(BigDecimal.valueOf(0.01)));
+        }
+    },
+    HEALTHY("healthy") {
+        @Override
+        void fill(Criteria c) {
+            c.min(Nutrient.CALORIES, new BigDecimal("100"));
+            c.max(Nutrient.CALORIES, new BigDecimal("250"));
+            c.min(Nutrient.PROTEIN, new BigDecimal("10"));
+            c.min(Nutrient.FAT, new BigDecimal("5"));
+            c.max(Nutrient.FAT, new BigDecimal("15"));
+            c.max(Nutrient.SUGAR, new BigDecimal("10").subtract(BigDecimal.valueOf(0.01)));
+        }
+    },
+    BULK_UP("bulk-up") {
+        @Override
+        void fill(Criteria c) {
+            c.min(Nutrient.CALORIES, new BigDecimal("200"));
+            c.min(Nutrient.PROTEIN, new BigDecimal("15"));
+            c.min(Nutrient.FAT, new BigDecimal("10"));
+        }
+    },
+    CHEATING("cheating") {
+        @Override
+        void fill(Criteria c) {
+            c.min(Nutrient.CALORIES, new BigDecimal("400"));
+        }
+    };
+
+    private final String categoryName;
+
+    RecommendationCategory(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    abstract void fill(Criteria criteria);
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    /**
+     * 요청 카테고리명(대소문자 무시)으로 조회, 알 수 없는 카테고리는 null
+     */
+    public static RecommendationCategory from(String categoryName) {
+        if (categoryName == null) {
+            return null;
+        }
+        for (RecommendationCategory category : values()) {
+            if (category.categoryName.equalsIgnoreCase(categoryName.trim())) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    // 인메모리 인덱스/후보 풀용 조건
+    public NutrientFilter toNutrientFilter() {
+        Criteria criteria = new Criteria();
+        fill(criteria);
+        return criteria.filter;
+    }
+
+    // FoodDAO.findRecommendFoods 파라미터 (예: maxCalories, minProtein)
+    public Map<String, Object> toQueryParams() {
+        Criteria criteria = new Criteria();
+        fill(criteria);
+        return criteria.params;
+    }
+
+    static class Criteria {
+        private final NutrientFilter filter = new NutrientFilter();
+        private final Map<String, Object> params = new HashMap<>();
+
+        void min(Nutrient nutrient, BigDecimal value) {
+            filter.min(nutrient, value);
+            params.put("min" + capitalize(nutrient.getColumn()), value);
+        }
+
+        void max(Nutrient nutrient, BigDecimal value) {
+            filter.max(nutrient, value);
+            params.put("max" + capitalize(nutrient.getColumn()), value);
+        }
+
+        private static String capitalize(String column) {
+            return Character.toUpperCase(column.charAt(0)) + column.substring(1);
+        }
+    }
+}
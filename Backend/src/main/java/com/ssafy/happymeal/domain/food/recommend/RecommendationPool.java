@@ -0,0 +1,142 @@
+package com.ssafy.happymeal.domain.food.recommend;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.domain.food.index.FoodIndex;
+import com.ssafy.happymeal.domain.food.index.NutrientFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 추천 카테고리별 후보 음식 풀
+ * 카탈로그가 바뀔 때마다 카테고리 기준을 만족하는 음식을 미리 모아 두고,
+ * 요청마다 풀에서 k개를 새로 뽑습니다. (ORDER BY RAND() 없이 O(k), DB 조회 없음)
+ */
+@Slf4j
+@Component
+public class RecommendationPool implements FoodIndex {
+
+    private volatile Map<RecommendationCategory, Food[]> pools = Collections.emptyMap();
+    private volatile boolean built = false;
+
+    @Override
+    public void rebuild(Collection<Food> foods) {
+        Map<RecommendationCategory, Food[]> next = new EnumMap<>(RecommendationCategory.class);
+        for (RecommendationCategory category : RecommendationCategory.values()) {
+            NutrientFilter filter = category.toNutrientFilter();
+            List<Food> candidates = new ArrayList<>();
+            for (Food food : foods) {
+                if (filter.matches(food)) {
+                    candidates.add(food);
+                }
+            }
+            next.put(category, candidates.toArray(new Food[0]));
+            log.debug("추천 후보 풀 구성: category={}, {}건", category.getCategoryName(), candidates.size());
+        }
+        pools = next;
+        built = true;
+    }
+
+    /**
+     * 음식 한 건 추가/수정: 해당 음식이 들어있거나 새로 들어가야 하는 카테고리의 풀만 다시 만듭니다.
+     */
+    @Override
+    public void upsert(Food food, Collection<Food> foods) {
+        if (!built) {
+            rebuild(foods);
+            return;
+        }
+        replace(food.getFoodId(), food);
+    }
+
+    /**
+     * 음식 한 건 삭제: 해당 음식이 들어있던 카테고리의 풀만 다시 만듭니다.
+     */
+    @Override
+    public void remove(Long foodId, Collection<Food> foods) {
+        if (!built) {
+            rebuild(foods);
+            return;
+        }
+        replace(foodId, null);
+    }
+
+    // foodId의 기존 항목을 빼고, food가 카테고리 기준을 만족하면 넣음 (다른 카테고리의 배열은 그대로 재사용)
+    private void replace(Long foodId, Food food) {
+        Map<RecommendationCategory, Food[]> next = new EnumMap<>(pools);
+        for (RecommendationCategory category : RecommendationCategory.values()) {
+            Food[] pool = pools.getOrDefault(category, new Food[0]);
+            int existing = -1;
+            for (int i = 0; i < pool.length; i++) {
+                if (pool[i].getFoodId().equals(foodId)) {
+                    existing = i;
+                    break;
+                }
+            }
+            boolean matches = food != null && category.toNutrientFilter().matches(food);
+            if (existing < 0 && !matches) {
+                continue; // 영향 없는 카테고리
+            }
+            List<Food> candidates = new ArrayList<>(pool.length + 1);
+            for (int i = 0; i < pool.length; i++) {
+                if (i != existing) {
+                    candidates.add(pool[i]);
+                }
+            }
+            if (matches) {
+                candidates.add(food);
+            }
+            next.put(category, candidates.toArray(new Food[0]));
+            log.debug("추천 후보 풀 갱신: category={}, foodId={}, {}건", category.getCategoryName(), foodId, candidates.size());
+        }
+        pools = next;
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    public int size(RecommendationCategory category) {
+        Food[] pool = pools.get(category);
+        return pool == null ? 0 : pool.length;
+    }
+
+    /**
+     * 풀에서 중복 없이 최대 k개를 무작위로 뽑습니다. (Floyd 샘플링, 풀 크기와 무관하게 O(k))
+     */
+    public List<Food> sample(RecommendationCategory category, int k) {
+        Food[] pool = pools.get(category);
+        if (pool == null || pool.length == 0 || k <= 0) {
+            return Collections.emptyList();
+        }
+        int n = pool.length;
+        if (k >= n) {
+            List<Food> all = new ArrayList<>(List.of(pool));
+            Collections.shuffle(all, ThreadLocalRandom.current());
+            return all;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new HashSet<>(k * 2);
+        List<Food> result = new ArrayList<>(k);
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            int index = picked.add(t) ? t : j; // t가 이미 뽑혔다면 j는 아직 뽑히지 않았음이 보장됨
+            if (index == j) {
+                picked.add(j);
+            }
+            result.add(pool[index]);
+        }
+        Collections.shuffle(result, random); // Floyd 샘플링은 뒤쪽 원소가 뒤에 오기 쉬우므로 순서를 섞음
+        return result;
+    }
+}
@@ -1,7 +1,12 @@
 package com.ssafy.happymeal.domain.food.service;
 
+import com.ssafy.happymeal.domain.commonDto.CursorPageResponse;
 import com.ssafy.happymeal.domain.food.dto.FoodNameSearchCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodNutrientFilterCriteria;
 import com.ssafy.happymeal.domain.food.dto.FoodPagingSortCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodScrollCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodSuggestionDto;
+import com.ssafy.happymeal.domain.food.dto.SimilarFoodCriteria;
 import com.ssafy.happymeal.domain.food.entity.Food; // Food DTO로 사용
 import org.springframework.data.domain.Page;
 
@@ -59,9 +64,27 @@ public interface FoodService {
     // 모든 음식 조회 (페이징 및 정렬 추가)
     Page<Food> getAllFoods(FoodPagingSortCriteria criteria);
 
+    // 커서 기반 음식 목록 조회 (OFFSET/COUNT 없음, 이름 검색 선택)
+    CursorPageResponse<Food> scrollFoods(FoodScrollCriteria criteria);
+
+    // 영양소 범위로 음식 검색 (인메모리 인덱스 사용, 페이징 및 정렬 포함)
+    Page<Food> filterFoodsByNutrients(FoodNutrientFilterCriteria criteria);
+
+    // 영양소 구성이 비슷한 음식 조회 (인메모리 KD-트리, 카테고리/영양소 조건 선택)
+    List<Food> getSimilarFoods(Long foodId, SimilarFoodCriteria criteria);
+
+    // 음식 이름 자동완성 (초성 검색 포함, 인메모리 트라이 사용)
+    List<FoodSuggestionDto> suggestFoods(String keyword, int limit);
+
 
     List<Food> getRecommendedFoods(String categoryName); // 반환 타입 변경
 
+    // 사용자 식단 기록의 영양소 부족분 기반 맞춤 추천 (사용자별 캐시)
+    List<Food> getPersonalRecommendations(Long userId, int limit);
+
+    // 추천 후보 풀 재구성 (DB 기준으로 카탈로그 재적재)
+    void refreshRecommendationPools();
+
 
 
 }
\ No newline at end of file
@@ -1,28 +1,55 @@
 package com.ssafy.happymeal.domain.food.service;
 
+import com.ssafy.happymeal.domain.commonDto.CursorPageResponse;
+import com.ssafy.happymeal.domain.food.cache.FoodCache;
 import com.ssafy.happymeal.domain.food.dao.FoodDAO;
+import com.ssafy.happymeal.domain.food.dto.FoodCursor;
 import com.ssafy.happymeal.domain.food.dto.FoodNameSearchCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodNutrientFilterCriteria;
 import com.ssafy.happymeal.domain.food.dto.FoodPagingSortCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodScrollCriteria;
+import com.ssafy.happymeal.domain.food.dto.FoodSuggestionDto;
+import com.ssafy.happymeal.domain.food.dto.SimilarFoodCriteria;
 import com.ssafy.happymeal.domain.food.entity.Food;
-import com.ssafy.happymeal.util.CacheConstants; // 1-2 단계에서 만든 캐시 상수 클래스
+import com.ssafy.happymeal.domain.food.event.FoodChangedEvent;
+import com.ssafy.happymeal.domain.food.index.FoodCatalog;
+import com.ssafy.happymeal.domain.food.index.FoodNameIndex;
+import com.ssafy.happymeal.domain.food.index.FoodNutrientIndex;
+import com.ssafy.happymeal.domain.food.index.FoodSimilarityIndex;
+import com.ssafy.happymeal.domain.food.index.Nutrient;
+import com.ssafy.happymeal.domain.food.index.FoodSortOrder;
+import com.ssafy.happymeal.domain.food.index.FoodSuggestIndex;
+import com.ssafy.happymeal.domain.food.recommend.NutrientGap;
+import com.ssafy.happymeal.domain.food.recommend.PersonalRecommendationKeys;
+import com.ssafy.happymeal.domain.food.recommend.PersonalRecommender;
+import com.ssafy.happymeal.domain.food.recommend.RecommendationCache;
+import com.ssafy.happymeal.domain.food.recommend.RecommendationCategory;
+import com.ssafy.happymeal.domain.food.recommend.RecommendationPool;
+import com.ssafy.happymeal.domain.meallog.dao.DailyNutritionSummaryDAO;
+import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsDto;
+import com.ssafy.happymeal.global.exception.InvalidCursorException;
+import com.ssafy.happymeal.util.CursorCodec;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.RedisTemplate; // RedisTemplate import
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections; // Collections.emptyList() 사용을 위해 import
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit; // TimeUnit import
+import java.util.function.Predicate;
 
 @Slf4j
 @Service
@@ -31,9 +58,24 @@ import java.util.concurrent.TimeUnit; // TimeUnit import
 public class FoodServiceImpl implements FoodService {
 
     private final FoodDAO foodDAO; // 기존 의존성
-    private final RedisTemplate<String, List<Food>> redisTemplateListFood; // 새로 추가된 의존성 (1-1 단계에서 설정)
+    private final FoodCatalog foodCatalog; // Food 테이블 인메모리 사본 (인덱스 갱신 담당)
+    private final FoodNutrientIndex foodNutrientIndex; // 영양소 범위 검색 인덱스
+    private final FoodNameIndex foodNameIndex; // 음식 이름 n-gram 검색 인덱스
+    private final FoodSuggestIndex foodSuggestIndex; // 음식 이름 자동완성 트라이
+    private final FoodSimilarityIndex foodSimilarityIndex; // 영양소 벡터 KD-트리 (비슷한 음식)
+    private final RecommendationPool recommendationPool; // 카테고리별 추천 후보 풀
+    private final RecommendationCache recommendationCache; // 후보 풀 미구성 시 사용하는 Redis 추천 캐시
+    private final PersonalRecommender personalRecommender; // 사용자 맞춤 추천 (영양소 부족분 기준 최근접 음식)
+    private final DailyNutritionSummaryDAO dailyNutritionSummaryDAO; // 맞춤 추천용 일별 섭취 합계 조회
+    private final RedisTemplate<String, List<Food>> redisTemplateListFood; // 맞춤 추천 결과 캐시
+    private final PersonalRecommendationKeys personalRecommendationKeys; // 맞춤 추천 캐시 키 (음식 변경 시 버전 증가)
+    private final FoodCache foodCache; // 음식 단건 조회 캐시 (로컬 L1 + Redis L2)
+    private final ApplicationEventPublisher eventPublisher; // 음식 변경 이벤트 발행 (FoodChangedEventListener가 처리)
 
     private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SIMILAR_FOODS = 50;
+    private static final int RECOMMENDATION_SIZE = 4; // 카테고리별 추천 개수
+    private static final int PERSONAL_RECOMMENDATION_CACHE_SIZE = 20; // 사용자별로 계산해 캐시해 두는 맞춤 추천 개수
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("name", "calories", "protein", "fat", "sugar", "carbs", "category", "create_at", "update_at");
 
     // 메인 페이지 추천에 사용할 기본 카테고리 (이 값은 스케줄러에서도 동일하게 사용될 수 있습니다)
@@ -42,8 +84,6 @@ public class FoodServiceImpl implements FoodService {
     private static final String MAIN_PAGE_CATEGORY_3 = "healthy";
 //    private static final String DEFAULT_MAIN_PAGE_CATEGORY = "healthy"; // 예시로 "healthy" 카테고리 사용
 
-    // 캐시 동시 업데이트 방지를 위한 락(lock) 객체
-//    private final Object cacheUpdateLock = new Object();
 
 
     private String buildOrderByClause(String sortByWithDirection) {
@@ -78,6 +118,14 @@ public class FoodServiceImpl implements FoodService {
         int pageSize = Math.min(criteria.getSize(), MAX_PAGE_SIZE);
         int offset = criteria.getPage() * pageSize;
 
+        // 인메모리 n-gram 인덱스에서 페이지와 전체 건수를 함께 계산 (LIKE 전체 스캔 2회 대체)
+        if (foodCatalog.isLoaded()) {
+            FoodNameIndex.Result result = foodNameIndex.search(
+                    criteria.getName(), FoodSortOrder.parse(criteria.getSortBy()), offset, pageSize);
+            return new PageImpl<>(result.getContent(), PageRequest.of(criteria.getPage(), pageSize), result.getTotalElements());
+        }
+
+        log.warn("음식 카탈로그가 적재되지 않아 DB에서 이름 검색을 수행합니다. name={}", criteria.getName());
         Map<String, Object> params = new HashMap<>();
         params.put("name", criteria.getName());
         params.put("orderByClause", buildOrderByClause(criteria.getSortBy()));
@@ -109,9 +157,111 @@ public class FoodServiceImpl implements FoodService {
         return new PageImpl<>(foods, PageRequest.of(criteria.getPage(), pageSize), totalElements);
     }
 
+    /**
+     * 커서 기반 음식 목록 조회
+     * 직전 페이지 마지막 행의 (정렬 키, food_id) 이후부터 size + 1건만 읽어 다음 페이지 존재 여부를 판단하므로
+     * 깊은 페이지에서도 OFFSET으로 버려지는 행이 없고 COUNT(*)도 실행하지 않습니다.
+     */
+    @Override
+    public CursorPageResponse<Food> scrollFoods(FoodScrollCriteria criteria) {
+        log.info("커서 기반 음식 목록 조회 서비스: name={}, sortBy={}, size={}, cursor={}",
+                criteria.getName(), criteria.getSortBy(), criteria.getSize(), criteria.getCursor() != null);
+
+        int pageSize = Math.max(1, Math.min(criteria.getSize(), MAX_PAGE_SIZE));
+        FoodSortOrder sortOrder = FoodSortOrder.parse(criteria.getSortBy()).forKeyset(); // 인덱스가 있는 단일 필드 정렬만
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", criteria.getName());
+        params.put("orderByClause", sortOrder.toKeysetOrderByClause());
+        params.put("limit", pageSize + 1);
+        if (StringUtils.hasText(criteria.getCursor())) {
+            FoodCursor cursor = CursorCodec.decode(criteria.getCursor(), FoodCursor.class);
+            if (!sortOrder.signature().equals(cursor.getSort())) {
+                throw new InvalidCursorException("커서가 현재 정렬 조건과 맞지 않습니다.");
+            }
+            params.put("seek", sortOrder.seekAfter(cursor.getKey(), cursor.getId()));
+        }
+
+        List<Food> foods = foodDAO.findAllByKeyset(params);
+        String nextCursor = null;
+        if (foods.size() > pageSize) {
+            foods = foods.subList(0, pageSize);
+            Food last = foods.get(pageSize - 1);
+            nextCursor = CursorCodec.encode(new FoodCursor(sortOrder.signature(), sortOrder.keyOf(last), last.getFoodId()));
+        }
+        return new CursorPageResponse<>(foods, pageSize, nextCursor);
+    }
+
+    /**
+     * 영양소 범위 검색
+     * MySQL의 영양소 컬럼에는 인덱스가 없어 매번 전체 스캔이 되므로, 인메모리 컬럼 인덱스에서 바로 응답합니다.
+     */
+    @Override
+    public Page<Food> filterFoodsByNutrients(FoodNutrientFilterCriteria criteria) {
+        log.info("영양소 범위 검색 서비스: sortBy={}, page={}, size={}", criteria.getSortBy(), criteria.getPage(), criteria.getSize());
+
+        ensureCatalogLoaded();
+        int pageSize = Math.min(criteria.getSize(), MAX_PAGE_SIZE);
+        int offset = criteria.getPage() * pageSize;
+
+        FoodNutrientIndex.Result result = foodNutrientIndex.query(
+                criteria.toNutrientFilter(), FoodSortOrder.parse(criteria.getSortBy()), offset, pageSize);
+
+        return new PageImpl<>(result.getContent(), PageRequest.of(criteria.getPage(), pageSize), result.getTotalElements());
+    }
+
+    /**
+     * 비슷한 음식 조회
+     * 기준 음식과 영양소 벡터가 가까운 음식을 KD-트리에서 찾고, 요청한 조건(카테고리, "당류가 더 적은" 등)을 만족하는 것만 남깁니다.
+     */
+    @Override
+    public List<Food> getSimilarFoods(Long foodId, SimilarFoodCriteria criteria) {
+        ensureCatalogLoaded();
+        Food base = foodCatalog.findById(foodId)
+                .orElseThrow(() -> new EntityNotFoundException("Food not found with id: " + foodId));
+
+        Predicate<Food> filter = food -> true;
+        if (StringUtils.hasText(criteria.getCategory())) {
+            filter = filter.and(food -> criteria.getCategory().equals(food.getCategory()));
+        }
+        if (criteria.isLowerCalories()) {
+            filter = filter.and(food -> Nutrient.CALORIES.valueOf(food) < Nutrient.CALORIES.valueOf(base));
+        }
+        if (criteria.isLowerSugar()) {
+            filter = filter.and(food -> Nutrient.SUGAR.valueOf(food) < Nutrient.SUGAR.valueOf(base));
+        }
+        if (criteria.isLowerFat()) {
+            filter = filter.and(food -> Nutrient.FAT.valueOf(food) < Nutrient.FAT.valueOf(base));
+        }
+        if (criteria.isHigherProtein()) {
+            filter = filter.and(food -> Nutrient.PROTEIN.valueOf(food) > Nutrient.PROTEIN.valueOf(base));
+        }
+
+        int size = Math.max(1, Math.min(criteria.getSize(), MAX_SIMILAR_FOODS));
+        return foodSimilarityIndex.nearest(base, size, filter);
+    }
+
+    /**
+     * 음식 이름 자동완성 (초성 검색 포함)
+     * 입력마다 호출되는 API이므로 DB는 조회하지 않으며, 카탈로그가 아직 적재되지 않았다면 빈 목록을 반환합니다.
+     */
+    @Override
+    public List<FoodSuggestionDto> suggestFoods(String keyword, int limit) {
+        if (!foodCatalog.isLoaded()) {
+            log.warn("음식 카탈로그가 적재되지 않아 자동완성 결과를 반환하지 않습니다. q={}", keyword);
+            return Collections.emptyList();
+        }
+        return foodSuggestIndex.suggest(keyword, Math.min(limit, FoodSuggestIndex.MAX_SUGGESTIONS));
+    }
+
+    // 시작 시 카탈로그 적재에 실패했다면(DB 장애 등) 첫 요청에서 다시 적재 시도
+    private void ensureCatalogLoaded() {
+        foodCatalog.ensureLoaded();
+    }
+
     @Override
     public Food getFoodById(Long foodId) {
-        return foodDAO.findById(foodId)
+        return foodCache.findById(foodId)
                 .orElseThrow(() -> new EntityNotFoundException("Food not found with id: " + foodId));
     }
 
@@ -119,6 +269,7 @@ public class FoodServiceImpl implements FoodService {
     @Transactional // 쓰기 작업이므로 readOnly = false 적용
     public Food addFood(Food food) {
         foodDAO.save(food);
+        eventPublisher.publishEvent(new FoodChangedEvent(food.getFoodId(), FoodChangedEvent.Type.CREATED)); // 커밋 후 인덱스/캐시 반영
         return food;
     }
 
@@ -130,7 +281,9 @@ public class FoodServiceImpl implements FoodService {
         foodDetailsToUpdate.setFoodId(foodId);
         int affectedRows = foodDAO.update(foodDetailsToUpdate);
         if (affectedRows == 0) throw new RuntimeException("Food update failed for id: " + foodId);
-        return foodDAO.findById(foodId).orElseThrow();
+        Food updatedFood = foodDAO.findById(foodId).orElseThrow();
+        eventPublisher.publishEvent(new FoodChangedEvent(foodId, FoodChangedEvent.Type.UPDATED));
+        return updatedFood;
     }
 
     @Override
@@ -139,93 +292,91 @@ public class FoodServiceImpl implements FoodService {
         foodDAO.findById(foodId)
                 .orElseThrow(() -> new EntityNotFoundException("Food not found with id: " + foodId + ". Cannot delete."));
         foodDAO.delete(foodId);
+        eventPublisher.publishEvent(new FoodChangedEvent(foodId, FoodChangedEvent.Type.DELETED));
     }
 
     /**
      * 특정 카테고리에 해당하는 추천 음식 목록을 가져옵니다.
-     * 먼저 Redis 캐시를 확인하고, 없으면 DB에서 조회 후 카테고리별 영양소 기준을 Map에 담아 DAO를 호출
-     * 그리고 마지막으로 캐시에 저장하고 반환합니다.
+     * 카테고리별로 미리 구성된 후보 풀에서 요청마다 새로 무작위 추출하므로 DB/Redis를 거치지 않습니다.
+     * 카탈로그가 아직 적재되지 않은 경우에만 기존 방식(Redis 캐시 -> DB 조회)으로 응답합니다.
      */
     @Override
     public List<Food> getRecommendedFoods(String categoryName) {
-        // 1. 카테고리명을 기반으로 동적 캐시 키 생성
-        String cacheKey = CacheConstants.RECOMMENDATIONS_KEY_PRIPIX + categoryName.toLowerCase();
+        RecommendationCategory category = RecommendationCategory.from(categoryName);
+        if (category == null) {
+            log.warn("알 수 없는 추천 카테고리 '{}'. 빈 리스트를 반환합니다.", categoryName);
+            return Collections.emptyList(); // 유효하지 않은 카테고리는 빈 리스트 반환
+        }
+
+        if (recommendationPool.isBuilt()) {
+            List<Food> recommendations = recommendationPool.sample(category, RECOMMENDATION_SIZE);
+            log.debug("카테고리 '{}' 후보 풀({}건)에서 추천 음식 {}개 추출", categoryName, recommendationPool.size(category), recommendations.size());
+            return recommendations;
+        }
+
+        log.warn("추천 후보 풀이 아직 구성되지 않아 캐시/DB에서 조회합니다. category={}", categoryName);
+        return getRecommendedFoodsFromCache(category);
+    }
 
-        log.debug("카테고리 '{}' 추천 음식 요청: 캐시 확인 시작 (Key: {})", categoryName, cacheKey);
-        List<Food> recommendations;
+    /**
+     * 사용자 맞춤 추천
+     * 오늘/최근 7일 섭취 통계로 남은 영양소 부족분을 구하고, 메모리의 음식 벡터 중 가장 가까운 음식을 고릅니다.
+     * 계산 결과는 사용자별로 자정까지 캐시하며, 식단 기록이 바뀌면 PersonalRecommendationEvictListener가 사용자 버전을 올리고
+     * 음식이 바뀌면 FoodChangedEventListener가 전역 버전을 올려 무효화합니다.
+     */
+    @Override
+    public List<Food> getPersonalRecommendations(Long userId, int limit) {
+        int size = Math.max(1, Math.min(limit, PERSONAL_RECOMMENDATION_CACHE_SIZE));
+        // 통계를 읽기 전에 키(버전)를 확정 -> 계산 도중 기록이 바뀌면 결과는 이전 버전 키에 저장되어 다시 읽히지 않음
+        String cacheKey = personalRecommendationKeys.cacheKey(userId); // Redis 오류 시 null -> 캐시 없이 계산
 
-        // 2. Redis 캐시에서 데이터 조회 시도
+        List<Food> cached = null;
         try {
-            recommendations = redisTemplateListFood.opsForValue().get(cacheKey);
-        } catch (Exception e) {
-            log.error("Redis 캐시 조회 중 오류 발생! DB에서 직접 조회 시도. (Key: {})", cacheKey, e);
-            recommendations = null; // 오류 발생 시 캐시 미스로 간주
-        }
-
-        if (recommendations == null) { // 3. 캐시 미스(Cache Miss) 발생!
-            log.warn("캐시 미스 발생 (Key: {}). DB에서 조회하여 캐시를 업데이트합니다.", cacheKey);
-
-            // --- DB 조회 로직 (기존 getRecommendedFoods 로직과 동일) ---
-            Map<String, Object> params = new HashMap<>();
-            switch (categoryName.toLowerCase()) {
-                case "diet":
-                    params.put("maxCalories", new BigDecimal("150"));
-                    params.put("minProtein", new BigDecimal("10"));
-                    params.put("maxFat", new BigDecimal("10").subtract(BigDecimal.valueOf(0.01)));
-                    params.put("maxSugar", new BigDecimal("5").subtract(BigDecimal.valueOf(0.01)));
-                    break;
-                case "healthy":
-                    params.put("minCalories", new BigDecimal("100"));
-                    params.put("maxCalories", new BigDecimal("250"));
-                    params.put("minProtein", new BigDecimal("10"));
-                    params.put("minFat", new BigDecimal("5"));
-                    params.put("maxFat", new BigDecimal("15"));
-                    params.put("maxSugar", new BigDecimal("10").subtract(BigDecimal.valueOf(0.01)));
-                    break;
-                case "bulk-up":
-                    params.put("minCalories", new BigDecimal("200"));
-                    params.put("minProtein", new BigDecimal("15"));
-                    params.put("minFat", new BigDecimal("10"));
-                    break;
-                case "cheating":
-                    params.put("minCalories", new BigDecimal("400"));
-                    break;
-                default:
-                    log.warn("알 수 없는 추천 카테고리 '{}' (Key: {}). 빈 리스트를 반환합니다.", categoryName, cacheKey);
-                    return Collections.emptyList(); // 유효하지 않은 카테고리는 빈 리스트 반환
+            if (cacheKey != null) {
+                cached = redisTemplateListFood.opsForValue().get(cacheKey);
             }
-            log.info("DB에서 카테고리 '{}'에 대한 추천 음식 조회 중... (Key: {})", categoryName, cacheKey);
-            recommendations = foodDAO.findRecommendFoods(params); // DAO는 랜덤 3개를 반환한다고 가정
+        } catch (Exception e) {
+            log.error("Redis 캐시 조회 중 오류 발생! 맞춤 추천을 다시 계산합니다. (Key: {})", cacheKey, e);
+        }
+        if (cached != null) {
+            return cached.subList(0, Math.min(size, cached.size()));
+        }
 
-            if (recommendations == null) { // DAO가 null을 반환할 수 있다면 NPE 방지
-                recommendations = Collections.emptyList();
-            }
-            // --- DB 조회 로직 끝 ---
-
-            // 4. DB 조회 결과를 캐시에 저장 (결과가 비어있지 않은 경우에만)
-            if (!recommendations.isEmpty()) {
-                try {
-                    redisTemplateListFood.opsForValue().set(cacheKey, recommendations, 25, TimeUnit.HOURS);
-                    log.info("카테고리 '{}'의 추천 음식 ({}개)을 Redis 캐시에 성공적으로 저장했습니다. (Key: {})", categoryName, recommendations.size(), cacheKey);
-                } catch (Exception e) {
-                    log.error("Redis 캐시에 추천 음식 저장 중 오류 발생 (Key: {})!", cacheKey, e);
-                    // 캐시 저장 실패 시에도 DB에서 가져온 데이터는 반환해야 하므로, 여기서 반환하지 않음.
-                }
-            } else {
-                log.info("카테고리 '{}'에 대한 추천 음식을 DB에서 찾을 수 없거나 비어있어 캐시하지 않습니다. (Key: {})", categoryName, cacheKey);
-                // 비어 있는 결과라도 짧은 시간 동안 캐싱하여 반복적인 DB 조회를 막을 수도 있습니다. (선택 사항)
-                // 예: redisTemplateListFood.opsForValue().set(cacheKey, Collections.emptyList(), 5, TimeUnit.MINUTES);
+        ensureCatalogLoaded();
+        LocalDate today = LocalDate.now();
+        List<MealLogStatsDto> stats = dailyNutritionSummaryDAO.findRange(userId, today.minusDays(6), today);
+        List<Food> recommendations = personalRecommender.recommend(NutrientGap.of(stats, today), PERSONAL_RECOMMENDATION_CACHE_SIZE);
+        log.info("맞춤 추천 계산 완료: userId={}, 최근 기록 {}일, 추천 {}건", userId, stats.size(), recommendations.size());
+
+        if (!recommendations.isEmpty() && cacheKey != null) {
+            try {
+                // 오늘 섭취량 기준이므로 날짜가 바뀌면 만료
+                Duration untilMidnight = Duration.between(LocalDateTime.now(), today.plusDays(1).atStartOfDay());
+                redisTemplateListFood.opsForValue().set(cacheKey, recommendations, untilMidnight.plusSeconds(1));
+            } catch (Exception e) {
+                log.error("Redis 캐시에 맞춤 추천 저장 중 오류 발생 (Key: {})!", cacheKey, e);
             }
-            log.info("DB에서 조회한 데이터로 응답하고 캐시를 업데이트했습니다. (Key: {})", cacheKey);
-
-        } else { // 5. 캐시 히트(Cache Hit)!
-            log.info("캐시 히트! Redis 캐시에서 카테고리 '{}' 추천 음식을 제공합니다. ({}개 항목, Key: {})", categoryName, recommendations.size(), cacheKey);
         }
+        return recommendations.subList(0, Math.min(size, recommendations.size()));
+    }
 
-        // 동시성 문제를 고려하지 않기로 했으므로, 락(lock) 관련 코드는 포함하지 않음
-        // 만약 트래픽이 매우 많아 캐시 미스 시 동일 카테고리에 대한 동시 DB 접근이 우려된다면,
-        // 이전에 논의했던 `synchronized` 블록이나 분산 락 등을 고려
+    /**
+     * 카탈로그를 DB 기준으로 다시 적재하여 추천 후보 풀(및 다른 인메모리 인덱스)을 재구성합니다.
+     */
+    @Override
+    public void refreshRecommendationPools() {
+        foodCatalog.reload();
+    }
 
-        return recommendations;
+    /**
+     * 후보 풀을 쓸 수 없을 때의 조회 경로
+     * Redis 캐시를 확인하고, 없으면 DB에서 조회 후 캐시에 저장합니다.
+     * 캐시 만료 시 동시 요청이 모두 ORDER BY RAND() 쿼리를 실행하지 않도록 RecommendationCache가 재계산을 한 번으로 묶습니다.
+     */
+    private List<Food> getRecommendedFoodsFromCache(RecommendationCategory category) {
+        return recommendationCache.get(category, () -> {
+            log.info("DB에서 카테고리 '{}'에 대한 추천 음식 조회 중...", category.getCategoryName());
+            return foodDAO.findRecommendFoods(category.toQueryParams()); // DAO는 랜덤 4개를 반환
+        });
     }
-}
\ No newline at end of file
+}
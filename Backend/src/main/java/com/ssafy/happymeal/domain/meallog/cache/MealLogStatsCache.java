@@ -0,0 +1,152 @@
+package com.ssafy.happymeal.domain.meallog.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsCacheMetricsDto;
+import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsDto;
+import com.ssafy.happymeal.util.CacheConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 식단 통계 조회 결과 Redis 캐시
+ * - 일별: meallog:stats:daily:{userId}:{date}
+ * - 주간: meallog:stats:weekly:{userId}:{endDate} (endDate 포함 이전 7일)
+ * 식단 기록이 바뀐 날짜 D에 대해 일별 키 D와, D를 포함하는 주간 키(endDate = D ~ D+6) 7개만 지웁니다.
+ * 적중/미스 횟수는 인스턴스별로 집계합니다.
+ *
+ * 조회 미스 후 DB에서 읽은 값은 사용자별 버전(meallog:stats:version:{userId})이 읽기 시작 전과 같을 때만 저장합니다.
+ * 커밋 후 삭제가 DB 조회와 캐시 저장 사이에 끼어들면 버전이 바뀌어 있으므로, 커밋 전 값이 삭제 이후에 다시 저장되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MealLogStatsCache {
+
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final Duration VERSION_TTL = Duration.ofDays(2); // 통계 TTL보다 길게 두어 조회 도중 버전이 만료되지 않게 함
+    private static final int WEEK_DAYS = 7;
+
+    // 버전이 기대값과 같을 때만 저장 -> 1 = 저장, 0 = 그 사이 기록이 바뀌어 건너뜀
+    private static final RedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>(
+            "local version = redis.call('get', KEYS[1]) or '0' " +
+            "if version ~= ARGV[1] then return 0 end " +
+            "redis.call('set', KEYS[2], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 버전을 먼저 올린 뒤 키 삭제 (버전을 올리기 전에 지우면 그 사이 저장된 이전 값이 남을 수 있음)
+    private static final RedisScript<Long> BUMP_AND_DELETE = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[1]) " +
+            "redis.call('expire', KEYS[1], ARGV[1]) " +
+            "if #KEYS > 1 then redis.call('del', unpack(KEYS, 2)) end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder dailyHits = new LongAdder();
+    private final LongAdder dailyMisses = new LongAdder();
+    private final LongAdder weeklyHits = new LongAdder();
+    private final LongAdder weeklyMisses = new LongAdder();
+
+    public MealLogStatsDto getDaily(Long userId, LocalDate date, Supplier<MealLogStatsDto> loader) {
+        return get(userId, dailyKey(userId, date), new TypeReference<>() { }, loader, dailyHits, dailyMisses);
+    }
+
+    public List<MealLogStatsDto> getWeekly(Long userId, LocalDate endDate, Supplier<List<MealLogStatsDto>> loader) {
+        return get(userId, weeklyKey(userId, endDate), new TypeReference<>() { }, loader, weeklyHits, weeklyMisses);
+    }
+
+    /**
+     * 변경된 날짜들에 영향을 받는 일별/주간 통계 키 삭제 (날짜당 최대 8개 키)
+     * 사용자 버전 증가와 삭제를 한 번의 스크립트로 수행합니다.
+     */
+    public void evictDates(Long userId, Collection<LocalDate> dates) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (LocalDate date : dates) {
+            keys.add(dailyKey(userId, date));
+            for (int i = 0; i < WEEK_DAYS; i++) {
+                keys.add(weeklyKey(userId, date.plusDays(i)));
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> scriptKeys = new ArrayList<>(keys.size() + 1);
+        scriptKeys.add(versionKey(userId));
+        scriptKeys.addAll(keys);
+        try {
+            stringRedisTemplate.execute(BUMP_AND_DELETE, scriptKeys, String.valueOf(VERSION_TTL.toSeconds()));
+        } catch (Exception e) {
+            // TTL(1일)이 지나면 자연히 갱신됨
+            log.error("식단 통계 캐시 삭제 중 Redis 오류 (userId: {}, dates: {})", userId, dates, e);
+        }
+    }
+
+    public MealLogStatsCacheMetricsDto metrics() {
+        return new MealLogStatsCacheMetricsDto(
+                dailyHits.sum(), dailyMisses.sum(), hitRate(dailyHits.sum(), dailyMisses.sum()),
+                weeklyHits.sum(), weeklyMisses.sum(), hitRate(weeklyHits.sum(), weeklyMisses.sum()));
+    }
+
+    private <T> T get(Long userId, String key, TypeReference<T> type, Supplier<T> loader, LongAdder hits, LongAdder misses) {
+        String version = null; // DB 조회 전에 읽은 사용자 버전 (Redis 오류 시 null -> 저장하지 않음)
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                hits.increment();
+                return objectMapper.readValue(cached, type);
+            }
+            String current = stringRedisTemplate.opsForValue().get(versionKey(userId));
+            version = current == null ? "0" : current;
+        } catch (Exception e) {
+            log.error("식단 통계 캐시 조회 중 오류 발생. DB에서 조회합니다. (Key: {})", key, e);
+        }
+        misses.increment();
+
+        T value = loader.get();
+        if (version == null) {
+            return value;
+        }
+        try {
+            stringRedisTemplate.execute(SET_IF_VERSION, List.of(versionKey(userId), key),
+                    version, objectMapper.writeValueAsString(value), String.valueOf(TTL.toSeconds()));
+        } catch (Exception e) {
+            log.error("식단 통계 캐시 저장 중 오류 발생 (Key: {})", key, e);
+        }
+        return value;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private static String dailyKey(Long userId, LocalDate date) {
+        return CacheConstants.MEAL_STATS_DAILY_KEY_PREFIX + userId + ":" + date;
+    }
+
+    private static String versionKey(Long userId) {
+        return CacheConstants.MEAL_STATS_VERSION_KEY_PREFIX + userId;
+    }
+
+    private static String weeklyKey(Long userId, LocalDate endDate) {
+        return CacheConstants.MEAL_STATS_WEEKLY_KEY_PREFIX + userId + ":" + endDate;
+    }
+}
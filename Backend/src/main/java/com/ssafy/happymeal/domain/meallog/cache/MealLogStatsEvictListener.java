@@ -0,0 +1,23 @@
+package com.ssafy.happymeal.domain.meallog.cache;
+
+import com.ssafy.happymeal.domain.meallog.event.MealLogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 식단 기록이 바뀌면 커밋 후 해당 날짜가 포함된 통계 캐시만 삭제
+ * (커밋 전에 지우면 동시에 들어온 조회가 커밋 전 값을 다시 캐시할 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+public class MealLogStatsEvictListener {
+
+    private final MealLogStatsCache mealLogStatsCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealLogChanged(MealLogChangedEvent event) {
+        mealLogStatsCache.evictDates(event.getUserId(), event.getMealDates());
+    }
+}
@@ -1,19 +1,28 @@
 package com.ssafy.happymeal.domain.meallog.controller;
 
+import com.ssafy.happymeal.domain.commonDto.CursorPageResponse;
 import com.ssafy.happymeal.domain.meallog.dto.*;
 import com.ssafy.happymeal.domain.meallog.entity.MealLog;
+import com.ssafy.happymeal.domain.meallog.export.MealLogExportFormat;
+import com.ssafy.happymeal.domain.meallog.stats.StatsBucket;
 import com.ssafy.happymeal.domain.meallog.service.MealLogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.ibatis.javassist.NotFoundException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Slf4j
@@ -24,6 +33,9 @@ public class MealLogController {
 
     private final MealLogService mealLogService;
 
+    private static final long MAX_TREND_DAYS = 731; // 기간 통계 최대 조회 기간 (2년)
+    private static final int MAX_TREND_WINDOW = 60;  // 이동평균 최대 구간 수
+
     // 식단 기록 추가
     @PostMapping
     public ResponseEntity<?> addMealLog(@RequestBody MealLogDto mealLogDto, @AuthenticationPrincipal UserDetails userDetails) {
@@ -34,6 +46,16 @@ public class MealLogController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    // 식단 기록 여러 건 추가 (한 끼 식사를 한 번의 요청/트랜잭션으로 기록)
+    @PostMapping("/batch")
+    public ResponseEntity<MealLogBatchResponseDto> addMealLogs(@Valid @RequestBody MealLogBatchRequestDto requestDto,
+                                                               @AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        log.info("식단 기록 일괄 요청 : userId={}, count={}", userId, requestDto.getMealLogs().size());
+        MealLogBatchResponseDto response = mealLogService.addMealLogs(userId, requestDto.getMealLogs());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     // 전체 식단 기록 조회
     @GetMapping
     public ResponseEntity<List<MealLogResponseDto>> getAllMealLogs(@AuthenticationPrincipal UserDetails userDetails) {
@@ -43,6 +65,60 @@ public class MealLogController {
         return ResponseEntity.ok(logs);
     }
 
+    // 식단 기록 변경분 동기화 (since 없으면 전체, 이후에는 응답의 nextToken 전달)
+    // hasMore면 바로 이어서 요청, resetRequired면 로컬 데이터를 비우고 since 없이 다시 동기화
+    @GetMapping("/changes")
+    public ResponseEntity<MealLogChangesResponseDto> getMealLogChanges(
+            @RequestParam(required = false) String since,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        MealLogChangesResponseDto response = mealLogService.getMealLogChanges(userId, since);
+        log.info("식단 기록 변경분 동기화 요청 : userId={}, upserts={}, deletes={}, hasMore={}",
+                userId, response.getUpserts().size(), response.getDeletes().size(), response.isHasMore());
+        return ResponseEntity.ok(response);
+    }
+
+    // 식단 기록 이력 조회 (최신순 커서 페이지, from/to 기간 선택)
+    // 첫 요청은 cursor 없이 호출하고, 이후에는 응답의 nextCursor를 그대로 전달
+    @GetMapping("/history")
+    public ResponseEntity<CursorPageResponse<MealLogResponseDto>> getMealLogHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        log.info("식단 기록 이력 조회 요청 : userId={}, from={}, to={}, size={}", userId, from, to, size);
+        CursorPageResponse<MealLogResponseDto> response =
+                mealLogService.getMealLogHistory(userId, new MealLogHistoryCriteria(from, to, cursor, size));
+        if (response.getContent().isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    // 전체 식단 기록 내보내기 (format=csv|ndjson)
+    // 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 DB 커서를 읽으며 바로 전송됨
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMealLogs(
+            @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        MealLogExportFormat exportFormat = MealLogExportFormat.from(format);
+        if (exportFormat == null) {
+            log.info("지원하지 않는 내보내기 형식 : format={}", format);
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("식단 기록 내보내기 요청 : userId={}, format={}", userId, exportFormat);
+
+        String filename = "meallogs-" + userId + "-" + LocalDate.now() + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> mealLogService.exportMealLogs(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     // 특정 날짜 식단 기록 조회
     @GetMapping(params = "date")
     public ResponseEntity<List<MealLogResponseDto>> getMealLogsByMealDate(@RequestParam("date") String date, @AuthenticationPrincipal UserDetails userDetails) {
@@ -63,6 +139,26 @@ public class MealLogController {
         return ResponseEntity.ok(stats);
     }
 
+    // 기간 영양 통계 추이 조회 (bucket=day|week|month, window=이동평균 구간 수, 생략 시 단위별 기본값)
+    @GetMapping("/stats/range")
+    public ResponseEntity<MealLogTrendResponseDto> getMealLogStatsTrend(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(required = false) Integer window,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        StatsBucket statsBucket = StatsBucket.from(bucket);
+        if (statsBucket == null || from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_TREND_DAYS
+                || (window != null && (window < 1 || window > MAX_TREND_WINDOW))) {
+            log.info("잘못된 기간 통계 요청 : from={}, to={}, bucket={}, window={}", from, to, bucket, window);
+            return ResponseEntity.badRequest().build();
+        }
+        int movingWindow = window != null ? window : statsBucket.getDefaultWindow();
+        log.info("기간 통계 요청 : userId={}, from={}, to={}, bucket={}, window={}", userId, from, to, statsBucket, movingWindow);
+        return ResponseEntity.ok(mealLogService.getStatsTrend(userId, from, to, statsBucket, movingWindow));
+    }
+
     // 주간 식단 통계 조회
     @GetMapping("/stats/weekly")
     public ResponseEntity<List<MealLogStatsDto>> getWeeklyMealLogStats(@RequestParam("date") String date, @AuthenticationPrincipal UserDetails userDetails) {
@@ -0,0 +1,92 @@
+package com.ssafy.happymeal.domain.meallog.dao;
+
+import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsDto;
+import org.apache.ibatis.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자 일별 영양 합계(DailyNutritionSummary) DAO
+ * 식사 기록이 바뀔 때마다 해당 기록 한 건의 기여분만 더하거나 빼므로, 통계 조회 시 MealLog/Food 조인 집계가 필요 없습니다.
+ */
+@Mapper
+public interface DailyNutritionSummaryDAO {
+
+    /* 식사 기록 한 건의 영양소 기여분을 해당 날짜 합계에 반영 (sign: 1 = 더하기, -1 = 빼기) */
+    @Insert("Insert into DailyNutritionSummary(user_id, meal_date, total_calories, total_carbs, total_sugar, total_protein, total_fat, log_count) " +
+            "Select m.user_id, m.meal_date, " +
+            // 스냅샷 컬럼이 아직 이관되지 않은 기록은 현재 음식 정보로 계산
+            "#{sign}*COALESCE(m.calories, f.calories*m.quantity/100), #{sign}*COALESCE(m.carbs, f.carbs*m.quantity/100), " +
+            "#{sign}*COALESCE(m.sugar, f.sugar*m.quantity/100), #{sign}*COALESCE(m.protein, f.protein*m.quantity/100), " +
+            "#{sign}*COALESCE(m.fat, f.fat*m.quantity/100), #{sign} " +
+            "From MealLog m " +
+            "Join Food f ON m.food_id = f.food_id " +
+            "Where m.user_id = #{userId} AND m.log_id = #{logId} " +
+            "On Duplicate Key Update " +
+            "total_calories = total_calories + VALUES(total_calories), " +
+            "total_carbs = total_carbs + VALUES(total_carbs), " +
+            "total_sugar = total_sugar + VALUES(total_sugar), " +
+            "total_protein = total_protein + VALUES(total_protein), " +
+            "total_fat = total_fat + VALUES(total_fat), " +
+            "log_count = log_count + VALUES(log_count)")
+    int applyMealLog(@Param("userId") Long userId, @Param("logId") Long logId, @Param("sign") int sign);
+
+    /* 해당 날짜 합계에 증감분을 직접 반영 (여러 기록을 한 번에 추가할 때 날짜별로 합산해 한 번만 호출) */
+    @Insert("Insert into DailyNutritionSummary(user_id, meal_date, total_calories, total_carbs, total_sugar, total_protein, total_fat, log_count) " +
+            "Values(#{userId}, #{mealDate}, #{calories}, #{carbs}, #{sugar}, #{protein}, #{fat}, #{logCount}) " +
+            "On Duplicate Key Update " +
+            "total_calories = total_calories + VALUES(total_calories), " +
+            "total_carbs = total_carbs + VALUES(total_carbs), " +
+            "total_sugar = total_sugar + VALUES(total_sugar), " +
+            "total_protein = total_protein + VALUES(total_protein), " +
+            "total_fat = total_fat + VALUES(total_fat), " +
+            "log_count = log_count + VALUES(log_count)")
+    int addTotals(@Param("userId") Long userId, @Param("mealDate") LocalDate mealDate,
+                  @Param("calories") BigDecimal calories, @Param("carbs") BigDecimal carbs, @Param("sugar") BigDecimal sugar,
+                  @Param("protein") BigDecimal protein, @Param("fat") BigDecimal fat, @Param("logCount") int logCount);
+
+    /* 일별 합계가 없거나 기록 수가 맞지 않는 (사용자, 날짜)가 있는 가장 큰 user_id (없으면 0, 이관 배치용) */
+    @Select("Select COALESCE(MAX(m.user_id), 0) " +
+            "From (Select user_id, meal_date, COUNT(*) AS log_count From MealLog Group By user_id, meal_date) m " +
+            "Left Join DailyNutritionSummary s ON s.user_id = m.user_id AND s.meal_date = m.meal_date " +
+            "Where s.log_count IS NULL OR s.log_count <> m.log_count")
+    long findMaxUserIdWithoutSummary();
+
+    /* user_id 구간(fromUserId 초과 ~ toUserId 이하)의 일별 합계를 MealLog 집계로 다시 계산해 덮어씀 (이관 배치용) */
+    @Insert("Insert into DailyNutritionSummary(user_id, meal_date, total_calories, total_carbs, total_sugar, total_protein, total_fat, log_count) " +
+            "Select m.user_id, m.meal_date, " +
+            "SUM(COALESCE(m.calories, f.calories*m.quantity/100)), SUM(COALESCE(m.carbs, f.carbs*m.quantity/100)), " +
+            "SUM(COALESCE(m.sugar, f.sugar*m.quantity/100)), SUM(COALESCE(m.protein, f.protein*m.quantity/100)), " +
+            "SUM(COALESCE(m.fat, f.fat*m.quantity/100)), COUNT(*) " +
+            "From MealLog m " +
+            "Join Food f ON m.food_id = f.food_id " +
+            "Where m.user_id > #{fromUserId} AND m.user_id <= #{toUserId} " +
+            "Group By m.user_id, m.meal_date " +
+            "On Duplicate Key Update " +
+            "total_calories = VALUES(total_calories), " +
+            "total_carbs = VALUES(total_carbs), " +
+            "total_sugar = VALUES(total_sugar), " +
+            "total_protein = VALUES(total_protein), " +
+            "total_fat = VALUES(total_fat), " +
+            "log_count = VALUES(log_count)")
+    int backfillRange(@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId);
+
+    /* 특정 날짜 합계 조회 (PK 단건 조회) */
+    @Select("Select meal_date AS date, total_calories AS totalCalories, total_carbs AS totalCarbs, " +
+            "total_sugar AS totalSugar, total_protein AS totalProtein, total_fat AS totalFat " +
+            "From DailyNutritionSummary " +
+            "Where user_id = #{userId} AND meal_date = #{mealDate} AND log_count > 0")
+    MealLogStatsDto findByUserAndDate(@Param("userId") Long userId, @Param("mealDate") LocalDate mealDate);
+
+    /* 기간(startDate ~ endDate) 일별 합계 조회 (PK 범위 조회, 기록 없는 날짜는 제외) */
+    @Select("Select meal_date AS date, total_calories AS totalCalories, total_carbs AS totalCarbs, " +
+            "total_sugar AS totalSugar, total_protein AS totalProtein, total_fat AS totalFat " +
+            "From DailyNutritionSummary " +
+            "Where user_id = #{userId} AND meal_date Between #{startDate} And #{endDate} AND log_count > 0 " +
+            "Order By meal_date ASC")
+    List<MealLogStatsDto> findRange(@Param("userId") Long userId,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+}
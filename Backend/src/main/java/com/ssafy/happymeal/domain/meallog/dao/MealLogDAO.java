@@ -1,9 +1,10 @@
 package com.ssafy.happymeal.domain.meallog.dao;
 
 import com.ssafy.happymeal.domain.meallog.dto.MealLogResponseDto;
-import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsDto;
 import com.ssafy.happymeal.domain.meallog.entity.MealLog;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -19,71 +20,99 @@ public interface MealLogDAO {
     )
     Optional<MealLog> findById(Long logId);
 
-    @Select("Select count(*) " +
-            "From MealLog " +
-            "Where meal_date=#{mealDate}")
-    int findByDate(LocalDate mealDate);
-
     /* 식단 기록 추가 */
-    @Insert("Insert into MealLog(user_id, food_id, meal_date, meal_type, quantity, img_url, create_at)" +
-            " Values(#{userId}, #{foodId}, #{mealDate}, #{mealType}, #{quantity}, #{imgUrl}, NOW())")
+    @Insert("Insert into MealLog(user_id, food_id, meal_date, meal_type, quantity, img_url, " +
+            "food_name, calories, carbs, sugar, protein, fat, change_seq, create_at)" +
+            " Values(#{userId}, #{foodId}, #{mealDate}, #{mealType}, #{quantity}, #{imgUrl}, " +
+            "#{foodName}, #{calories}, #{carbs}, #{sugar}, #{protein}, #{fat}, #{changeSeq}, NOW())")
+    @Options(useGeneratedKeys = true, keyProperty = "logId", keyColumn = "log_id")
     void insertMealLog(MealLog mealLog);
 
+    /* 식단 기록 여러 건 추가 (한 번의 multi-row INSERT, 생성된 log_id는 각 객체에 입력 순서대로 채워짐) */
+    @Insert("<script>" +
+            "Insert into MealLog(user_id, food_id, meal_date, meal_type, quantity, img_url, " +
+            "food_name, calories, carbs, sugar, protein, fat, change_seq, create_at) Values " +
+            "<foreach collection='mealLogs' item='m' separator=','>" +
+            "(#{m.userId}, #{m.foodId}, #{m.mealDate}, #{m.mealType}, #{m.quantity}, #{m.imgUrl}, " +
+            "#{m.foodName}, #{m.calories}, #{m.carbs}, #{m.sugar}, #{m.protein}, #{m.fat}, #{m.changeSeq}, NOW())" +
+            "</foreach>" +
+            "</script>")
+    @Options(useGeneratedKeys = true, keyProperty = "mealLogs.logId", keyColumn = "log_id")
+    void insertMealLogs(@Param("mealLogs") List<MealLog> mealLogs);
+
     /* 전체 식단 기록 조회 */
-    @Select("Select m.log_id AS logId, f.name AS foodName, f.food_id AS foodId, m.img_url AS imgUrl, " +
-            "m.meal_type AS mealType, m.quantity, " +
-            "f.calories*m.quantity/100 AS calories, f.carbs*m.quantity/100 AS carbs, f.sugar*m.quantity/100 AS sugar, " +
-            "f.protein*m.quantity/100 AS protein, f.fat*m.quantity/100 AS fat, " +
-            "m.user_id AS userId " + // SELECT 컬럼과 DTO 필드가 정확히 일치해야 하기 때문에 Alias를 사용
-            "From MealLog m " +
-            "Join Food f ON m.food_id = f.food_id " +
-            "Where m.user_id = #{userId}")
+    @Select("Select log_id AS logId, meal_date AS mealDate, food_name AS foodName, food_id AS foodId, img_url AS imgUrl, " +
+            "meal_type AS mealType, quantity, calories, carbs, sugar, protein, fat, " +
+            "user_id AS userId " + // SELECT 컬럼과 DTO 필드가 정확히 일치해야 하기 때문에 Alias를 사용
+            "From MealLog " + // 기록 시점 스냅샷 컬럼을 읽으므로 Food 조인 없음
+            "Where user_id = #{userId}")
     List<MealLogResponseDto> getAllMealLogs(Long userId);
 
     /* 특정 날짜 식단 기록 조회 */
-    @Select("Select m.log_id AS logId, f.name AS foodName, f.food_id AS foodId, m.img_url AS imgUrl, " +
-            "m.meal_type AS mealType, m.quantity, " +
-            "f.calories*m.quantity/100 AS calories, f.carbs*m.quantity/100 AS carbs, f.sugar*m.quantity/100 AS sugar, " +
-            "f.protein*m.quantity/100 AS protein, f.fat*m.quantity/100 AS fat, " +
-            "m.user_id AS userId " + // SELECT 컬럼과 DTO 필드가 정확히 일치해야 하기 때문에 Alias를 사용
-            "From MealLog m " +
-            "Join Food f ON m.food_id = f.food_id " +
-            "Where m.user_id = #{userId} AND m.meal_date = #{mealDate}")
+    @Select("Select log_id AS logId, meal_date AS mealDate, food_name AS foodName, food_id AS foodId, img_url AS imgUrl, " +
+            "meal_type AS mealType, quantity, calories, carbs, sugar, protein, fat, " +
+            "user_id AS userId " + // SELECT 컬럼과 DTO 필드가 정확히 일치해야 하기 때문에 Alias를 사용
+            "From MealLog " + // 기록 시점 스냅샷 컬럼을 읽으므로 Food 조인 없음
+            "Where user_id = #{userId} AND meal_date = #{mealDate}")
     List<MealLogResponseDto> findByUserAndDate(@Param("userId") Long userId, @Param("mealDate") LocalDate mealDate);
 
-    /* 특정 날짜 식단 통계 조회 */
-    @Select("Select m.meal_date AS date, sum(f.calories * m.quantity/100) AS totalCalories, sum(f.carbs * m.quantity/100) AS totalCarbs, " +
-            "sum(f.sugar * m.quantity/100) AS totalSugar, sum(f.protein * m.quantity/100) AS totalProtein, sum(f.fat * m.quantity/100) AS totalFat " +
-            "From MealLog m " +
-            "Join Food f ON m.food_id = f.food_id " +
-            "Where m.user_id=#{userId} AND m.meal_date=#{mealDate}")
-    MealLogStatsDto getDailyMealStats(@Param("userId") Long userId, @Param("mealDate") LocalDate mealDate);
+    /* 전체 식단 기록 스트리밍 조회 (내보내기용)
+     * MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 받아오므로 전체 결과를 메모리에 올리지 않습니다.
+     * 반환된 Cursor는 트랜잭션(SqlSession)이 열려 있는 동안에만 순회할 수 있습니다. */
+    @Select("Select log_id AS logId, meal_date AS mealDate, food_name AS foodName, food_id AS foodId, img_url AS imgUrl, " +
+            "meal_type AS mealType, quantity, calories, carbs, sugar, protein, fat, " +
+            "user_id AS userId " +
+            "From MealLog " +
+            "Where user_id = #{userId} " +
+            "Order By meal_date ASC, log_id ASC")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<MealLogResponseDto> streamAllMealLogs(@Param("userId") Long userId);
 
-    /* 해당 기간(startDate ~ endDate)의 일별 식단 통계 조회 */
-    @Select("Select m.meal_date AS date, sum(f.calories*m.quantity/100) AS totalCalories, sum(f.carbs*m.quantity/100) AS totalCarbs, " +
-            "sum(f.sugar*m.quantity/100) AS totalSugar, sum(f.protein*m.quantity/100) AS totalProtein, sum(f.fat*m.quantity/100) AS totalFat " +
-            "From MealLog m " +
-            "Join Food f ON m.food_id = f.food_id " +
-            "Where m.user_id=#{userId} AND m.meal_date Between #{startDate} And #{endDate}" +
-            "Group By m.meal_date " +
-            "Order By m.meal_date ASC")
-    List<MealLogStatsDto> getDailyStatsForDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+    /* 식단 기록 이력 조회 (최신순 키셋 페이지, (user_id, meal_date, log_id) 인덱스 범위 스캔) */
+    @Select("<script>" +
+            "Select log_id AS logId, meal_date AS mealDate, food_name AS foodName, food_id AS foodId, img_url AS imgUrl, " +
+            "meal_type AS mealType, quantity, calories, carbs, sugar, protein, fat, " +
+            "user_id AS userId " +
+            "From MealLog " +
+            "Where user_id = #{userId}" +
+            "<if test='from != null'> AND meal_date &gt;= #{from}</if>" +
+            "<if test='to != null'> AND meal_date &lt;= #{to}</if>" +
+            // 직전 페이지 마지막 기록 (cursorDate, cursorLogId) 이후부터
+            "<if test='cursorDate != null'>" +
+            " AND (meal_date &lt; #{cursorDate} OR (meal_date = #{cursorDate} AND log_id &lt; #{cursorLogId}))" +
+            "</if>" +
+            " Order By meal_date DESC, log_id DESC" +
+            " LIMIT #{limit}" +
+            "</script>")
+    List<MealLogResponseDto> findHistory(@Param("userId") Long userId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to,
+                                         @Param("cursorDate") LocalDate cursorDate,
+                                         @Param("cursorLogId") Long cursorLogId,
+                                         @Param("limit") int limit);
+
+    /* since 이후 추가/수정된 식단 기록 (변경 순번순, (user_id, change_seq) 인덱스 범위 스캔) */
+    @Select("Select log_id AS logId, meal_date AS mealDate, food_name AS foodName, food_id AS foodId, img_url AS imgUrl, " +
+            "meal_type AS mealType, quantity, calories, carbs, sugar, protein, fat, " +
+            "user_id AS userId, change_seq AS changeSeq " +
+            "From MealLog " +
+            "Where user_id = #{userId} AND change_seq > #{since} " +
+            "Order By change_seq ASC " +
+            "LIMIT #{limit}")
+    List<MealLogResponseDto> findChangedSince(@Param("userId") Long userId, @Param("since") long since, @Param("limit") int limit);
 
     /* 식단 기록 상세 조회 */
-    @Select("Select m.log_id AS logId, f.name AS foodName, f.food_id AS foodId, m.img_url AS imgUrl, " +
-            "m.meal_type AS mealType, m.quantity, " +
-            "f.calories*m.quantity/100 AS calories, f.carbs*m.quantity/100 AS carbs, f.sugar*m.quantity/100 AS sugar, " +
-            "f.protein*m.quantity/100 AS protein, f.fat*m.quantity/100 AS fat, " +
-            "m.user_id AS userId " + // SELECT 컬럼과 DTO 필드가 정확히 일치해야 하기 때문에 Alias를 사용
-            "From MealLog m " +
-            "Join Food f ON m.food_id = f.food_id " +
-            "Where m.user_id = #{userId} AND m.log_id = #{logId}")
+    @Select("Select log_id AS logId, meal_date AS mealDate, food_name AS foodName, food_id AS foodId, img_url AS imgUrl, " +
+            "meal_type AS mealType, quantity, calories, carbs, sugar, protein, fat, " +
+            "user_id AS userId " + // SELECT 컬럼과 DTO 필드가 정확히 일치해야 하기 때문에 Alias를 사용
+            "From MealLog " + // 기록 시점 스냅샷 컬럼을 읽으므로 Food 조인 없음
+            "Where user_id = #{userId} AND log_id = #{logId}")
     MealLogResponseDto getDetailMealLog(Long userId, Long logId);
 
-    /* 식단 기록 삭제 */
+    /* 식단 기록 삭제 (삭제된 행 수 반환) */
     @Delete("Delete From MealLog " +
             "Where user_id = #{userId} AND log_id = #{logId}")
-    void deleteMealLog(Long userId, Long logId);
+    int deleteMealLog(Long userId, Long logId);
 
     /* 식단 기록 수정(meal_date 제외) */
     @Update("update MealLog " +
@@ -91,7 +120,22 @@ public interface MealLogDAO {
             "food_id=#{foodId}, " +
             "meal_date=#{mealDate}, " +
             "meal_type=#{mealType}, quantity=#{quantity}, " +
-            "img_url=#{imgUrl} " +
+            "img_url=#{imgUrl}, " +
+            "food_name=#{foodName}, calories=#{calories}, carbs=#{carbs}, sugar=#{sugar}, protein=#{protein}, fat=#{fat}, " +
+            "change_seq=#{changeSeq} " +
             "where user_id=#{userId} AND log_id=#{logId}")
     int updateMealLog(MealLog mealLog);
+
+    /* 스냅샷 이관 대상(영양소 컬럼이 비어 있는) 기록 중 가장 큰 log_id */
+    @Select("Select COALESCE(MAX(log_id), 0) From MealLog Where calories IS NULL")
+    long findMaxLogIdWithoutSnapshot();
+
+    /* log_id 구간(fromId 초과 ~ toId 이하)의 스냅샷 컬럼을 현재 음식 정보로 채움 (이관 배치용) */
+    @Update("Update MealLog m " +
+            "Join Food f ON m.food_id = f.food_id " +
+            "Set m.food_name = f.name, " +
+            "m.calories = f.calories*m.quantity/100, m.carbs = f.carbs*m.quantity/100, m.sugar = f.sugar*m.quantity/100, " +
+            "m.protein = f.protein*m.quantity/100, m.fat = f.fat*m.quantity/100 " +
+            "Where m.log_id > #{fromId} AND m.log_id <= #{toId} AND m.calories IS NULL")
+    int backfillSnapshot(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,53 @@
+package com.ssafy.happymeal.domain.meallog.dao;
+
+import com.ssafy.happymeal.domain.meallog.dto.MealLogTombstoneDto;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 식사 기록 변경분 동기화용 DAO (사용자별 변경 순번 + 삭제 기록)
+ */
+@Mapper
+public interface MealLogSyncDAO {
+
+    /* 사용자 변경 순번을 count만큼 증가 (행 잠금은 트랜잭션 종료까지 유지되어 같은 사용자의 순번은 커밋 순서와 일치)
+     * 증가된 마지막 순번은 같은 커넥션에서 lastInsertId()로 읽음 */
+    @Insert("Insert into MealLogSyncSeq(user_id, last_seq) Values(#{userId}, LAST_INSERT_ID(#{count})) " +
+            "On Duplicate Key Update last_seq = LAST_INSERT_ID(last_seq + #{count})")
+    void increaseSeq(@Param("userId") Long userId, @Param("count") int count);
+
+    @Select("Select LAST_INSERT_ID()")
+    long lastInsertId();
+
+    /* 정리된 삭제 기록 순번 (이보다 오래된 동기화 토큰은 삭제를 놓쳤을 수 있음) */
+    @Select("Select COALESCE(MAX(purged_seq), 0) From MealLogSyncSeq Where user_id = #{userId}")
+    long findPurgedSeq(@Param("userId") Long userId);
+
+    /* 삭제 기록 추가 */
+    @Insert("Insert into MealLogTombstone(log_id, user_id, meal_date, change_seq, deleted_at) " +
+            "Values(#{logId}, #{userId}, #{mealDate}, #{changeSeq}, NOW())")
+    void insertTombstone(@Param("logId") Long logId, @Param("userId") Long userId,
+                         @Param("mealDate") LocalDate mealDate, @Param("changeSeq") long changeSeq);
+
+    /* since 이후 삭제 기록 (순번순) */
+    @Select("Select log_id AS logId, meal_date AS mealDate, change_seq AS changeSeq " +
+            "From MealLogTombstone " +
+            "Where user_id = #{userId} AND change_seq > #{since} " +
+            "Order By change_seq ASC " +
+            "LIMIT #{limit}")
+    List<MealLogTombstoneDto> findTombstonesSince(@Param("userId") Long userId, @Param("since") long since, @Param("limit") int limit);
+
+    /* 정리 대상 삭제 기록의 최대 순번을 사용자별 purged_seq에 기록 (정리 전에 호출) */
+    @Update("Update MealLogSyncSeq s " +
+            "Join (Select user_id, MAX(change_seq) AS max_seq From MealLogTombstone Where deleted_at < #{before} Group By user_id) t " +
+            "ON s.user_id = t.user_id " +
+            "Set s.purged_seq = GREATEST(s.purged_seq, t.max_seq)")
+    int markPurged(@Param("before") LocalDateTime before);
+
+    /* 오래된 삭제 기록 정리 (한 번에 limit건) */
+    @Delete("Delete From MealLogTombstone Where deleted_at < #{before} LIMIT #{limit}")
+    int purgeTombstones(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
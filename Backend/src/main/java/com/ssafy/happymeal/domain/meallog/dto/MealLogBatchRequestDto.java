@@ -0,0 +1,22 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 식단 기록 여러 건 저장용 DTO (한 끼 식사를 한 번에 기록)
+public class MealLogBatchRequestDto {
+    @NotEmpty(message = "저장할 식단 기록이 없습니다")
+    @Size(max = 50, message = "한 번에 최대 50건까지 기록할 수 있습니다")
+    private List<@Valid MealLogDto> mealLogs;
+}
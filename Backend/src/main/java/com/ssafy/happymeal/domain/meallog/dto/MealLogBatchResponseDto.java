@@ -0,0 +1,17 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 식단 기록 여러 건 저장 결과 (요청 순서대로 생성된 logId)
+public class MealLogBatchResponseDto {
+    private List<Long> logIds;
+}
@@ -0,0 +1,21 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 식단 기록 변경분 동기화 응답
+public class MealLogChangesResponseDto {
+    private List<MealLogResponseDto> upserts;      // 추가/수정된 기록 (변경 순번순)
+    private List<MealLogTombstoneDto> deletes;     // 삭제된 기록
+    private String nextToken;                      // 다음 동기화 시 since로 전달할 토큰
+    private boolean hasMore;                       // true면 nextToken으로 바로 이어서 요청
+    private boolean resetRequired;                 // true면 로컬 데이터를 비우고 since 없이 전체 동기화
+}
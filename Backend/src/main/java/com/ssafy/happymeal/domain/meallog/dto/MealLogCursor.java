@@ -0,0 +1,19 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 식단 기록 이력 커서 내용 (CursorCodec으로 인코딩되어 클라이언트에 전달)
+ * 직전 페이지 마지막 기록의 (meal_date, log_id)를 담습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealLogCursor {
+    private String mealDate; // 마지막 기록의 식사 날짜 (YYYY-MM-DD)
+    private Long logId;      // 마지막 기록의 log_id
+}
@@ -1,7 +1,9 @@
 package com.ssafy.happymeal.domain.meallog.dto;
 
 import com.ssafy.happymeal.domain.meallog.entity.MealLog;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,10 +20,15 @@ import java.time.LocalDate;
 @AllArgsConstructor
 // 식단 기록 저장용 DTO
 public class MealLogDto {
+    @NotNull(message = "식사 날짜를 입력해주세요.")
+    @Pattern(regexp = "^\\d{4}-\\d{2}-\\d{2}$", message = "식사 날짜는 yyyy-MM-dd 형식이어야 합니다.")
     private String mealDate; // 타입 : LocalDate
     @NotNull(message="식사유형을 선택해주세요")
     private MealType mealType;
+    @NotNull(message = "음식 ID를 입력해주세요.")
     private Long foodId;
+    @NotNull(message = "수량을 입력해주세요.")
+    @DecimalMin(value = "0", inclusive = false, message = "수량은 0보다 커야 합니다.")
     private BigDecimal quantity;
     private String imgUrl;
 
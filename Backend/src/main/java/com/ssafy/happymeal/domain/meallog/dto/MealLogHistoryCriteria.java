@@ -0,0 +1,23 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 식단 기록 이력 조회 조건 (최신순 커서 페이지)
+ * from/to가 없으면 기간 제한 없이, cursor가 없으면 첫 페이지부터 조회합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealLogHistoryCriteria {
+    private LocalDate from; // 조회 시작 날짜 (포함, 선택)
+    private LocalDate to;   // 조회 종료 날짜 (포함, 선택)
+    private String cursor;  // 직전 응답의 nextCursor
+    private int size;       // 페이지 크기
+}
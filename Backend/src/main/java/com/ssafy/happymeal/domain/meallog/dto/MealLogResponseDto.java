@@ -1,18 +1,25 @@
 package com.ssafy.happymeal.domain.meallog.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 // 특정 날짜 식단 기록 조회용
 // 식단 기록 상세 조회용
 public class MealLogResponseDto {
     private Long logId;
+    private LocalDate mealDate;
     private String foodName; // 조회 시 음식 반환을 위해 사용
     private Long foodId;
     private String imgUrl;
@@ -24,5 +31,7 @@ public class MealLogResponseDto {
     private BigDecimal protein;
     private BigDecimal fat;
     private Long userId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long changeSeq; // 변경분 동기화 조회에서만 채움
 
 }
\ No newline at end of file
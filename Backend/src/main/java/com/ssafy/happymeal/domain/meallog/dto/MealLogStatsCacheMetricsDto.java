@@ -0,0 +1,20 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 식단 통계 캐시 적중 현황 (현재 인스턴스 기동 이후 누적)
+public class MealLogStatsCacheMetricsDto {
+    private long dailyHits;
+    private long dailyMisses;
+    private double dailyHitRate;
+    private long weeklyHits;
+    private long weeklyMisses;
+    private double weeklyHitRate;
+}
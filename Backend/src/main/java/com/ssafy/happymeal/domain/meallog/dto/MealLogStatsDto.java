@@ -1,7 +1,9 @@
 package com.ssafy.happymeal.domain.meallog.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
@@ -10,6 +12,8 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 // 식단 통계 조회 DTO
 public class MealLogStatsDto {
     private LocalDate date;
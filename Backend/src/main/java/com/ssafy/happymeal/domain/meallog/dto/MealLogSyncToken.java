@@ -0,0 +1,18 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 변경분 동기화 토큰 내용 (CursorCodec으로 인코딩되어 클라이언트에 전달)
+ * 클라이언트가 마지막으로 반영한 변경 순번을 담습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealLogSyncToken {
+    private Long seq;
+}
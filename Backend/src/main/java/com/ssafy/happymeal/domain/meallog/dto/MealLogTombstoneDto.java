@@ -0,0 +1,19 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 변경분 동기화 - 삭제된 식단 기록
+public class MealLogTombstoneDto {
+    private Long logId;
+    private LocalDate mealDate;
+    private Long changeSeq;
+}
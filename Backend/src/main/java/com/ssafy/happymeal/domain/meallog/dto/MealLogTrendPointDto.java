@@ -0,0 +1,28 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 기간 통계의 한 구간 (구간 합계 + 직전 window개 구간 이동평균)
+public class MealLogTrendPointDto {
+    private LocalDate startDate; // 구간 시작일 (조회 시작일로 잘릴 수 있음)
+    private LocalDate endDate;   // 구간 종료일 (조회 종료일로 잘릴 수 있음)
+    private double totalCalories;
+    private double totalCarbs;
+    private double totalSugar;
+    private double totalProtein;
+    private double totalFat;
+    private double avgCalories;
+    private double avgCarbs;
+    private double avgSugar;
+    private double avgProtein;
+    private double avgFat;
+}
@@ -0,0 +1,22 @@
+package com.ssafy.happymeal.domain.meallog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 기간 영양 통계 추이 조회 응답
+public class MealLogTrendResponseDto {
+    private LocalDate from;
+    private LocalDate to;
+    private String bucket;  // day | week | month
+    private int window;     // 이동평균 구간 수
+    private List<MealLogTrendPointDto> points;
+}
@@ -1,5 +1,6 @@
 package com.ssafy.happymeal.domain.meallog.entity;
 
+import com.ssafy.happymeal.domain.food.entity.Food;
 import com.ssafy.happymeal.domain.meallog.dto.MealType;
 import jakarta.persistence.Column;
 import jakarta.persistence.EnumType;
@@ -7,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 
@@ -26,5 +28,32 @@ public class MealLog {
     private MealType mealType;
     private BigDecimal quantity;
     private String imgUrl;
+    // 기록 시점 스냅샷 (음식 정보가 나중에 수정돼도 과거 기록은 그대로 유지)
+    private String foodName;
+    private BigDecimal calories;
+    private BigDecimal carbs;
+    private BigDecimal sugar;
+    private BigDecimal protein;
+    private BigDecimal fat;
+    private Long changeSeq; // 사용자별 변경 순번 (동기화용)
     private Timestamp createAt;
+
+    /**
+     * 현재 음식 정보와 섭취량(quantity)으로 섭취 영양소 스냅샷 계산 (100g 기준 값 x 섭취량/100)
+     */
+    public void snapshotNutrients(Food food) {
+        this.foodName = food.getName();
+        this.calories = intake(food.getCalories());
+        this.carbs = intake(food.getCarbs());
+        this.sugar = intake(food.getSugar());
+        this.protein = intake(food.getProtein());
+        this.fat = intake(food.getFat());
+    }
+
+    private BigDecimal intake(BigDecimal per100g) {
+        if (per100g == null || quantity == null) {
+            return BigDecimal.ZERO;
+        }
+        return per100g.multiply(quantity).divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP); // 컬럼 DECIMAL(14, 4)
+    }
 }
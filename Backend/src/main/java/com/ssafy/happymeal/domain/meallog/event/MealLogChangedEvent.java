@@ -0,0 +1,22 @@
+package com.ssafy.happymeal.domain.meallog.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 식단 기록 추가/수정/삭제 도메인 이벤트
+ * 사용자별로 계산해 둔 값(맞춤 추천, 날짜별 통계 캐시 등)을 커밋 후 무효화하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MealLogChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long userId;
+    private final Type type;
+    private final Set<LocalDate> mealDates; // 변경된 기록의 식사 날짜
+}
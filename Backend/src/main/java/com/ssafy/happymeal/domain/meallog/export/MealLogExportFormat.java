@@ -0,0 +1,42 @@
+package com.ssafy.happymeal.domain.meallog.export;
+
+import java.util.Locale;
+
+/**
+ * 식단 기록 내보내기 형식
+ */
+public enum MealLogExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    MealLogExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터(대소문자 무관)를 형식으로 변환, 지원하지 않는 값이면 null
+     */
+    public static MealLogExportFormat from(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (MealLogExportFormat format : values()) {
+            if (format.extension.equals(value.trim().toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
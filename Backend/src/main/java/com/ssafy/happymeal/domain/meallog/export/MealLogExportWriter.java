@@ -0,0 +1,112 @@
+package com.ssafy.happymeal.domain.meallog.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.happymeal.domain.meallog.dto.MealLogResponseDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * 식단 기록을 한 행씩 내보내기 형식으로 기록
+ * 행 단위로 바로 Writer에 쓰므로 전체 목록을 메모리에 모으지 않습니다.
+ */
+public abstract class MealLogExportWriter {
+
+    protected final Writer writer;
+
+    protected MealLogExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static MealLogExportWriter of(MealLogExportFormat format, Writer writer, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new Csv(writer);
+            case NDJSON -> new NdJson(writer, objectMapper);
+        };
+    }
+
+    public abstract void writeHeader() throws IOException;
+
+    public abstract void writeRow(MealLogResponseDto row) throws IOException;
+
+    /**
+     * CSV (첫 줄 헤더, 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 포함)
+     */
+    private static class Csv extends MealLogExportWriter {
+
+        private static final String HEADER =
+                "logId,mealDate,mealType,foodId,foodName,quantity,calories,carbs,sugar,protein,fat,imgUrl";
+
+        Csv(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write('\uFEFF');
+            writer.write(HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(MealLogResponseDto row) throws IOException {
+            writer.write(field(row.getLogId()));
+            writer.write(',');
+            writer.write(field(row.getMealDate()));
+            writer.write(',');
+            writer.write(field(row.getMealType()));
+            writer.write(',');
+            writer.write(field(row.getFoodId()));
+            writer.write(',');
+            writer.write(field(row.getFoodName()));
+            writer.write(',');
+            writer.write(field(row.getQuantity()));
+            writer.write(',');
+            writer.write(field(row.getCalories()));
+            writer.write(',');
+            writer.write(field(row.getCarbs()));
+            writer.write(',');
+            writer.write(field(row.getSugar()));
+            writer.write(',');
+            writer.write(field(row.getProtein()));
+            writer.write(',');
+            writer.write(field(row.getFat()));
+            writer.write(',');
+            writer.write(field(row.getImgUrl()));
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씀
+        private static String field(Object value) {
+            String text = Objects.toString(value, "");
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * NDJSON (한 줄에 JSON 객체 하나)
+     */
+    private static class NdJson extends MealLogExportWriter {
+
+        private final ObjectMapper objectMapper;
+
+        NdJson(Writer writer, ObjectMapper objectMapper) {
+            super(writer);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(MealLogResponseDto row) throws IOException {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    }
+}
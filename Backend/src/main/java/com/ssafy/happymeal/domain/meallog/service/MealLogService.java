@@ -1,9 +1,14 @@
 package com.ssafy.happymeal.domain.meallog.service;
 
+import com.ssafy.happymeal.domain.commonDto.CursorPageResponse;
 import com.ssafy.happymeal.domain.meallog.dto.*;
 import com.ssafy.happymeal.domain.meallog.entity.MealLog;
+import com.ssafy.happymeal.domain.meallog.export.MealLogExportFormat;
+import com.ssafy.happymeal.domain.meallog.stats.StatsBucket;
 import org.apache.ibatis.javassist.NotFoundException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -11,6 +16,8 @@ public interface MealLogService {
 
     void addMealLog(Long userId, MealLogDto mealLogDto);
 
+    MealLogBatchResponseDto addMealLogs(Long userId, List<MealLogDto> mealLogDtos);
+
     List<MealLogResponseDto> findByUserAndDate(Long userId, LocalDate mealDate);
 
     void deleteMealLog(Long userId, Long logId) throws NotFoundException;
@@ -19,9 +26,19 @@ public interface MealLogService {
 
     List<MealLogResponseDto> getAllMealLogs(Long userId);
 
+    CursorPageResponse<MealLogResponseDto> getMealLogHistory(Long userId, MealLogHistoryCriteria criteria);
+
+    MealLogChangesResponseDto getMealLogChanges(Long userId, String since);
+
+    void exportMealLogs(Long userId, MealLogExportFormat format, OutputStream out) throws IOException;
+
     MealLogResponseDto getDetailMealLog(Long userId, Long logId) throws NotFoundException;
 
     List<MealLogStatsDto> getWeeklyMealLogStats(Long userId, LocalDate endDate);
 
+    MealLogStatsCacheMetricsDto getStatsCacheMetrics();
+
+    MealLogTrendResponseDto getStatsTrend(Long userId, LocalDate from, LocalDate to, StatsBucket bucket, int window);
+
     MealLogUpdateResponseDto updateMealLog(Long userId, Long logId, MealLogRequestDto requestDto);
 }
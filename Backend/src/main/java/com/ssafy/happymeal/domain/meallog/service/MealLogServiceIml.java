@@ -1,26 +1,51 @@
 package com.ssafy.happymeal.domain.meallog.service;
 
 import ch.qos.logback.core.spi.ErrorCodes;
-import com.ssafy.happymeal.domain.food.dao.FoodDAO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.happymeal.domain.commonDto.CursorPageResponse;
+import com.ssafy.happymeal.domain.food.cache.FoodCache;
 import com.ssafy.happymeal.domain.food.entity.Food;
+import com.ssafy.happymeal.domain.meallog.cache.MealLogStatsCache;
+import com.ssafy.happymeal.domain.meallog.dao.DailyNutritionSummaryDAO;
 import com.ssafy.happymeal.domain.meallog.dao.MealLogDAO;
+import com.ssafy.happymeal.domain.meallog.dao.MealLogSyncDAO;
 import com.ssafy.happymeal.domain.meallog.dto.*;
 import com.ssafy.happymeal.domain.meallog.entity.MealLog;
+import com.ssafy.happymeal.domain.meallog.event.MealLogChangedEvent;
+import com.ssafy.happymeal.domain.meallog.export.MealLogExportFormat;
+import com.ssafy.happymeal.domain.meallog.export.MealLogExportWriter;
+import com.ssafy.happymeal.domain.meallog.stats.NutritionTrend;
+import com.ssafy.happymeal.domain.meallog.stats.StatsBucket;
 import com.ssafy.happymeal.domain.user.dao.UserDAO;
+import com.ssafy.happymeal.util.CursorCodec;
 import com.ssafy.happymeal.global.exception.CustomException;
 import com.ssafy.happymeal.global.exception.ForbiddenException;
+import com.ssafy.happymeal.global.exception.InvalidCursorException;
 import com.ssafy.happymeal.global.exception.NoMealLogFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.javassist.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,20 +53,32 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MealLogServiceIml implements MealLogService{
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100; // 이력 조회 한 페이지 최대 건수
+    private static final int MAX_SYNC_PAGE_SIZE = 500; // 변경분 동기화 한 번에 내려주는 최대 건수
+    private static final int EXPORT_BUFFER_SIZE = 16 * 1024; // 내보내기 쓰기 버퍼 (가득 차면 바로 클라이언트로 전송)
+
     private final MealLogDAO mealLogDAO;
+    private final DailyNutritionSummaryDAO dailyNutritionSummaryDAO; // 일별 영양 합계 (기록 변경 시 증감 반영)
+    private final MealLogSyncDAO mealLogSyncDAO; // 변경분 동기화 순번/삭제 기록
     private final UserDAO userDAO;
-    private final FoodDAO foodDAO;
+    private final FoodCache foodCache; // 음식 단건 조회 캐시 (imgUrl, 영양소 스냅샷 계산용)
+    private final ApplicationEventPublisher eventPublisher; // 식단 변경 이벤트 (맞춤 추천 캐시 무효화 등)
+    private final TransactionTemplate transactionTemplate; // 내보내기 스트리밍 동안 커서(SqlSession)를 열어 두기 위함
+    private final ObjectMapper objectMapper;
+    private final MealLogStatsCache mealLogStatsCache; // 일별/주간 통계 캐시 (기록 변경 시 해당 날짜만 무효화)
 
     /* 식단 기록 추가 */
     @Override
+    @Transactional
     public void addMealLog(Long userId, MealLogDto mealLogDto) {
         MealLog mealLog = new MealLog();
 
+        Food food = foodCache.findById(mealLogDto.getFoodId())
+                .orElseThrow(() -> new RuntimeException("foodId={"+mealLogDto.getFoodId()+"}와/과 일치하는 음식이 존재하지 않습니다."));
+
         String imgUrl = mealLogDto.getImgUrl();
 
         if(imgUrl==null) {
-            Food food = foodDAO.findById(mealLogDto.getFoodId())
-                    .orElseThrow(() -> new RuntimeException("foodId={"+mealLog.getFoodId()+"}와/과 일치하는 음식이 존재하지 않습니다."));
             imgUrl = food.getImgUrl();
         }
 
@@ -51,8 +88,77 @@ public class MealLogServiceIml implements MealLogService{
         mealLog.setMealType(mealLogDto.getMealType());
         mealLog.setQuantity(mealLogDto.getQuantity());
         mealLog.setImgUrl(imgUrl);
+        mealLog.snapshotNutrients(food); // 기록 시점의 음식 이름/섭취 영양소 저장
+
+        mealLog.setChangeSeq(nextChangeSeq(userId, 1));
 
         mealLogDAO.insertMealLog(mealLog);
+        dailyNutritionSummaryDAO.applyMealLog(userId, mealLog.getLogId(), 1); // 일별 합계에 새 기록 기여분 더하기
+        eventPublisher.publishEvent(new MealLogChangedEvent(userId, MealLogChangedEvent.Type.CREATED, Set.of(mealLog.getMealDate())));
+    }
+
+    /* 식단 기록 여러 건 추가 - 음식 일괄 조회 1회 + multi-row INSERT 1회 + 날짜별 합계 반영, 한 트랜잭션 */
+    @Override
+    @Transactional
+    public MealLogBatchResponseDto addMealLogs(Long userId, List<MealLogDto> mealLogDtos) {
+        Map<Long, Food> foods = foodCache.findAllById(mealLogDtos.stream().map(MealLogDto::getFoodId).toList());
+
+        List<MealLog> mealLogs = new ArrayList<>(mealLogDtos.size());
+        for (MealLogDto dto : mealLogDtos) {
+            Food food = foods.get(dto.getFoodId());
+            if (food == null) {
+                throw new RuntimeException("foodId={"+dto.getFoodId()+"}와/과 일치하는 음식이 존재하지 않습니다.");
+            }
+            MealLog mealLog = new MealLog();
+            mealLog.setUserId(userId);
+            mealLog.setFoodId(dto.getFoodId());
+            mealLog.setMealDate(LocalDate.parse(dto.getMealDate()));
+            mealLog.setMealType(dto.getMealType());
+            mealLog.setQuantity(dto.getQuantity());
+            mealLog.setImgUrl(dto.getImgUrl() != null ? dto.getImgUrl() : food.getImgUrl());
+            mealLog.snapshotNutrients(food);
+            mealLogs.add(mealLog);
+        }
+
+        long lastSeq = nextChangeSeq(userId, mealLogs.size()); // 순번을 한 번에 건수만큼 발급받아 입력 순서대로 배정
+        for (int i = 0; i < mealLogs.size(); i++) {
+            mealLogs.get(i).setChangeSeq(lastSeq - mealLogs.size() + 1 + i);
+        }
+        mealLogDAO.insertMealLogs(mealLogs);
+
+        // 일별 합계: 날짜별로 먼저 합산한 뒤 날짜당 한 번만 반영
+        Map<LocalDate, MealLog> totalsByDate = new LinkedHashMap<>();
+        Map<LocalDate, Integer> countsByDate = new LinkedHashMap<>();
+        for (MealLog mealLog : mealLogs) {
+            totalsByDate.merge(mealLog.getMealDate(), copyNutrients(mealLog), MealLogServiceIml::sumNutrients);
+            countsByDate.merge(mealLog.getMealDate(), 1, Integer::sum);
+        }
+        totalsByDate.forEach((date, total) -> dailyNutritionSummaryDAO.addTotals(userId, date,
+                total.getCalories(), total.getCarbs(), total.getSugar(), total.getProtein(), total.getFat(),
+                countsByDate.get(date)));
+
+        eventPublisher.publishEvent(new MealLogChangedEvent(userId, MealLogChangedEvent.Type.CREATED, totalsByDate.keySet()));
+        log.info("식단 기록 일괄 추가 완료 : userId={}, count={}", userId, mealLogs.size());
+        return new MealLogBatchResponseDto(mealLogs.stream().map(MealLog::getLogId).toList());
+    }
+
+    private static MealLog copyNutrients(MealLog source) {
+        MealLog copy = new MealLog();
+        copy.setCalories(source.getCalories());
+        copy.setCarbs(source.getCarbs());
+        copy.setSugar(source.getSugar());
+        copy.setProtein(source.getProtein());
+        copy.setFat(source.getFat());
+        return copy;
+    }
+
+    private static MealLog sumNutrients(MealLog a, MealLog b) {
+        a.setCalories(a.getCalories().add(b.getCalories()));
+        a.setCarbs(a.getCarbs().add(b.getCarbs()));
+        a.setSugar(a.getSugar().add(b.getSugar()));
+        a.setProtein(a.getProtein().add(b.getProtein()));
+        a.setFat(a.getFat().add(b.getFat()));
+        return a;
     }
 
     /* 전체 식단 기록 조회 */
@@ -61,38 +167,178 @@ public class MealLogServiceIml implements MealLogService{
         return mealLogDAO.getAllMealLogs(userId);
     }
 
+    /* 식단 기록 변경분 동기화 - since 토큰 이후 추가/수정/삭제된 기록만 변경 순번순으로 반환
+     * 기록과 삭제 기록을 각각 한 건 더 읽어 순번순으로 합친 뒤 최대 MAX_SYNC_PAGE_SIZE건까지 내려줌 */
+    @Override
+    public MealLogChangesResponseDto getMealLogChanges(Long userId, String since) {
+        long sinceSeq = 0;
+        if (StringUtils.hasText(since)) {
+            MealLogSyncToken token = CursorCodec.decode(since, MealLogSyncToken.class);
+            if (token.getSeq() == null || token.getSeq() < 0) {
+                throw new InvalidCursorException("유효하지 않은 동기화 토큰입니다.");
+            }
+            sinceSeq = token.getSeq();
+            // 토큰 이후의 삭제 기록 일부가 이미 정리된 경우 -> 전체 재동기화 필요
+            if (sinceSeq < mealLogSyncDAO.findPurgedSeq(userId)) {
+                return new MealLogChangesResponseDto(new ArrayList<>(), new ArrayList<>(), null, false, true);
+            }
+        }
+
+        int limit = MAX_SYNC_PAGE_SIZE;
+        List<MealLogResponseDto> upserts = mealLogDAO.findChangedSince(userId, sinceSeq, limit + 1);
+        // 전체 동기화(since 없음)에서는 클라이언트에 없는 기록의 삭제를 알려줄 필요가 없음
+        List<MealLogTombstoneDto> deletes = sinceSeq == 0
+                ? new ArrayList<>()
+                : mealLogSyncDAO.findTombstonesSince(userId, sinceSeq, limit + 1);
+
+        // 두 목록을 순번순으로 합치며 limit건까지만 포함
+        List<MealLogResponseDto> pageUpserts = new ArrayList<>();
+        List<MealLogTombstoneDto> pageDeletes = new ArrayList<>();
+        int u = 0;
+        int d = 0;
+        long lastSeq = sinceSeq;
+        while (pageUpserts.size() + pageDeletes.size() < limit && (u < upserts.size() || d < deletes.size())) {
+            boolean takeUpsert = d >= deletes.size()
+                    || (u < upserts.size() && upserts.get(u).getChangeSeq() < deletes.get(d).getChangeSeq());
+            if (takeUpsert) {
+                lastSeq = upserts.get(u).getChangeSeq();
+                pageUpserts.add(upserts.get(u++));
+            } else {
+                lastSeq = deletes.get(d).getChangeSeq();
+                pageDeletes.add(deletes.get(d++));
+            }
+        }
+        boolean hasMore = u < upserts.size() || d < deletes.size();
+        String nextToken = CursorCodec.encode(new MealLogSyncToken(lastSeq));
+        return new MealLogChangesResponseDto(pageUpserts, pageDeletes, nextToken, hasMore, false);
+    }
+
+    /* 사용자 변경 순번 count개 발급 후 마지막 순번 반환 (호출한 트랜잭션이 끝날 때까지 해당 사용자 순번 행 잠금) */
+    private long nextChangeSeq(Long userId, int count) {
+        mealLogSyncDAO.increaseSeq(userId, count);
+        return mealLogSyncDAO.lastInsertId();
+    }
+
+    /* 식단 기록 이력 조회 - 최신순(meal_date, log_id 내림차순) 커서 페이지, 응답 크기는 페이지 크기로 제한 */
+    @Override
+    public CursorPageResponse<MealLogResponseDto> getMealLogHistory(Long userId, MealLogHistoryCriteria criteria) {
+        int pageSize = Math.max(1, Math.min(criteria.getSize(), MAX_HISTORY_PAGE_SIZE));
+        if (criteria.getFrom() != null && criteria.getTo() != null && criteria.getFrom().isAfter(criteria.getTo())) {
+            return new CursorPageResponse<>(new ArrayList<>(), pageSize, null);
+        }
+
+        LocalDate cursorDate = null;
+        Long cursorLogId = null;
+        if (StringUtils.hasText(criteria.getCursor())) {
+            MealLogCursor cursor = CursorCodec.decode(criteria.getCursor(), MealLogCursor.class);
+            if (cursor.getMealDate() == null || cursor.getLogId() == null) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.");
+            }
+            try {
+                cursorDate = LocalDate.parse(cursor.getMealDate());
+            } catch (DateTimeParseException e) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.", e);
+            }
+            cursorLogId = cursor.getLogId();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<MealLogResponseDto> logs = mealLogDAO.findHistory(userId, criteria.getFrom(), criteria.getTo(),
+                cursorDate, cursorLogId, pageSize + 1);
+        String nextCursor = null;
+        if (logs.size() > pageSize) {
+            logs = logs.subList(0, pageSize);
+            MealLogResponseDto last = logs.get(pageSize - 1);
+            nextCursor = CursorCodec.encode(new MealLogCursor(last.getMealDate().toString(), last.getLogId()));
+        }
+        return new CursorPageResponse<>(logs, pageSize, nextCursor);
+    }
+
+    /* 전체 식단 기록 내보내기 - DB 커서에서 한 행씩 읽어 고정 크기 버퍼를 거쳐 바로 출력 (메모리 사용량 일정) */
+    @Override
+    public void exportMealLogs(Long userId, MealLogExportFormat format, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        MealLogExportWriter exportWriter = MealLogExportWriter.of(format, writer, objectMapper);
+        exportWriter.writeHeader();
+
+        long start = System.currentTimeMillis();
+        Integer rows;
+        try {
+            rows = transactionTemplate.execute(status -> {
+                int count = 0;
+                try (Cursor<MealLogResponseDto> cursor = mealLogDAO.streamAllMealLogs(userId)) {
+                    for (MealLogResponseDto row : cursor) {
+                        exportWriter.writeRow(row);
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // 클라이언트 연결 종료 등
+        }
+        writer.flush();
+        log.info("식단 기록 내보내기 완료 : userId={}, format={}, rows={} ({}ms)",
+                userId, format, rows, System.currentTimeMillis() - start);
+    }
+
     /* 특정 날짜 식단 기록 조회 */
     @Override
     public List<MealLogResponseDto> findByUserAndDate(Long userId, LocalDate mealDate) {
-        int count = mealLogDAO.findByDate(mealDate);
-        if(count==0) {
+        // 사용자+날짜 인덱스 조회 한 번으로 기록과 존재 여부를 함께 확인
+        List<MealLogResponseDto> logs = mealLogDAO.findByUserAndDate(userId, mealDate);
+        if(logs.isEmpty()) {
             throw new NoMealLogFoundException("해당 날짜("+mealDate+")애 대한 식단 기록이 존재하지 않습니다.");
         }
-        return mealLogDAO.findByUserAndDate(userId, mealDate);
+        return logs;
     }
 
     /* 특정 날짜 식단 통계 조회 */
     @Override
     public MealLogStatsDto getDailyMealStats(Long userId, LocalDate mealDate) {
-        int count = mealLogDAO.findByDate(mealDate);
-        if(count==0) {
+        return mealLogStatsCache.getDaily(userId, mealDate, () -> loadDailyMealStats(userId, mealDate));
+    }
+
+    private MealLogStatsDto loadDailyMealStats(Long userId, LocalDate mealDate) {
+        // 일별 합계 테이블 PK 단건 조회 (기록이 한 건 이상인 날짜만 행이 조회되므로 존재 여부도 함께 확인)
+        MealLogStatsDto stats = dailyNutritionSummaryDAO.findByUserAndDate(userId, mealDate);
+        if(stats == null) {
             throw new NoMealLogFoundException("해당 날짜("+mealDate+")애 대한 식단 기록이 존재하지 않습니다.");
         }
-        return mealLogDAO.getDailyMealStats(userId, mealDate);
+        return stats;
     }
 
     /* 주간 식단 통계 조회 - mealDate를 포함한 이전 7일간의 각 일별 통계 리스트 반환 */
     @Override
     public List<MealLogStatsDto> getWeeklyMealLogStats(Long userId, LocalDate endDate) {
+        return mealLogStatsCache.getWeekly(userId, endDate, () -> loadWeeklyMealLogStats(userId, endDate));
+    }
+
+    /* 기간 영양 통계 추이 - 일별 합계 테이블 범위 조회 1회 후 구간 합계/이동평균 계산 */
+    @Override
+    public MealLogTrendResponseDto getStatsTrend(Long userId, LocalDate from, LocalDate to, StatsBucket bucket, int window) {
+        List<MealLogStatsDto> daily = dailyNutritionSummaryDAO.findRange(userId, from, to);
+        return new MealLogTrendResponseDto(from, to, bucket.name().toLowerCase(), window,
+                NutritionTrend.compute(daily, from, to, bucket, window));
+    }
+
+    /* 통계 캐시 적중 현황 */
+    @Override
+    public MealLogStatsCacheMetricsDto getStatsCacheMetrics() {
+        return mealLogStatsCache.metrics();
+    }
+
+    private List<MealLogStatsDto> loadWeeklyMealLogStats(Long userId, LocalDate endDate) {
         // 1. 통계 기간의 시작일 계산 (endDate로부터 6일 전)
         // 예: endDate가 2025-05-01 이면 startDate는 2025-04-25
         // 예: endDate가 2025-01-01 이면 startDate는 2024-12-26 (연도, 월 자동 계산)
         LocalDate startDate = endDate.minusDays(6);
 
-        // 2. DAO를 통해 해당 기간(startDate ~ endDate)의 일별 식단 통계 데이터 가져옴
-        // 이 DAO 메소드는 날짜별로 그룹화된 통계 DTO 리스트를 반환하도록 설계
+        // 2. 일별 합계 테이블에서 해당 기간(startDate ~ endDate)을 PK 범위로 조회 (최대 7행)
         // 만약 특정 날짜에 기록이 없다면, 해당 날짜의 DTO는 이 리스트에 포함되지 않을 수 있음.
-        List<MealLogStatsDto> statsFromDB = mealLogDAO.getDailyStatsForDateRange(userId, startDate, endDate);
+        List<MealLogStatsDto> statsFromDB = dailyNutritionSummaryDAO.findRange(userId, startDate, endDate);
 
         // 3. 결과를 날짜별로 쉽게 조회할 수 있도록 Map으로 변환
         // key : 날짜, value : MealLogStatsDto 객체
@@ -125,6 +371,11 @@ public class MealLogServiceIml implements MealLogService{
         MealLog mealLog = mealLogDAO.findById(logId)
                 .orElseThrow(() -> new NoMealLogFoundException("logId={"+logId+"}와/과 일치하는 식단 기록이 존재하지 않습니다."));
 
+        // 일치하는 사용자가 아닌 경우 (일별 합계와 변경 순번이 요청자 기준이므로 다른 사용자 기록은 수정 불가)
+        if(!mealLog.getUserId().equals(userId)) {
+            throw new ForbiddenException("본인의 기록만 수정할 수 있습니다.");
+        }
+
         boolean isChanged = false; // 실제 DB 업데이트 여부
 
         // 1. food 변경
@@ -133,7 +384,7 @@ public class MealLogServiceIml implements MealLogService{
         // -> mealLog.getFoodId() == null 검사 할 필요 없음
         // dto.getFoodId()가 기존 mealLog의 foodId와 다르거나, mealLog에 foodId가 없었다면 새로 조회
         if(!requestDto.getFoodId().equals(mealLog.getFoodId())) {
-            newFood = foodDAO.findById(requestDto.getFoodId())
+            newFood = foodCache.findById(requestDto.getFoodId())
                     .orElseThrow(() -> new RuntimeException("foodId={"+requestDto.getFoodId()+"}와/과 일치하는 음식이 존재하지 않습니다."));
             mealLog.setFoodId(newFood.getFoodId());
             isChanged = true;
@@ -141,11 +392,20 @@ public class MealLogServiceIml implements MealLogService{
 
         // 2. 수량 변경
         // DTO의 quantity는 @NotNull, @DecimalMin(0.0, inclusive=false)으로 유효성 보장
+        boolean quantityChanged = false;
         if(mealLog.getQuantity() == null || requestDto.getQuantity().compareTo(mealLog.getQuantity()) != 0) {
             mealLog.setQuantity(requestDto.getQuantity());
+            quantityChanged = true;
             isChanged = true;
         }
 
+        // 음식이나 수량이 바뀐 경우에만 영양소 스냅샷을 다시 계산 (그 외 수정은 기록 시점 값 유지)
+        if(newFood != null || quantityChanged || mealLog.getCalories() == null) {
+            Food snapshotFood = newFood != null ? newFood : foodCache.findById(mealLog.getFoodId())
+                    .orElseThrow(() -> new RuntimeException("foodId={"+mealLog.getFoodId()+"}와/과 일치하는 음식이 존재하지 않습니다."));
+            mealLog.snapshotNutrients(snapshotFood);
+        }
+
         // 3. mealType 변경
         if(mealLog.getMealType() == null || !requestDto.getMealType().equals(mealLog.getMealType())) {
             mealLog.setMealType(requestDto.getMealType());
@@ -179,7 +439,12 @@ public class MealLogServiceIml implements MealLogService{
 
         // 5.  변경사항이 있을 경우에만 DB 업데이트
         if(isChanged) {
+            // 일별 합계: 수정 전 기여분을 빼고 수정 후 기여분을 더함 (음식/수량이 바뀌어도 같은 트랜잭션에서 정확히 상쇄)
+            dailyNutritionSummaryDAO.applyMealLog(userId, logId, -1);
+            mealLog.setChangeSeq(nextChangeSeq(mealLog.getUserId(), 1)); // 순번은 기록 소유자 기준으로 발급
             mealLogDAO.updateMealLog(mealLog);
+            dailyNutritionSummaryDAO.applyMealLog(userId, logId, 1);
+            eventPublisher.publishEvent(new MealLogChangedEvent(userId, MealLogChangedEvent.Type.UPDATED, Set.of(mealLog.getMealDate())));
             log.info("식단기록 업데이트 완료 : logId={}, userId={}", logId, userId);
         } else {
             log.info("식단 기록 업데이트 요청 : 변경 내용 없음.  logId={}, userId={}", logId, userId);
@@ -212,6 +477,7 @@ public class MealLogServiceIml implements MealLogService{
 
     /* 식단 기록 삭제 */
     @Override
+    @Transactional
     public void deleteMealLog(Long userId, Long logId) throws NotFoundException {
         // 일치하는 식단 기록이 없을 경우
         MealLog mealLog = mealLogDAO.findById(logId)
@@ -221,6 +487,11 @@ public class MealLogServiceIml implements MealLogService{
 //        if(!mealLog.getUserId().equals(userId)) {
 //            throw new ForbiddenException("본인의 기록만 삭제할 수 있습니다.");
 //        }
-        mealLogDAO.deleteMealLog(userId, logId);
+        dailyNutritionSummaryDAO.applyMealLog(userId, logId, -1); // 삭제 전 기여분을 일별 합계에서 빼기
+        if (mealLogDAO.deleteMealLog(userId, logId) > 0) {
+            // 변경분 동기화로 다른 기기에 삭제를 전달하기 위한 삭제 기록
+            mealLogSyncDAO.insertTombstone(logId, userId, mealLog.getMealDate(), nextChangeSeq(userId, 1));
+            eventPublisher.publishEvent(new MealLogChangedEvent(userId, MealLogChangedEvent.Type.DELETED, Set.of(mealLog.getMealDate())));
+        }
     }
 }
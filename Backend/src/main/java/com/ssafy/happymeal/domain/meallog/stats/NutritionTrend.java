@@ -0,0 +1,92 @@
+package com.ssafy.happymeal.domain.meallog.stats;
+
+import com.ssafy.happymeal.domain.meallog.dto.MealLogStatsDto;
+import com.ssafy.happymeal.domain.meallog.dto.MealLogTrendPointDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일별 합계 목록을 구간별 합계와 이동평균으로 변환
+ * 영양소별 double 배열 하나에 날짜 순서대로 값을 모으므로, 기록이 없는 날은 따로 채우지 않아도 0이 됩니다.
+ */
+public final class NutritionTrend {
+
+    private static final int NUTRIENTS = 5; // 칼로리, 탄수화물, 당류, 단백질, 지방
+
+    private NutritionTrend() {
+    }
+
+    /**
+     * @param daily  from ~ to 사이 일별 합계 (기록 없는 날짜는 빠져 있어도 됨)
+     * @param window 이동평균에 포함할 직전 구간 수 (현재 구간 포함)
+     */
+    public static List<MealLogTrendPointDto> compute(List<MealLogStatsDto> daily, LocalDate from, LocalDate to,
+                                                     StatsBucket bucket, int window) {
+        // 1. 구간 경계: bucketStart[i] ~ bucketStart[i+1]-1 (첫 구간은 from, 마지막 구간은 to에서 잘림)
+        List<LocalDate> starts = new ArrayList<>();
+        for (LocalDate start = from; !start.isAfter(to); start = bucket.startOf(start).plus(1, unit(bucket))) {
+            starts.add(start);
+        }
+        int size = starts.size();
+
+        // 2. 일별 값을 구간 합계에 바로 누적 (날짜 -> 구간 번호는 날짜 순서를 따라 한 번만 전진)
+        double[][] totals = new double[NUTRIENTS][size];
+        int index = 0;
+        for (MealLogStatsDto day : daily) {
+            LocalDate date = day.getDate();
+            if (date == null || date.isBefore(from) || date.isAfter(to)) {
+                continue;
+            }
+            while (index + 1 < size && !date.isBefore(starts.get(index + 1))) {
+                index++;
+            }
+            totals[0][index] += value(day.getTotalCalories());
+            totals[1][index] += value(day.getTotalCarbs());
+            totals[2][index] += value(day.getTotalSugar());
+            totals[3][index] += value(day.getTotalProtein());
+            totals[4][index] += value(day.getTotalFat());
+        }
+
+        // 3. 직전 window개 구간 이동평균 (누적합 유지, 앞쪽 구간은 있는 구간 수로 나눔)
+        double[][] averages = new double[NUTRIENTS][size];
+        for (int n = 0; n < NUTRIENTS; n++) {
+            double running = 0;
+            for (int i = 0; i < size; i++) {
+                running += totals[n][i];
+                if (i >= window) {
+                    running -= totals[n][i - window];
+                }
+                averages[n][i] = running / Math.min(i + 1, window);
+            }
+        }
+
+        List<MealLogTrendPointDto> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDate end = i + 1 < size ? starts.get(i + 1).minusDays(1) : to;
+            points.add(new MealLogTrendPointDto(starts.get(i), end,
+                    round(totals[0][i]), round(totals[1][i]), round(totals[2][i]), round(totals[3][i]), round(totals[4][i]),
+                    round(averages[0][i]), round(averages[1][i]), round(averages[2][i]), round(averages[3][i]), round(averages[4][i])));
+        }
+        return points;
+    }
+
+    private static ChronoUnit unit(StatsBucket bucket) {
+        return switch (bucket) {
+            case DAY -> ChronoUnit.DAYS;
+            case WEEK -> ChronoUnit.WEEKS;
+            case MONTH -> ChronoUnit.MONTHS;
+        };
+    }
+
+    private static double value(BigDecimal value) {
+        return value == null ? 0.0 : value.doubleValue();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
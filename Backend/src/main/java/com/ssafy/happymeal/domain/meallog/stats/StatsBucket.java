@@ -0,0 +1,51 @@
+package com.ssafy.happymeal.domain.meallog.stats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * 기간 통계 집계 단위
+ */
+public enum StatsBucket {
+    DAY(7),   // 기본 이동평균: 7일
+    WEEK(4),  // 기본 이동평균: 4주 (월요일 시작)
+    MONTH(3); // 기본 이동평균: 3개월
+
+    private final int defaultWindow;
+
+    StatsBucket(int defaultWindow) {
+        this.defaultWindow = defaultWindow;
+    }
+
+    public int getDefaultWindow() {
+        return defaultWindow;
+    }
+
+    /**
+     * date가 속한 구간의 시작 날짜
+     */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 요청 파라미터(대소문자 무관)를 집계 단위로 변환, 지원하지 않는 값이면 null
+     */
+    public static StatsBucket from(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (StatsBucket bucket : values()) {
+            if (bucket.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                return bucket;
+            }
+        }
+        return null;
+    }
+}
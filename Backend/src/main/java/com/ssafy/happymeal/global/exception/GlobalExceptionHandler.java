@@ -111,6 +111,35 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    /**
+     * 4. 커서 기반 페이지 조회에서 손상되었거나 정렬 조건이 다른 커서가 전달된 경우
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        log.warn("유효하지 않은 커서: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                "INVALID_CURSOR",
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 5. 요청한 식단 기록이 없음
+     * (@ResponseStatus만으로는 아래 Exception 핸들러가 먼저 잡아 500이 되므로 명시적으로 처리)
+     */
+    @ExceptionHandler(NoMealLogFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoMealLogFoundException(NoMealLogFoundException ex) {
+        log.info("식단 기록 없음: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.NOT_FOUND,
+                "MEAL_LOG_NOT_FOUND",
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
     // 기타 서비스에서 발생 가능한 UserNotFoundException 등 다른 커스텀 예외 핸들러 추가 가능...
 
     /**
@@ -0,0 +1,15 @@
+package com.ssafy.happymeal.global.exception;
+
+/**
+ * 커서 기반 페이지 조회에서 cursor 값이 손상되었거나 현재 정렬 조건과 맞지 않을 때 발생 (400)
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,37 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.board.dao.BoardDAO;
+import com.ssafy.happymeal.domain.board.hot.BoardHotRanking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 인기 랭킹이 비어 있으면(최초 실행, Redis 초기화 등) 최근 게시글로 다시 채움
+ * 랭킹이 있는 동안은 이벤트마다 점수가 갱신되므로 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardHotRankingScheduler {
+
+    private static final int REBUILD_DAYS = 30; // 재구성 대상 (이보다 오래된 글은 감쇠로 상위권에 들기 어려움)
+
+    private final BoardHotRanking boardHotRanking;
+    private final BoardDAO boardDAO;
+
+    @Scheduled(initialDelay = 10_000, fixedDelay = 600_000)
+    public void rebuildIfEmpty() {
+        try {
+            if (!boardHotRanking.isEmpty()) {
+                return;
+            }
+            boardHotRanking.rebuild(boardDAO.findBoardsCreatedSince(LocalDateTime.now().minusDays(REBUILD_DAYS)));
+        } catch (Exception e) {
+            log.error("게시글 인기 랭킹 재구성 중 오류 발생", e);
+        }
+    }
+}
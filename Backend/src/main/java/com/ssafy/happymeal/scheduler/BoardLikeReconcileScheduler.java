@@ -0,0 +1,43 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.board.dao.BoardLikeDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Board.likes_count와 실제 BoardLike 행 수의 차이를 바로잡는 정합성 점검
+ * board_id 구간 단위(CHUNK_SIZE)로 짧은 UPDATE를 반복하며, 값이 다른 게시글만 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardLikeReconcileScheduler {
+
+    private static final int CHUNK_SIZE = 1000;            // 한 번의 UPDATE가 다루는 board_id 구간 크기
+    private static final long PAUSE_BETWEEN_CHUNKS_MS = 50; // 구간 사이 대기 (운영 트래픽과 경합 완화)
+
+    private final BoardLikeDAO boardLikeDAO;
+
+    @Scheduled(cron = "0 0 4 * * ?") // 매일 새벽 4시
+    public void reconcileLikeCounts() {
+        long start = System.currentTimeMillis();
+        int repaired = 0;
+        try {
+            long maxBoardId = boardLikeDAO.findMaxBoardId();
+            for (long fromId = 0; fromId < maxBoardId; fromId += CHUNK_SIZE) {
+                repaired += boardLikeDAO.reconcileLikeCounts(fromId, Math.min(fromId + CHUNK_SIZE, maxBoardId));
+                Thread.sleep(PAUSE_BETWEEN_CHUNKS_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("게시글 좋아요 수 점검 중단: {}건 보정", repaired);
+            return;
+        } catch (Exception e) {
+            log.error("게시글 좋아요 수 점검 중 오류 발생 ({}건 보정 후)", repaired, e);
+            return;
+        }
+        log.info("게시글 좋아요 수 점검 완료: {}건 보정 ({}ms)", repaired, System.currentTimeMillis() - start);
+    }
+}
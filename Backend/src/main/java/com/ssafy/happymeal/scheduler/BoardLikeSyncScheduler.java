@@ -0,0 +1,91 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.board.dao.BoardLikeDAO;
+import com.ssafy.happymeal.domain.board.entity.BoardLike;
+import com.ssafy.happymeal.domain.board.like.BoardLikeStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Redis에 쌓인 좋아요 변경을 DB(BoardLike 행, Board.likes_count)에 주기적으로 반영
+ * - 사용자/게시글 쌍마다 마지막 상태만 반영하므로 짧은 시간의 연속 토글은 한 번의 INSERT 또는 DELETE가 됩니다.
+ * - likes_count는 증감이 아니라 변경된 게시글의 BoardLike 행 수로 다시 계산하므로, 같은 묶음을 다시 반영해도 결과가 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardLikeSyncScheduler {
+
+    private static final int BATCH_SIZE = 500; // 문장 하나에 반영하는 좋아요 변경 수
+
+    private final BoardLikeStore boardLikeStore;
+    private final BoardLikeDAO boardLikeDAO;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(initialDelay = 3_000, fixedDelay = 3_000)
+    public void syncLikes() {
+        String lockToken;
+        try {
+            lockToken = boardLikeStore.tryLockSync();
+        } catch (Exception e) {
+            log.error("좋아요 DB 반영 잠금 획득 중 Redis 오류", e);
+            return;
+        }
+        if (lockToken == null) {
+            return; // 다른 인스턴스가 반영 중
+        }
+        try {
+            Map<String, Boolean> changes = boardLikeStore.claimPending();
+            if (changes.isEmpty()) {
+                return;
+            }
+            List<BoardLike> added = new ArrayList<>();
+            List<BoardLike> removed = new ArrayList<>();
+            Set<Long> boardIds = new TreeSet<>(); // 게시글 ID 순으로 잠가 교착 상태 방지
+            changes.forEach((field, liked) -> {
+                int sep = field.indexOf(':');
+                BoardLike like = BoardLike.builder()
+                        .boardId(Long.parseLong(field.substring(0, sep)))
+                        .userId(Long.parseLong(field.substring(sep + 1)))
+                        .build();
+                (liked ? added : removed).add(like);
+                boardIds.add(like.getBoardId());
+            });
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (List<BoardLike> chunk : chunks(added)) {
+                    boardLikeDAO.insertLikes(chunk);
+                }
+                for (List<BoardLike> chunk : chunks(removed)) {
+                    boardLikeDAO.deleteLikes(chunk);
+                }
+                for (List<Long> chunk : chunks(new ArrayList<>(boardIds))) {
+                    boardLikeDAO.recountLikes(chunk);
+                }
+            });
+            boardLikeStore.completePending();
+            log.debug("좋아요 DB 반영 완료: 추가 {}건, 취소 {}건, 게시글 {}건", added.size(), removed.size(), boardIds.size());
+        } catch (Exception e) {
+            log.error("좋아요 DB 반영 중 오류 발생, 다음 주기에 재시도합니다.", e);
+        } finally {
+            boardLikeStore.unlockSync(lockToken);
+        }
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += BATCH_SIZE) {
+            chunks.add(items.subList(from, Math.min(from + BATCH_SIZE, items.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.board.dao.BoardDAO;
+import com.ssafy.happymeal.domain.board.entity.Board;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미리보기 컬럼(preview_text, preview_image_url)이 추가되기 전의 게시글 미리보기를 나누어 채우는 이관 작업
+ * - board_id 구간 단위(CHUNK_SIZE)로 짧은 UPDATE를 반복하므로 한 번에 많은 행을 잠그지 않습니다.
+ * - 미리보기가 비어 있는 게시글만 채우므로, 새로 작성/수정된 게시글(서비스에서 직접 저장)은 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardPreviewBackfillScheduler {
+
+    private static final int CHUNK_SIZE = 1000;             // 한 번의 UPDATE가 다루는 board_id 구간 크기
+    private static final long PAUSE_BETWEEN_CHUNKS_MS = 50; // 구간 사이 대기 (운영 트래픽과 경합 완화)
+
+    private final BoardDAO boardDAO;
+
+    private volatile boolean completed = false;
+
+    /**
+     * 애플리케이션 시작 1분 후 실행, 이후 1시간마다 남은 게시글이 있는지 확인
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 3_600_000)
+    public void backfillBoardPreviews() {
+        if (completed) {
+            return;
+        }
+        long maxBoardId = boardDAO.findMaxBoardIdWithoutPreview();
+        if (maxBoardId == 0) {
+            completed = true;
+            log.info("게시글 미리보기 이관 대상 없음");
+            return;
+        }
+
+        log.info("게시글 미리보기 이관 시작: board_id <= {}", maxBoardId);
+        long start = System.currentTimeMillis();
+        int updated = 0;
+        try {
+            for (long fromId = 0; fromId < maxBoardId; fromId += CHUNK_SIZE) {
+                updated += boardDAO.backfillPreview(fromId, Math.min(fromId + CHUNK_SIZE, maxBoardId), Board.PREVIEW_TEXT_LENGTH);
+                Thread.sleep(PAUSE_BETWEEN_CHUNKS_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("게시글 미리보기 이관 중단: {}건 반영", updated);
+            return;
+        } catch (Exception e) {
+            log.error("게시글 미리보기 이관 중 오류 발생 ({}건 반영 후), 다음 주기에 이어서 진행합니다.", updated, e);
+            return;
+        }
+        log.info("게시글 미리보기 이관 완료: {}건 ({}ms)", updated, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.board.index.BoardSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 검색 색인 전체 재적재
+ * 평소에는 이벤트로 게시글 단위 갱신을 하고, 놓친 변경(브로드캐스트 실패 등)은 하루 한 번 전체를 다시 읽어 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndexScheduler {
+
+    private final BoardSearchIndex boardSearchIndex;
+
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 새벽 4시 30분
+    public void reloadSearchIndex() {
+        try {
+            boardSearchIndex.reload();
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 재적재 중 오류 발생", e);
+        }
+    }
+}
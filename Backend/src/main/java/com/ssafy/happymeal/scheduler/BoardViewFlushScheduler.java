@@ -0,0 +1,56 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.board.dao.BoardDAO;
+import com.ssafy.happymeal.domain.board.view.BoardViewCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리에 누적된 게시글 조회수를 주기적으로 DB에 반영
+ * 게시글 여러 건을 UPDATE 한 문장(CASE)으로 묶어 반영하므로, 인기 게시글이라도 주기당 한 번만 행을 잠급니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewFlushScheduler {
+
+    private static final int BATCH_SIZE = 500; // UPDATE 한 번에 반영하는 게시글 수
+
+    private final BoardViewCounter boardViewCounter;
+    private final BoardDAO boardDAO;
+
+    @Scheduled(initialDelay = 5_000, fixedDelay = 5_000)
+    public void flushViewCounts() {
+        Map<Long, Long> deltas = boardViewCounter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + BATCH_SIZE, entries.size()));
+            Map<Long, Long> batch = new HashMap<>();
+            chunk.forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+            try {
+                boardDAO.addViewCounts(batch);
+            } catch (Exception e) {
+                log.error("게시글 조회수 반영 중 오류 발생, 다음 주기에 재시도합니다. ({}건)", batch.size(), e);
+                boardViewCounter.restore(batch);
+            }
+        }
+        log.debug("게시글 조회수 반영 완료: 게시글 {}건", deltas.size());
+    }
+
+    // 정상 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
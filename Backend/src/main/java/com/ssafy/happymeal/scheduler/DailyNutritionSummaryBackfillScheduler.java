@@ -0,0 +1,60 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.meallog.dao.DailyNutritionSummaryDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * DailyNutritionSummary 테이블이 추가되기 전의 MealLog 기록으로 일별 합계를 채우는 이관 작업
+ * - user_id 구간 단위(CHUNK_SIZE)로 MealLog를 다시 집계해 덮어쓰므로, 여러 번 실행되어도 결과가 같습니다.
+ * - 테이블 추가 이후의 기록 변경은 서비스에서 같은 트랜잭션으로 증감하므로, 한 번 다 채우고 나면 다시 실행하지 않습니다.
+ * - 이관 전에 캐시된 빈 통계는 통계 캐시 TTL(1일)이 지나면 새 합계로 갱신됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyNutritionSummaryBackfillScheduler {
+
+    private static final int CHUNK_SIZE = 100;              // 한 번의 집계가 다루는 user_id 구간 크기 (사용자당 기록이 많아 MealLog 이관보다 작게)
+    private static final long PAUSE_BETWEEN_CHUNKS_MS = 50; // 구간 사이 대기 (운영 트래픽과 경합 완화)
+
+    private final DailyNutritionSummaryDAO dailyNutritionSummaryDAO;
+
+    private volatile boolean completed = false;
+
+    /**
+     * 애플리케이션 시작 2분 후 실행 (스냅샷 이관 이후), 이후 1시간마다 남은 사용자가 있는지 확인
+     */
+    @Scheduled(initialDelay = 120_000, fixedDelay = 3_600_000)
+    public void backfillDailyNutritionSummary() {
+        if (completed) {
+            return;
+        }
+        long maxUserId = dailyNutritionSummaryDAO.findMaxUserIdWithoutSummary();
+        if (maxUserId == 0) {
+            completed = true;
+            log.info("일별 영양 합계 이관 대상 없음");
+            return;
+        }
+
+        log.info("일별 영양 합계 이관 시작: user_id <= {}", maxUserId);
+        long start = System.currentTimeMillis();
+        int updated = 0;
+        try {
+            for (long fromId = 0; fromId < maxUserId; fromId += CHUNK_SIZE) {
+                updated += dailyNutritionSummaryDAO.backfillRange(fromId, Math.min(fromId + CHUNK_SIZE, maxUserId));
+                Thread.sleep(PAUSE_BETWEEN_CHUNKS_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("일별 영양 합계 이관 중단: {}건 반영", updated);
+            return;
+        } catch (Exception e) {
+            log.error("일별 영양 합계 이관 중 오류 발생 ({}건 반영 후), 다음 주기에 이어서 진행합니다.", updated, e);
+            return;
+        }
+        log.info("일별 영양 합계 이관 완료: {}건 ({}ms)", updated, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.meallog.dao.MealLogDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 섭취 영양소 스냅샷 컬럼이 추가되기 전의 MealLog 기록을 나누어 채우는 이관 작업
+ * - log_id 구간 단위(CHUNK_SIZE)로 짧은 UPDATE를 반복하므로 한 번에 많은 행을 잠그지 않습니다.
+ * - 새로 추가/수정되는 기록은 서비스에서 스냅샷을 직접 저장하므로, 한 번 다 채우고 나면 다시 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MealLogSnapshotBackfillScheduler {
+
+    private static final int CHUNK_SIZE = 1000;          // 한 번의 UPDATE가 다루는 log_id 구간 크기
+    private static final long PAUSE_BETWEEN_CHUNKS_MS = 50; // 구간 사이 대기 (운영 트래픽과 경합 완화)
+
+    private final MealLogDAO mealLogDAO;
+
+    private volatile boolean completed = false;
+
+    /**
+     * 애플리케이션 시작 1분 후 실행, 이후 1시간마다 남은 기록이 있는지 확인
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 3_600_000)
+    public void backfillMealLogSnapshots() {
+        if (completed) {
+            return;
+        }
+        long maxLogId = mealLogDAO.findMaxLogIdWithoutSnapshot();
+        if (maxLogId == 0) {
+            completed = true;
+            log.info("식단 기록 영양소 스냅샷 이관 대상 없음");
+            return;
+        }
+
+        log.info("식단 기록 영양소 스냅샷 이관 시작: log_id <= {}", maxLogId);
+        long start = System.currentTimeMillis();
+        int updated = 0;
+        try {
+            for (long fromId = 0; fromId < maxLogId; fromId += CHUNK_SIZE) {
+                updated += mealLogDAO.backfillSnapshot(fromId, Math.min(fromId + CHUNK_SIZE, maxLogId));
+                Thread.sleep(PAUSE_BETWEEN_CHUNKS_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("식단 기록 영양소 스냅샷 이관 중단: {}건 반영", updated);
+            return;
+        } catch (Exception e) {
+            log.error("식단 기록 영양소 스냅샷 이관 중 오류 발생 ({}건 반영 후), 다음 주기에 이어서 진행합니다.", updated, e);
+            return;
+        }
+        log.info("식단 기록 영양소 스냅샷 이관 완료: {}건 ({}ms)", updated, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.happymeal.scheduler;
+
+import com.ssafy.happymeal.domain.meallog.dao.MealLogSyncDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 식단 기록 삭제 기록(tombstone) 정리
+ * 정리 전에 사용자별 purged_seq를 올려 두므로, 그보다 오래된 동기화 토큰은 전체 재동기화 응답을 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MealLogTombstoneCleanupScheduler {
+
+    private static final int RETENTION_DAYS = 90;
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final MealLogSyncDAO mealLogSyncDAO;
+
+    @Scheduled(cron = "0 30 3 * * ?") // 매일 새벽 3시 30분
+    public void purgeTombstones() {
+        LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        try {
+            mealLogSyncDAO.markPurged(before);
+            int total = 0;
+            int deleted;
+            do {
+                deleted = mealLogSyncDAO.purgeTombstones(before, DELETE_CHUNK_SIZE);
+                total += deleted;
+            } while (deleted == DELETE_CHUNK_SIZE);
+            log.info("식단 기록 삭제 기록 정리 완료: {}건 ({} 이전)", total, before);
+        } catch (Exception e) {
+            log.error("식단 기록 삭제 기록 정리 중 오류 발생", e);
+        }
+    }
+}
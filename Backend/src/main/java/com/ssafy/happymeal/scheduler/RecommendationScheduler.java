@@ -28,29 +28,36 @@ public class RecommendationScheduler {
     );
 
     /**
-     * 매일 새벽 2시에 실행되어 주요 카테고리들의 추천 음식 캐시를 갱신합니다.
+     * 매일 새벽 2시에 실행되어 주요 카테고리들의 추천 후보 풀을 갱신합니다.
      * cron 표현식: "초 분 시 일 월 요일" (연도는 생략 가능)
      * "0 0 2 * * ?" 의미: 매일(어떤 요일이든), 어떤 달이든, 어떤 날이든, 새벽 2시 0분 0초에 실행
      */
     @Scheduled(cron = "0 0 2 * * ?") // 매일 새벽 2시에 실행
     // 테스트를 위해 짧은 주기로 변경 가능: 예) "0 */5 * * * ?" (매 5분마다 0초에 실행)
     public void refreshRecommendationCache() {
-        log.info("추천 음식 캐시 갱신 스케줄 작업 시작...");
+        log.info("추천 음식 후보 풀 갱신 스케줄 작업 시작...");
 
+        // 1. DB 기준으로 카탈로그를 다시 적재 -> 카테고리별 후보 풀이 함께 재구성됨
+        //    (다른 서버에서 수정된 음식이나 DB에 직접 반영된 변경도 여기서 따라잡음)
+        try {
+            foodService.refreshRecommendationPools();
+        } catch (Exception e) {
+            log.error("추천 후보 풀 재구성 중 오류 발생! 카테고리별 캐시 예열로 대체합니다.", e);
+        }
+
+        // 2. 카테고리별 추천 확인
+        //    후보 풀이 준비되어 있으면 메모리에서 바로 뽑히고, 준비되지 않았다면 이 호출로 Redis 캐시가 채워집니다.
         for (String categoryName : TARGET_CATEGORIES_FOR_WARMING) {
             try {
-                log.info("카테고리 '{}'에 대한 캐시 갱신 시도...", categoryName);
-                // FoodService의 getRecommendedFoods 메서드를 호출합니다.
-                // 이 메서드 내부에 캐시 조회, DB 조회, 캐시 저장 로직이 모두 포함되어 있으므로,
-                // 단순히 호출하는 것만으로 캐시가 채워지거나 갱신됩니다.
+                log.info("카테고리 '{}'에 대한 추천 확인 시도...", categoryName);
                 foodService.getRecommendedFoods(categoryName);
-                log.info("카테고리 '{}' 캐시 갱신 성공 또는 이미 최신 상태임.", categoryName);
+                log.info("카테고리 '{}' 추천 확인 완료.", categoryName);
             } catch (Exception e) {
                 // 특정 카테고리 처리 중 예외가 발생하더라도 다른 카테고리 처리는 계속 진행되도록 합니다.
-                log.error("카테고리 '{}' 캐시 갱신 중 오류 발생!", categoryName, e);
+                log.error("카테고리 '{}' 추천 확인 중 오류 발생!", categoryName, e);
             }
         }
-        log.info("추천 음식 캐시 갱신 스케줄 작업 완료.");
+        log.info("추천 음식 후보 풀 갱신 스케줄 작업 완료.");
     }
 
     // (선택 사항) 애플리케이션 시작 시 한번 캐시를 채우는 로직 추가 가능
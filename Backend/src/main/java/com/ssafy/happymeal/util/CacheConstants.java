@@ -2,4 +2,22 @@ package com.ssafy.happymeal.util;
 
 public class CacheConstants {
     public static final String RECOMMENDATIONS_KEY_PRIPIX = "recommendations:";
+    public static final String PERSONAL_RECOMMENDATIONS_KEY_PREFIX = "recommendations:personal:"; // 사용자 맞춤 추천 (recommendations:personal:{version}:{userVersion}:{userId})
+    public static final String PERSONAL_RECOMMENDATIONS_VERSION_KEY = "recommendations:personal-version"; // 맞춤 추천 전역 버전 (음식 변경 시 증가)
+    public static final String PERSONAL_RECOMMENDATIONS_USER_VERSION_KEY_PREFIX = "recommendations:personal-version:"; // 사용자별 맞춤 추천 버전 (recommendations:personal-version:{userId}, 기록 변경 시 증가)
+    public static final String FOOD_KEY_PREFIX = "food:"; // 음식 단건 캐시 (food:{foodId})
+    public static final String FOOD_EVICT_CHANNEL = "food:evict"; // 음식 캐시 무효화 브로드캐스트 채널 (메시지: foodId)
+    public static final String MEAL_STATS_DAILY_KEY_PREFIX = "meallog:stats:daily:"; // 일별 식단 통계 (meallog:stats:daily:{userId}:{date})
+    public static final String MEAL_STATS_WEEKLY_KEY_PREFIX = "meallog:stats:weekly:"; // 주간 식단 통계 (meallog:stats:weekly:{userId}:{endDate})
+    public static final String MEAL_STATS_VERSION_KEY_PREFIX = "meallog:stats:version:"; // 사용자별 식단 통계 변경 버전 (meallog:stats:version:{userId}, 기록 변경 시 증가)
+    public static final String BOARD_LIKES_KEY_PREFIX = "board:likes:"; // 게시글 좋아요 사용자 집합 (board:likes:{boardId})
+    public static final String BOARD_LIKES_PENDING_KEY = "board:likes-pending"; // DB 반영 대기 중인 좋아요 변경 (필드: boardId:userId, 값: 1 = 좋아요, 0 = 취소)
+    public static final String BOARD_LIKES_SYNCING_KEY = "board:likes-syncing"; // DB 반영 중인 좋아요 변경 (pending에서 옮겨 온 묶음)
+    public static final String BOARD_LIKES_SYNC_LOCK_KEY = "board:likes-sync-lock"; // 좋아요 DB 반영 작업 잠금 (한 인스턴스만 실행)
+    public static final String BOARD_HOT_ALL_KEY = "board:hot:all"; // 전체 게시글 인기 점수 (ZSET, member: boardId)
+    public static final String BOARD_HOT_CATEGORY_KEY_PREFIX = "board:hot:category:"; // 카테고리별 게시글 인기 점수 (board:hot:category:{categoryId})
+    public static final String BOARD_HOT_LIKED_KEY_PREFIX = "board:hot:liked:"; // 좋아요 점수를 이미 반영한 사용자 집합 (board:hot:liked:{boardId}, 반복 토글 중복 가산 방지)
+    public static final String BOARD_HOT_CATEGORIES_KEY = "board:hot:categories"; // 게시글 ID -> 카테고리 ID (HASH)
+    public static final String BOARD_CHANGED_CHANNEL = "board:changed"; // 게시글 변경 브로드캐스트 채널 (메시지: instanceId:boardId)
+    public static final String FOOD_CHANGED_CHANNEL = "food:changed"; // 음식 변경 브로드캐스트 채널 (메시지: instanceId:foodId)
 }
@@ -0,0 +1,43 @@
+package com.ssafy.happymeal.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.happymeal.global.exception.InvalidCursorException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지 조회용 불투명(opaque) 커서 인코딩 유틸
+ * 마지막 행의 정렬 키를 담은 객체를 JSON -> URL-safe Base64 문자열로 변환합니다.
+ * 클라이언트는 내용을 해석하지 않고 받은 값을 다음 요청에 그대로 전달합니다.
+ */
+public final class CursorCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object payload) {
+        try {
+            return ENCODER.encodeToString(MAPPER.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("커서 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * @throws InvalidCursorException Base64/JSON 형식이 아닌 경우
+     */
+    public static <T> T decode(String cursor, Class<T> type) {
+        try {
+            return MAPPER.readValue(new String(DECODER.decode(cursor), StandardCharsets.UTF_8), type);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssafy.happymeal.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 검색용 문자열 유틸
+ * - 검색 인덱스와 질의가 같은 규칙으로 정규화되도록 한 곳에서 처리합니다.
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00; // '가'
+    private static final char SYLLABLE_END = 0xD7A3;   // '힣'
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28; // 중성 21개 x 종성 28개
+
+    // 초성 19자 (호환용 자모)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 검색용 정규화 (MySQL 기본 collation처럼 대소문자 구분 없이 비교하기 위해 소문자로 변환)
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 연속된 두 글자(bigram) 집합, 한 글자짜리 문자열이면 그 글자 하나
+     * 예: "닭가슴살" -> [닭가, 가슴, 슴살]
+     */
+    public static Set<String> bigrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 완성형 한글 음절이면 초성 자모로, 그 외 문자는 그대로 반환
+     * 예: '닭' -> 'ㄷ'
+     */
+    public static char chosungOf(char c) {
+        if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) {
+            return c;
+        }
+        return CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    /**
+     * 문자열의 모든 음절을 초성으로 변환
+     * 예: "닭가슴살" -> "ㄷㄱㅅㅅ"
+     */
+    public static String toChosung(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = chosungOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 초성으로 쓰일 수 있는 호환용 자음 자모인지 여부 (ㄱ ~ ㅎ)
+     */
+    public static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
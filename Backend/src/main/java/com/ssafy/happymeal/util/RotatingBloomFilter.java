@@ -0,0 +1,109 @@
+package com.ssafy.happymeal.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 창(window) 단위로 교체되는 블룸 필터 (중복 판정용, 스레드 안전)
+ * - 현재/이전 두 세대를 유지하며, 둘 중 하나에라도 있으면 "이미 본 키"로 판단합니다.
+ *   따라서 한 번 기록된 키는 최소 window, 최대 2 * window 동안 중복으로 취급됩니다.
+ * - 거짓 양성(처음 본 키를 중복으로 판단)은 설계 오차율 수준으로 발생할 수 있고, 거짓 음성은 없습니다.
+ */
+public class RotatingBloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long windowMillis;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    /**
+     * @param expectedInsertions window 동안 들어올 것으로 예상되는 키 수
+     * @param falsePositiveRate  목표 거짓 양성 비율 (예: 0.01)
+     * @param windowMillis       세대 교체 주기
+     */
+    public RotatingBloomFilter(int expectedInsertions, double falsePositiveRate, long windowMillis) {
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitCount = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        this.windowMillis = windowMillis;
+        long now = System.currentTimeMillis();
+        this.current = new Generation(bitCount, now);
+        this.previous = new Generation(bitCount, now);
+    }
+
+    /**
+     * 키를 기록하고, 처음 본 키였는지 반환 (window 안에서 이미 기록된 키면 false)
+     */
+    public boolean put(String key) {
+        rotateIfExpired();
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        Generation cur = this.current;
+        Generation prev = this.previous;
+        boolean seenInCurrent = true;
+        boolean seenInPrevious = true;
+        for (int i = 1; i <= hashCount; i++) {
+            int combined = h1 + i * h2;
+            int index = (combined & Integer.MAX_VALUE) % bitCount;
+            if (!cur.set(index)) {
+                seenInCurrent = false;
+            }
+            if (seenInPrevious && !prev.get(index)) {
+                seenInPrevious = false;
+            }
+        }
+        return !(seenInCurrent || seenInPrevious);
+    }
+
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - current.createdAt < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now - current.createdAt >= windowMillis) {
+                previous = current;
+                current = new Generation(bitCount, now);
+            }
+        }
+    }
+
+    // FNV-1a 64비트 해시 + 비트 섞기 (두 개의 32비트 해시로 나누어 이중 해싱에 사용)
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h;
+    }
+
+    private static final class Generation {
+        final AtomicLongArray words;
+        final long createdAt;
+
+        Generation(int bitCount, long createdAt) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+            this.createdAt = createdAt;
+        }
+
+        boolean get(int index) {
+            return (words.get(index >>> 6) & (1L << index)) != 0;
+        }
+
+        /* 비트를 켜고, 이미 켜져 있었는지 반환 */
+        boolean set(int index) {
+            int word = index >>> 6;
+            long mask = 1L << index;
+            long prev = words.getAndAccumulate(word, mask, (a, b) -> a | b);
+            return (prev & mask) != 0;
+        }
+    }
+}
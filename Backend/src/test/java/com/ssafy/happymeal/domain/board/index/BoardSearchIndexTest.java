@@ -0,0 +1,159 @@
+package com.ssafy.happymeal.domain.board.index;
+
+import com.ssafy.happymeal.domain.board.dao.BlockDAO;
+import com.ssafy.happymeal.domain.board.dao.BoardDAO;
+import com.ssafy.happymeal.domain.board.entity.Block;
+import com.ssafy.happymeal.domain.board.entity.Board;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 검색 색인이 원문 LIKE 검색과 같은 건수를 내는지, 점수 순서와 게시글 단위 갱신이 맞는지 확인
+ * DAO는 메모리의 게시글/블록을 돌려주는 프록시로 대체합니다.
+ */
+class BoardSearchIndexTest {
+
+    private static final String[] WORDS = {"닭", "가슴", "살", "닭가슴살", "샐러드", "레시피", "오늘", "점심", "다이어트",
+            "식단", "김치", "찌개", "김치찌개", "된장", "Salad", "ab", "b"};
+    private static final String[] QUERIES = {"닭", "닭가슴살", "가슴 닭", "레시피 닭", "없음", "살 샐", "김치", "치찌",
+            "salad", "b", "ab c", "된장 김치찌개", "오늘점심"};
+
+    private final Random random = new Random(42);
+    private final Map<Long, Board> boards = new TreeMap<>();
+    private final Map<Long, String> contents = new TreeMap<>();
+
+    @Test
+    void 검색_건수와_결과는_원문_부분_문자열_검색과_같음() {
+        randomBoards(300);
+        BoardSearchIndex index = newIndex();
+        index.reload();
+
+        for (String query : QUERIES) {
+            Set<Long> expected = bruteForce(query);
+            BoardSearchIndex.Result result = index.search(query, 0, 1000);
+            assertThat(result.totalElements()).as(query).isEqualTo(expected.size());
+            assertThat(new HashSet<>(result.boardIds())).as(query).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 제목_일치와_단어_전체_일치가_앞에_옴() {
+        put(1L, "오늘 점심", "닭가슴살 샐러드를 먹었다");
+        put(2L, "닭가슴살 샐러드", "");
+        put(3L, "식단 기록", "훈제닭가슴살이 맛있다");
+        put(4L, "점심", "닭가슴살 닭가슴살"); // 본문 2회 < 제목 1회(TITLE_WEIGHT)
+        BoardSearchIndex index = newIndex();
+        index.reload();
+
+        BoardSearchIndex.Result result = index.search("닭가슴살", 0, 10);
+
+        assertThat(result.totalElements()).isEqualTo(4);
+        assertThat(result.boardIds().get(0)).isEqualTo(2L); // 제목 일치
+        assertThat(result.boardIds().get(result.boardIds().size() - 1)).isEqualTo(3L); // 다른 단어 속 부분 일치만 있음
+        assertThat(index.search("닭가슴살", 1, 2).boardIds()).isEqualTo(result.boardIds().subList(1, 3));
+    }
+
+    @Test
+    void 게시글_단위_갱신은_전체_재적재와_같은_결과() {
+        randomBoards(200);
+        BoardSearchIndex incremental = newIndex();
+        incremental.reload();
+
+        for (int i = 0; i < 150; i++) {
+            long boardId = 1 + random.nextInt(230);
+            if (random.nextInt(4) == 0) {
+                boards.remove(boardId);
+                contents.remove(boardId);
+            } else {
+                put(boardId, text(2), text(12));
+            }
+            incremental.sync(boardId);
+        }
+        BoardSearchIndex rebuilt = newIndex();
+        rebuilt.reload();
+
+        for (String query : QUERIES) {
+            BoardSearchIndex.Result expected = rebuilt.search(query, 0, 1000);
+            BoardSearchIndex.Result actual = incremental.search(query, 0, 1000);
+            assertThat(actual.totalElements()).as(query).isEqualTo(expected.totalElements());
+            assertThat(actual.boardIds()).as(query).isEqualTo(expected.boardIds());
+            assertThat(new HashSet<>(actual.boardIds())).as(query).isEqualTo(bruteForce(query));
+        }
+    }
+
+    private BoardSearchIndex newIndex() {
+        BoardDAO boardDAO = (BoardDAO) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{BoardDAO.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllTitles" -> new ArrayList<>(boards.values());
+                    case "findBoardById" -> Optional.ofNullable(boards.get((Long) args[0]));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        BlockDAO blockDAO = (BlockDAO) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{BlockDAO.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllTextBlocks" -> contents.entrySet().stream()
+                            .map(entry -> block(entry.getKey(), entry.getValue()))
+                            .toList();
+                    case "findBlocksByBoardId" -> contents.containsKey((Long) args[0])
+                            ? List.of(block((Long) args[0], contents.get((Long) args[0])))
+                            : List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new BoardSearchIndex(boardDAO, blockDAO);
+    }
+
+    // 검색어의 모든 단어를 제목 또는 본문에 (대소문자 무시) 포함한 게시글
+    private Set<Long> bruteForce(String query) {
+        String[] words = query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        return boards.values().stream()
+                .filter(board -> {
+                    String title = board.getTitle().toLowerCase(Locale.ROOT);
+                    String content = contents.getOrDefault(board.getBoardId(), "").toLowerCase(Locale.ROOT);
+                    for (String word : words) {
+                        if (!word.isEmpty() && !title.contains(word) && !content.contains(word)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                })
+                .map(Board::getBoardId)
+                .collect(Collectors.toSet());
+    }
+
+    private void randomBoards(int count) {
+        for (long boardId = 1; boardId <= count; boardId++) {
+            put(boardId, text(1 + random.nextInt(4)), text(random.nextInt(30)));
+        }
+    }
+
+    private void put(Long boardId, String title, String content) {
+        boards.put(boardId, Board.builder().boardId(boardId).title(title).build());
+        contents.put(boardId, content);
+    }
+
+    private String text(int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            int separator = random.nextInt(3);
+            text.append(separator == 0 ? "" : separator == 1 ? " " : ", ");
+        }
+        return text.toString();
+    }
+
+    private static Block block(Long boardId, String content) {
+        return Block.builder().boardId(boardId).orderIndex(0).blockType("text").contentText(content).build();
+    }
+}
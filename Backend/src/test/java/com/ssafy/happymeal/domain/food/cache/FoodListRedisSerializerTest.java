@@ -0,0 +1,179 @@
+package com.ssafy.happymeal.domain.food.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 음식 목록 캐시 직렬화 형식(v1, 이전 JSON, 압축/비압축) 왕복 확인과 이전 JSON 대비 값 크기 비교
+ */
+class FoodListRedisSerializerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodListRedisSerializerTest.class);
+
+    @Test
+    void 작은_목록은_압축하지_않고_그대로_왕복() {
+        FoodListRedisSerializer serializer = new FoodListRedisSerializer(null, FoodCacheCodec.DEFLATE);
+        List<Food> foods = foods(1, "닭가슴살");
+
+        byte[] bytes = serializer.serialize(foods);
+
+        assertThat(bytes.length).isLessThan(FoodListRedisSerializer.COMPRESS_THRESHOLD);
+        assertThat(bytes[0]).isEqualTo(FoodListRedisSerializer.VERSION);
+        assertThat(bytes[1]).isEqualTo(FoodCacheCodec.NONE.getFlag());
+        assertThat(serializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(foods);
+    }
+
+    @Test
+    void 큰_목록은_deflate로_압축해_왕복() {
+        FoodListRedisSerializer serializer = new FoodListRedisSerializer(null, FoodCacheCodec.DEFLATE);
+        List<Food> foods = foods(50, "data:image/png;base64," + "A".repeat(2000));
+
+        byte[] bytes = serializer.serialize(foods);
+
+        assertThat(bytes[1]).isEqualTo(FoodCacheCodec.DEFLATE.getFlag());
+        assertThat(bytes.length).isLessThan(new FoodListRedisSerializer(null, FoodCacheCodec.NONE).serialize(foods).length);
+        assertThat(serializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(foods);
+    }
+
+    @Test
+    void 압축_설정과_관계없이_값의_플래그로_읽음() {
+        List<Food> foods = foods(50, "data:image/png;base64," + "A".repeat(2000));
+        FoodListRedisSerializer deflate = new FoodListRedisSerializer(null, FoodCacheCodec.DEFLATE);
+        FoodListRedisSerializer none = new FoodListRedisSerializer(null, FoodCacheCodec.NONE);
+
+        byte[] uncompressed = none.serialize(foods);
+        assertThat(uncompressed[1]).isEqualTo(FoodCacheCodec.NONE.getFlag());
+
+        assertThat(deflate.deserialize(uncompressed)).usingRecursiveComparison().isEqualTo(foods);
+        assertThat(none.deserialize(deflate.serialize(foods))).usingRecursiveComparison().isEqualTo(foods);
+    }
+
+    @Test
+    void null_값과_큰_소수도_그대로_왕복() {
+        FoodListRedisSerializer serializer = new FoodListRedisSerializer(null);
+        Food empty = Food.builder().foodId(7L).build();
+        Food big = Food.builder().foodId(8L).name("큰 값")
+                .calories(new BigDecimal("123456789012345678901234567890.12"))
+                .fat(new BigDecimal("-0.50"))
+                .createAt(LocalDateTime.of(1999, 12, 31, 23, 59, 59, 123_000_000))
+                .build();
+        List<Food> foods = List.of(empty, big);
+
+        assertThat(serializer.deserialize(serializer.serialize(foods))).usingRecursiveComparison().isEqualTo(foods);
+        assertThat(serializer.deserialize(serializer.serialize(List.of()))).isEmpty();
+    }
+
+    @Test
+    void 이전_JSON_형식은_fallback_직렬화기로_읽음() {
+        // 이전 설정(RedisConfig)과 같이 ObjectMapper를 넘긴 GenericJackson2JsonRedisSerializer로 저장된 값
+        GenericJackson2JsonRedisSerializer legacy = new GenericJackson2JsonRedisSerializer(objectMapper());
+        FoodListRedisSerializer serializer = new FoodListRedisSerializer(objectMapper());
+        List<Food> foods = foods(3, null);
+
+        byte[] json = legacy.serialize(new ArrayList<>(foods));
+
+        assertThat(json[0]).isEqualTo((byte) '[');
+        assertThat(serializer.deserialize(json)).usingRecursiveComparison().isEqualTo(foods);
+    }
+
+    @Test
+    void 알_수_없는_버전과_압축_방식은_캐시_미스() {
+        FoodListRedisSerializer serializer = new FoodListRedisSerializer(null);
+
+        assertThat(serializer.deserialize(new byte[]{9, 0, 0})).isNull();
+        assertThat(serializer.deserialize(new byte[]{FoodListRedisSerializer.VERSION, 42, 0})).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void 바이너리_형식은_이전_JSON보다_작음() {
+        // 추천/목록 캐시와 비슷한 구성: 20건 중 일부는 data URL 이미지, 나머지는 일반 URL 또는 이미지 없음
+        Random random = new Random(42);
+        List<Food> foods = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            String imgUrl = switch (i % 4) {
+                case 0 -> "data:image/png;base64," + randomBase64(random, 3000);
+                case 1 -> "https://example.com/images/food/" + i + ".jpg";
+                default -> null;
+            };
+            foods.add(Food.builder()
+                    .foodId((long) i)
+                    .name("음식 이름 " + i)
+                    .category(i % 2 == 0 ? "육류" : "채소류")
+                    .servingSize(new BigDecimal("100.00"))
+                    .unit("g")
+                    .calories(BigDecimal.valueOf(random.nextInt(90_000), 2))
+                    .carbs(BigDecimal.valueOf(random.nextInt(10_000), 2))
+                    .sugar(BigDecimal.valueOf(random.nextInt(6_000), 2))
+                    .protein(BigDecimal.valueOf(random.nextInt(8_000), 2))
+                    .fat(BigDecimal.valueOf(random.nextInt(7_000), 2))
+                    .imgUrl(imgUrl)
+                    .foodCode("D" + (100000 + i))
+                    .createAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i))
+                    .updateAt(LocalDateTime.of(2025, 5, 1, 12, 30).plusMinutes(i))
+                    .build());
+        }
+        byte[] json = new GenericJackson2JsonRedisSerializer(objectMapper()).serialize(new ArrayList<>(foods));
+        byte[] none = new FoodListRedisSerializer(objectMapper(), FoodCacheCodec.NONE).serialize(foods);
+        byte[] deflate = new FoodListRedisSerializer(objectMapper(), FoodCacheCodec.DEFLATE).serialize(foods);
+        log.info("음식 목록 20건 캐시 값 크기: JSON {}B, 바이너리 {}B, 바이너리+deflate {}B", json.length, none.length, deflate.length);
+
+        assertThat(none.length).isLessThan(json.length);
+        assertThat(deflate.length).isLessThan(none.length);
+        FoodListRedisSerializer reader = new FoodListRedisSerializer(objectMapper());
+        assertThat(reader.deserialize(none)).usingRecursiveComparison().isEqualTo(foods);
+        assertThat(reader.deserialize(deflate)).usingRecursiveComparison().isEqualTo(foods);
+        assertThat(reader.deserialize(json)).usingRecursiveComparison().isEqualTo(foods);
+    }
+
+    private static String randomBase64(Random random, int byteCount) {
+        byte[] bytes = new byte[byteCount];
+        random.nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static List<Food> foods(int count, String imgUrl) {
+        List<Food> foods = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            foods.add(Food.builder()
+                    .foodId((long) i)
+                    .name("음식" + i)
+                    .category("육류")
+                    .servingSize(new BigDecimal("100.00"))
+                    .unit("g")
+                    .calories(new BigDecimal("165.00"))
+                    .carbs(new BigDecimal("0.00"))
+                    .sugar(null)
+                    .protein(new BigDecimal("31.02"))
+                    .fat(new BigDecimal("3.60"))
+                    .imgUrl(imgUrl)
+                    .foodCode("F" + i)
+                    .createAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                    .updateAt(LocalDateTime.of(2025, 5, 1, 12, 30, 15))
+                    .build());
+        }
+        return foods;
+    }
+
+    private static ObjectMapper objectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.dto.FoodSuggestionDto;
+import com.ssafy.happymeal.domain.food.entity.Food;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 증분 갱신(upsert/remove)한 인덱스가 같은 데이터로 전체 재구성한 인덱스와 같은 결과를 내는지 확인
+ */
+class FoodIndexIncrementalTest {
+
+    private static final String[] NAMES = {"닭가슴살", "훈제 닭가슴살", "닭볶음탕", "된장찌개", "김치찌개", "계란말이", "닭갈비", "두부조림", "돼지갈비", "김밥"};
+
+    private final Random random = new Random(42);
+
+    @Test
+    void 영양소_인덱스_증분_갱신은_재구성과_같은_결과() {
+        Map<Long, Food> foods = initialFoods(200);
+        FoodNutrientIndex incremental = new FoodNutrientIndex();
+        incremental.rebuild(foods.values());
+
+        for (int i = 0; i < 300; i++) {
+            applyRandomChange(foods, incremental);
+        }
+        FoodNutrientIndex rebuilt = new FoodNutrientIndex();
+        rebuilt.rebuild(foods.values());
+
+        NutrientFilter filter = new NutrientFilter().min(Nutrient.CALORIES, 100).max(Nutrient.CALORIES, 400).max(Nutrient.FAT, 20);
+        for (String sort : new String[]{"calories asc", "protein desc", "fat asc", "name asc"}) {
+            FoodSortOrder order = FoodSortOrder.parse(sort);
+            FoodNutrientIndex.Result expected = rebuilt.query(filter, order, 0, 1000);
+            FoodNutrientIndex.Result actual = incremental.query(filter, order, 0, 1000);
+            assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+            assertThat(ids(actual.getContent())).isEqualTo(ids(expected.getContent()));
+        }
+    }
+
+    @Test
+    void 이름_인덱스_증분_갱신은_재구성과_같은_결과() {
+        Map<Long, Food> foods = initialFoods(200);
+        FoodNameIndex incremental = new FoodNameIndex();
+        incremental.rebuild(foods.values());
+
+        for (int i = 0; i < 100; i++) {
+            applyRandomChange(foods, incremental);
+        }
+        FoodNameIndex rebuilt = new FoodNameIndex();
+        rebuilt.rebuild(foods.values());
+
+        for (String keyword : new String[]{"닭", "찌개", "갈비", "", "없는이름"}) {
+            FoodSortOrder order = FoodSortOrder.parse("name asc");
+            FoodNameIndex.Result expected = rebuilt.search(keyword, order, 0, 1000);
+            FoodNameIndex.Result actual = incremental.search(keyword, order, 0, 1000);
+            assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+            assertThat(ids(actual.getContent())).isEqualTo(ids(expected.getContent()));
+        }
+    }
+
+    @Test
+    void 자동완성_인덱스_증분_갱신은_재구성과_같은_결과() {
+        Map<Long, Food> foods = initialFoods(200);
+        FoodSuggestIndex incremental = new FoodSuggestIndex();
+        incremental.rebuild(foods.values());
+
+        for (int i = 0; i < 100; i++) {
+            applyRandomChange(foods, incremental);
+        }
+        FoodSuggestIndex rebuilt = new FoodSuggestIndex();
+        rebuilt.rebuild(foods.values());
+
+        for (String keyword : new String[]{"닭", "ㄷㄱ", "닭ㄱ", "찌개", "김", "ㄱㅊ"}) {
+            assertThat(suggestionIds(incremental.suggest(keyword, 10)))
+                    .isEqualTo(suggestionIds(rebuilt.suggest(keyword, 10)));
+        }
+    }
+
+    private Map<Long, Food> initialFoods(int count) {
+        Map<Long, Food> foods = new LinkedHashMap<>();
+        for (long id = 1; id <= count; id++) {
+            foods.put(id, randomFood(id));
+        }
+        return foods;
+    }
+
+    // 추가, 수정, 삭제 중 하나를 카탈로그와 인덱스에 함께 반영
+    private void applyRandomChange(Map<Long, Food> foods, FoodIndex index) {
+        int action = random.nextInt(3);
+        List<Long> ids = new ArrayList<>(foods.keySet());
+        if (action == 0 || ids.isEmpty()) {
+            long id = ids.stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+            Food food = randomFood(id);
+            foods.put(id, food);
+            index.upsert(food, foods.values());
+        } else if (action == 1) {
+            long id = ids.get(random.nextInt(ids.size()));
+            Food food = randomFood(id);
+            foods.put(id, food);
+            index.upsert(food, foods.values());
+        } else {
+            long id = ids.get(random.nextInt(ids.size()));
+            foods.remove(id);
+            index.remove(id, foods.values());
+        }
+    }
+
+    private Food randomFood(long id) {
+        return Food.builder()
+                .foodId(id)
+                .name(NAMES[random.nextInt(NAMES.length)] + (random.nextBoolean() ? "" : " " + random.nextInt(5)))
+                .calories(BigDecimal.valueOf(random.nextInt(60) * 10))
+                .carbs(BigDecimal.valueOf(random.nextInt(50)))
+                .sugar(BigDecimal.valueOf(random.nextInt(20)))
+                .protein(BigDecimal.valueOf(random.nextInt(40)))
+                .fat(BigDecimal.valueOf(random.nextInt(30)))
+                .build();
+    }
+
+    private static List<Long> ids(List<Food> foods) {
+        return foods.stream().map(Food::getFoodId).toList();
+    }
+
+    private static List<Long> suggestionIds(List<FoodSuggestionDto> suggestions) {
+        return suggestions.stream().map(FoodSuggestionDto::getFoodId).toList();
+    }
+}
@@ -0,0 +1,220 @@
+package com.ssafy.happymeal.domain.food.index;
+
+import com.ssafy.happymeal.domain.food.entity.Food;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유사 음식 KD-트리 조회가 정규화 벡터 전수 비교와 같은 결과를 내는지 확인
+ * 대량 데이터 조회 시간 측정은 benchmark 태그로 분리되어 기본 test 작업에서는 제외됩니다. (gradle benchmark로 실행)
+ */
+class FoodSimilarityIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodSimilarityIndexTest.class);
+
+    private static final int QUERY_COUNT = 200;
+    private static final int K = 10;
+    private static final String[] CATEGORIES = {"육류", "채소류", "곡류", "어패류", "과일류", "유제품"};
+
+    private final Random random = new Random(42);
+
+    @Test
+    void KD트리_조회는_전수_비교와_같은_결과() {
+        List<Food> foods = randomFoods(5_000);
+        FoodSimilarityIndex index = new FoodSimilarityIndex();
+        index.rebuild(foods);
+        double[] scale = scale(foods);
+        double[][] points = normalizeAll(foods, scale);
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Food base = foods.get(random.nextInt(foods.size()));
+            for (Predicate<Food> filter : filters(base)) {
+                assertThat(distances(index.nearest(base, K, filter), scale, base)).as("food_id=" + base.getFoodId())
+                        .containsExactlyElementsOf(distances(bruteForce(foods, points, scale, base, filter), scale, base));
+            }
+        }
+    }
+
+    // 같은 시드로 반복 측정 가능한 조회 시간 비교 (JMH 대신), gradle benchmark로 실행
+    @Test
+    @Tag("benchmark")
+    void 대량_데이터_조회_시간_측정() {
+        int foodCount = 100_000;
+        List<Food> foods = randomFoods(foodCount);
+        FoodSimilarityIndex index = new FoodSimilarityIndex();
+        index.rebuild(foods);
+        double[] scale = scale(foods);
+        double[][] points = normalizeAll(foods, scale);
+
+        List<Food> bases = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            bases.add(foods.get(random.nextInt(foods.size())));
+        }
+        Predicate<Food> all = food -> true;
+        for (Food base : bases) {
+            assertThat(distances(index.nearest(base, K, all), scale, base))
+                    .containsExactlyElementsOf(distances(bruteForce(foods, points, scale, base, all), scale, base));
+        }
+
+        for (int round = 0; round < 3; round++) { // JIT 예열
+            bases.forEach(base -> index.nearest(base, K, all));
+            bases.forEach(base -> bruteForce(foods, points, scale, base, all));
+        }
+        long treeNanos = measure(() -> bases.forEach(base -> index.nearest(base, K, all)));
+        long scanNanos = measure(() -> bases.forEach(base -> bruteForce(foods, points, scale, base, all)));
+        log.info("유사 음식 kNN ({}건, k={}, 조회 {}회): KD-트리 {}ms/회, 전수 비교 {}ms/회", foodCount, K, QUERY_COUNT,
+                String.format("%.3f", treeNanos / 1e6 / QUERY_COUNT), String.format("%.3f", scanNanos / 1e6 / QUERY_COUNT));
+    }
+
+    @Test
+    void 변경분이_쌓인_상태의_조회도_전수_비교와_같은_결과() {
+        List<Food> foods = randomFoods(20_000);
+        FoodSimilarityIndex index = new FoodSimilarityIndex();
+        index.rebuild(foods);
+        double[] scale = scale(foods); // 재구성 전까지는 처음 계산한 정규화 계수를 유지
+
+        for (int i = 0; i < 500; i++) { // 재구성 기준(전체의 5%) 미만
+            int position = random.nextInt(foods.size());
+            Long foodId = foods.get(position).getFoodId();
+            if (random.nextBoolean()) {
+                Food changed = randomFood(foodId);
+                foods.set(position, changed);
+                index.upsert(changed, foods);
+            } else {
+                foods.remove(position);
+                index.remove(foodId, foods);
+            }
+        }
+
+        double[][] points = normalizeAll(foods, scale);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Food base = foods.get(random.nextInt(foods.size()));
+            for (Predicate<Food> filter : filters(base)) {
+                assertThat(distances(index.nearest(base, K, filter), scale, base)).as("food_id=" + base.getFoodId())
+                        .containsExactlyElementsOf(distances(bruteForce(foods, points, scale, base, filter), scale, base));
+            }
+        }
+    }
+
+    private static List<Predicate<Food>> filters(Food base) {
+        return List.of(
+                food -> true,
+                food -> base.getCategory().equals(food.getCategory()),
+                food -> Nutrient.SUGAR.valueOf(food) < Nutrient.SUGAR.valueOf(base));
+    }
+
+    // 정규화 벡터(points)와 모두 비교해 가까운 k개만 유지
+    private static List<Food> bruteForce(List<Food> foods, double[][] points, double[] scale, Food base, Predicate<Food> filter) {
+        double[] query = normalize(base, scale);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(K + 1,
+                Comparator.comparingDouble((Integer i) -> squaredDistance(query, points[i])).reversed());
+        for (int i = 0; i < foods.size(); i++) {
+            Food food = foods.get(i);
+            if (food.getFoodId().equals(base.getFoodId()) || !filter.test(food)) {
+                continue;
+            }
+            heap.add(i);
+            if (heap.size() > K) {
+                heap.poll();
+            }
+        }
+        List<Food> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(foods.get(heap.poll()));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static List<Double> distances(List<Food> result, double[] scale, Food base) {
+        double[] query = normalize(base, scale);
+        return result.stream().map(food -> squaredDistance(query, normalize(food, scale))).toList();
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int d = 0; d < a.length; d++) {
+            double diff = a[d] - b[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static double[] normalize(Food food, double[] scale) {
+        double[] vector = new double[scale.length];
+        for (Nutrient nutrient : Nutrient.values()) {
+            vector[nutrient.ordinal()] = nutrient.valueOf(food) * scale[nutrient.ordinal()];
+        }
+        return vector;
+    }
+
+    private static double[][] normalizeAll(List<Food> foods, double[] scale) {
+        double[][] points = new double[foods.size()][];
+        for (int i = 0; i < foods.size(); i++) {
+            points[i] = normalize(foods.get(i), scale);
+        }
+        return points;
+    }
+
+    // FoodSimilarityIndex와 같은 방식의 차원별 정규화 계수 (1 / 표준편차)
+    private static double[] scale(List<Food> foods) {
+        double[] scale = new double[Nutrient.values().length];
+        for (Nutrient nutrient : Nutrient.values()) {
+            double sum = 0;
+            double sumSq = 0;
+            for (Food food : foods) {
+                double v = nutrient.valueOf(food);
+                sum += v;
+                sumSq += v * v;
+            }
+            double variance = sumSq / foods.size() - Math.pow(sum / foods.size(), 2);
+            scale[nutrient.ordinal()] = variance > 1e-9 ? 1 / Math.sqrt(variance) : 1;
+        }
+        return scale;
+    }
+
+    private static long measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    private List<Food> randomFoods(int count) {
+        List<Food> foods = new ArrayList<>(count);
+        for (long foodId = 1; foodId <= count; foodId++) {
+            foods.add(randomFood(foodId));
+        }
+        return foods;
+    }
+
+    private Food randomFood(Long foodId) {
+        return Food.builder()
+                .foodId(foodId)
+                .name("음식" + foodId)
+                .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                .calories(value(900))
+                .carbs(value(100))
+                .sugar(value(60))
+                .protein(value(80))
+                .fat(value(70))
+                .build();
+    }
+
+    private BigDecimal value(double max) {
+        return BigDecimal.valueOf(random.nextDouble() * max).setScale(2, RoundingMode.HALF_UP);
+    }
+}
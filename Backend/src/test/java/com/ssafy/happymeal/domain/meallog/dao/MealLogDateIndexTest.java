@@ -0,0 +1,157 @@
+package com.ssafy.happymeal.domain.meallog.dao;
+
+import com.ssafy.happymeal.domain.meallog.dto.MealLogResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 조회와 이력 키셋 조회가 (user_id, meal_date, log_id) 인덱스를 타는지, 읽는 행 수가 전체 기록 수와 무관한지 실제 MySQL로 확인
+ * - DB_url 환경 변수가 있을 때만 실행되며, 넣은 데이터는 테스트 트랜잭션과 함께 롤백됩니다.
+ * - 다른 사용자 기록을 늘려 가며 조회 시간을 출력합니다 (같은 시드로 반복 측정 가능).
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "DB_url", matches = ".+")
+class MealLogDateIndexTest {
+
+    private static final String DATE_INDEX = "idx_meallog_user_date_log";
+    private static final int DAYS = 60;
+    private static final int LOGS_PER_DAY = 3;
+    private static final int QUERY_COUNT = 200;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private MealLogDAO mealLogDAO;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(42);
+    private long foodId;
+    private long targetUserId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("Insert into Food(name, calories) values ('인덱스 측정용 음식', 100)");
+        foodId = jdbcTemplate.queryForObject("Select LAST_INSERT_ID()", Long.class);
+        targetUserId = insertUsers(1).get(0);
+    }
+
+    @Test
+    void 일별_조회와_이력_조회는_날짜_인덱스를_사용() {
+        insertLogs(List.of(targetUserId));
+        insertLogs(insertUsers(50));
+
+        Map<String, Object> daily = explain("Select log_id From MealLog Where user_id = ? AND meal_date = ?",
+                targetUserId, Date.valueOf(START_DATE.plusDays(10)));
+        assertThat(daily.get("key")).isEqualTo(DATE_INDEX);
+        assertThat(((Number) daily.get("rows")).longValue()).isLessThanOrEqualTo(LOGS_PER_DAY * 2L);
+
+        Map<String, Object> history = explain("Select log_id From MealLog Where user_id = ? " +
+                        "AND (meal_date < ? OR (meal_date = ? AND log_id < ?)) Order By meal_date DESC, log_id DESC LIMIT 20",
+                targetUserId, Date.valueOf(START_DATE.plusDays(30)), Date.valueOf(START_DATE.plusDays(30)), Long.MAX_VALUE);
+        assertThat(history.get("key")).isEqualTo(DATE_INDEX);
+        assertThat(String.valueOf(history.get("Extra"))).doesNotContain("filesort");
+    }
+
+    @Test
+    void 이력_키셋_페이지는_빠짐없이_최신순으로_이어짐() {
+        insertLogs(List.of(targetUserId));
+        insertLogs(insertUsers(20));
+
+        List<MealLogResponseDto> all = new ArrayList<>();
+        List<MealLogResponseDto> page = mealLogDAO.findHistory(targetUserId, null, null, null, null, 7);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            MealLogResponseDto last = page.get(page.size() - 1);
+            page = mealLogDAO.findHistory(targetUserId, null, null, last.getMealDate(), last.getLogId(), 7);
+        }
+
+        assertThat(all).hasSize(DAYS * LOGS_PER_DAY);
+        for (int i = 1; i < all.size(); i++) {
+            MealLogResponseDto prev = all.get(i - 1);
+            MealLogResponseDto cur = all.get(i);
+            assertThat(prev.getMealDate().isAfter(cur.getMealDate())
+                    || prev.getMealDate().equals(cur.getMealDate()) && prev.getLogId() > cur.getLogId()).isTrue();
+        }
+    }
+
+    @Test
+    void 다른_사용자_기록이_늘어도_조회_시간은_일정() {
+        insertLogs(List.of(targetUserId));
+        int otherUsers = 0;
+        for (int step : new int[]{0, 50, 200}) {
+            insertLogs(insertUsers(step - otherUsers));
+            otherUsers = step;
+
+            measure(); // 예열
+            double[] millis = measure();
+            long examined = ((Number) explain("Select log_id From MealLog Where user_id = ? AND meal_date = ?",
+                    targetUserId, Date.valueOf(START_DATE)).get("rows")).longValue();
+            System.out.printf("MealLog 조회 (다른 사용자 %d명, 전체 %d건): 일별 %.3fms/회, 이력 첫 페이지 %.3fms/회, 예상 읽기 행 %d%n",
+                    otherUsers, (otherUsers + 1) * DAYS * LOGS_PER_DAY, millis[0], millis[1], examined);
+            assertThat(examined).isLessThanOrEqualTo(LOGS_PER_DAY * 2L);
+        }
+    }
+
+    // {일별 조회 평균(ms), 이력 첫 페이지 평균(ms)}
+    private double[] measure() {
+        long dailyNanos = 0;
+        long historyNanos = 0;
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            LocalDate date = START_DATE.plusDays(random.nextInt(DAYS));
+            long start = System.nanoTime();
+            assertThat(mealLogDAO.findByUserAndDate(targetUserId, date)).hasSize(LOGS_PER_DAY);
+            dailyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            assertThat(mealLogDAO.findHistory(targetUserId, null, date, null, null, 20)).isNotEmpty();
+            historyNanos += System.nanoTime() - start;
+        }
+        return new double[]{dailyNanos / 1e6 / QUERY_COUNT, historyNanos / 1e6 / QUERY_COUNT};
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+    }
+
+    private List<Long> insertUsers(int count) {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String googleId = "index-test-" + System.nanoTime() + "-" + i;
+            jdbcTemplate.update("Insert into User(google_id, nickname) values (?, ?)", googleId, "측정" + i);
+            userIds.add(jdbcTemplate.queryForObject("Select LAST_INSERT_ID()", Long.class));
+        }
+        return userIds;
+    }
+
+    // 사용자마다 DAYS일 x 하루 LOGS_PER_DAY건 (날짜 순서를 섞어 log_id 순서와 meal_date 순서가 다르게)
+    private void insertLogs(List<Long> userIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (int day = 0; day < DAYS; day++) {
+                for (int n = 0; n < LOGS_PER_DAY; n++) {
+                    rows.add(new Object[]{userId, foodId, Date.valueOf(START_DATE.plusDays((day * 7L) % DAYS)),
+                            userId * 1000 + day * LOGS_PER_DAY + n});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("Insert into MealLog(user_id, food_id, meal_date, meal_type, quantity, food_name, " +
+                "calories, carbs, sugar, protein, fat, change_seq) " +
+                "values (?, ?, ?, 'LUNCH', 100, '인덱스 측정용 음식', 100, 0, 0, 0, 0, ?)", rows);
+    }
+}